@@ -1,5 +1,6 @@
 package com.auth.jwt.auth.application;
 
+import com.auth.jwt.auth.application.dto.command.CreateTokenPairCommand;
 import com.auth.jwt.auth.application.dto.command.CredentialCommand;
 import com.auth.jwt.auth.application.dto.command.SaveRefreshCommand;
 import com.auth.jwt.auth.application.dto.command.TokenReissueCommand;
@@ -8,6 +9,7 @@ import com.auth.jwt.auth.application.dto.result.CreateTokenPairResult;
 import com.auth.jwt.auth.application.dto.result.TokenReissueResult;
 import com.auth.jwt.auth.application.exception.AuthenticationException;
 import com.auth.jwt.auth.application.model.RefreshToken;
+import com.auth.jwt.auth.application.model.TokenPair;
 import com.auth.jwt.auth.application.port.DateTimePort;
 import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
 import com.auth.jwt.auth.application.port.TokenIssuerPort;
@@ -35,11 +37,10 @@ public class AuthenticationService {
 
   public AuthenticationResult getUserByCredentialInfo(CredentialCommand info) {
     try {
-      userQueryFacade.validateCredentials(info.username(), info.password());
+      User user = userQueryFacade.authenticate(info.username(), info.password());
 
-      User user = userQueryFacade.getByUsername(info.username());
-
-      return new AuthenticationResult(user.getId().getValue(), user.getRole().getAuthority());
+      return new AuthenticationResult(
+          user.getId().getValue(), user.getUsername().getValue(), user.getRole().getAuthority());
 
     } catch (BusinessException | NotFoundException e) {
       ExceptionDetail detail = e.getExceptionDetail();
@@ -52,17 +53,17 @@ public class AuthenticationService {
     }
   }
 
-  public CreateTokenPairResult createAuthenticationToken(Long userId) {
-    try {
-      User user = userQueryFacade.getById(userId);
-      Long id = user.getId().getValue();
-      String username = user.getUsername().getValue();
-      String authority = user.getRole().getAuthority();
+  /** 로그인 직후처럼 사용자 정보를 이미 확인한 경우 조회 없이 토큰을 발급한다. */
+  public CreateTokenPairResult createAuthenticationToken(CreateTokenPairCommand command) {
+    TokenPair tokenPair =
+        tokenIssuerPort.generateTokenPair(command.userId(), command.username(), command.role());
 
-      String accessToken = tokenIssuerPort.generateAccessToken(id, username, authority);
-      String refreshToken = tokenIssuerPort.generateRefreshToken(id, username);
+    return new CreateTokenPairResult(tokenPair.accessToken(), tokenPair.refreshToken());
+  }
 
-      return new CreateTokenPairResult(accessToken, refreshToken);
+  public CreateTokenPairResult createAuthenticationToken(Long userId) {
+    try {
+      return issueTokenPair(userQueryFacade.getById(userId));
     } catch (NotFoundException e) {
       ExceptionDetail detail = e.getExceptionDetail();
       log.info(
@@ -71,9 +72,8 @@ public class AuthenticationService {
     }
   }
 
+  // 다른 기기의 세션은 유지한다. 사용자당 세션 수 상한은 저장소가 관리한다.
   public void saveRefreshToken(SaveRefreshCommand command) {
-    refreshTokenRepository.deleteByUserId(command.userId());
-
     LocalDateTime expiry = dateTimePort.getCurrentDateTime().plusDays(30);
     RefreshToken refreshToken =
         RefreshToken.create(command.refreshToken(), command.userId(), expiry);
@@ -84,6 +84,10 @@ public class AuthenticationService {
   public TokenReissueResult reIssueTokenPair(TokenReissueCommand command) {
     String refreshToken = command.refreshToken();
 
+    if (isOpaqueToken(refreshToken)) {
+      return reIssueWithOpaqueToken(refreshToken);
+    }
+
     if (!tokenValidationPort.validateRefreshToken(refreshToken)) {
       return TokenReissueResult.fail("INVALID_REFRESH_TOKEN", "유효하지 않은 리프레시 토큰입니다.");
     }
@@ -93,20 +97,60 @@ public class AuthenticationService {
       return TokenReissueResult.fail("INVALID_TOKEN_PAYLOAD", "토큰에서 사용자 정보를 찾을 수 없습니다.");
     }
 
-    if (!isStoredTokenValid(refreshToken)) {
+    if (findStoredToken(refreshToken).isEmpty()) {
+      return TokenReissueResult.fail("INVALID_REFRESH_TOKEN", "등록되지 않은 리프레시 토큰입니다.");
+    }
+
+    return reIssueForUser(userId, refreshToken);
+  }
+
+  // 불투명 리프레시 토큰은 서명과 클레임이 없으므로 저장소 조회와 만료 확인만으로 검증한다.
+  private TokenReissueResult reIssueWithOpaqueToken(String refreshToken) {
+    Optional<RefreshToken> storedToken = findStoredToken(refreshToken);
+    if (storedToken.isEmpty()) {
       return TokenReissueResult.fail("INVALID_REFRESH_TOKEN", "등록되지 않은 리프레시 토큰입니다.");
     }
 
-    if (!userQueryFacade.existsById(userId)) {
+    return reIssueForUser(storedToken.get().userId(), refreshToken);
+  }
+
+  // 사용한 리프레시 토큰만 새 토큰으로 교체한다. 같은 토큰으로 동시에 재발급하면 한 요청만 성공한다.
+  // 존재 확인과 토큰 발급에 필요한 사용자 정보를 한 번의 조회로 얻는다.
+  private TokenReissueResult reIssueForUser(Long userId, String usedRefreshToken) {
+    User user;
+    try {
+      user = userQueryFacade.getById(userId);
+    } catch (NotFoundException e) {
       return TokenReissueResult.fail("USER_NOT_FOUND", "사용자를 찾을 수 없습니다.");
     }
 
-    CreateTokenPairResult newTokenPair = createAuthenticationToken(userId);
-    saveRefreshToken(new SaveRefreshCommand(userId, newTokenPair.refreshToken()));
+    CreateTokenPairResult newTokenPair = issueTokenPair(user);
+    LocalDateTime expiry = dateTimePort.getCurrentDateTime().plusDays(30);
+    RefreshToken newRefreshToken =
+        RefreshToken.create(newTokenPair.refreshToken(), userId, expiry);
+
+    if (!refreshTokenRepository.replaceForUser(userId, usedRefreshToken, newRefreshToken)) {
+      return TokenReissueResult.fail("INVALID_REFRESH_TOKEN", "이미 사용된 리프레시 토큰입니다.");
+    }
 
     return TokenReissueResult.success(userId, newTokenPair);
   }
 
+  private CreateTokenPairResult issueTokenPair(User user) {
+    Long id = user.getId().getValue();
+    String username = user.getUsername().getValue();
+    String authority = user.getRole().getAuthority();
+
+    TokenPair tokenPair = tokenIssuerPort.generateTokenPair(id, username, authority);
+
+    return new CreateTokenPairResult(tokenPair.accessToken(), tokenPair.refreshToken());
+  }
+
+  // JWT 는 '.' 으로 구분된 세 부분으로 이루어지고, 불투명 토큰은 구분자가 없다.
+  private boolean isOpaqueToken(String token) {
+    return token != null && token.indexOf('.') < 0;
+  }
+
   private Long extractUserId(String token) {
     try {
       String userIdStr = tokenValidationPort.getUserIdFromToken(token);
@@ -116,19 +160,19 @@ public class AuthenticationService {
     }
   }
 
-  private boolean isStoredTokenValid(String refreshToken) {
+  private Optional<RefreshToken> findStoredToken(String refreshToken) {
     Optional<RefreshToken> storedToken = refreshTokenRepository.findByTokenValue(refreshToken);
 
     if (storedToken.isEmpty()) {
-      return false;
+      return Optional.empty();
     }
 
     LocalDateTime currentTime = dateTimePort.getCurrentDateTime();
     if (storedToken.get().isExpired(currentTime)) {
       refreshTokenRepository.deleteByTokenValue(refreshToken);
-      return false;
+      return Optional.empty();
     }
 
-    return true;
+    return storedToken;
   }
 }
@@ -1,7 +1,7 @@
 package com.auth.jwt.auth.application;
 
 import com.auth.jwt.auth.application.dto.result.TokenValidationResult;
-import com.auth.jwt.auth.application.exception.TokenExpiredException;
+import com.auth.jwt.auth.application.model.VerifiedToken;
 import com.auth.jwt.auth.application.port.TokenValidationPort;
 import com.auth.jwt.common.model.CustomPrincipal;
 import com.auth.jwt.common.percade.UserQueryFacade;
@@ -18,18 +18,21 @@ public class AuthorizationService {
   private final TokenValidationPort tokenValidationPort;
 
   public TokenValidationResult validateAccessToken(String token) {
-    try {
-      if (!tokenValidationPort.validateToken(token)) {
+    VerifiedToken verified = tokenValidationPort.verify(token);
+
+    switch (verified.status()) {
+      case EXPIRED -> {
+        log.info("만료된 토큰임");
+        return TokenValidationResult.fail("TOKEN_EXPIRED", "토큰이 만료되었습니다.");
+      }
+      case INVALID -> {
         log.info("유효하지 않은 토큰임");
         return TokenValidationResult.fail("INVALID_TOKEN", "유효하지 않은 토큰입니다.");
       }
-    } catch (TokenExpiredException e) {
-      log.info("만료된 토큰임");
-      return TokenValidationResult.fail(
-          e.getExceptionDetail().getCode(), e.getExceptionDetail().getMessage());
+      default -> {}
     }
 
-    Long userId = extractUserId(token);
+    Long userId = verified.userId();
     if (userId == null) {
       log.info("토큰에서 사용자 정보를 찾을 수 없음.");
       return TokenValidationResult.fail("INVALID_TOKEN", "유효하지 않은 토큰입니다.");
@@ -48,13 +51,4 @@ public class AuthorizationService {
 
     return new CustomPrincipal(user.getId().getValue(), user.getRole().getAuthority());
   }
-
-  private Long extractUserId(String token) {
-    try {
-      String userIdStr = tokenValidationPort.getUserIdFromToken(token);
-      return Long.valueOf(userIdStr);
-    } catch (NumberFormatException | NullPointerException e) {
-      return null;
-    }
-  }
 }
@@ -0,0 +1,4 @@
+package com.auth.jwt.auth.application.dto.command;
+
+/** 자격 증명을 확인하며 읽은 사용자 정보. 토큰을 발급할 때 사용자를 다시 조회하지 않는다. */
+public record CreateTokenPairCommand(Long userId, String username, String role) {}
@@ -1,3 +1,3 @@
 package com.auth.jwt.auth.application.dto.result;
 
-public record AuthenticationResult(Long id, String role) {}
+public record AuthenticationResult(Long id, String username, String role) {}
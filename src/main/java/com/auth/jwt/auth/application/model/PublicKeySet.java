@@ -0,0 +1,4 @@
+package com.auth.jwt.auth.application.model;
+
+/** 공개 검증 키 묶음(JWKS) 응답 본문, 그 본문에서 계산한 강한 ETag, 캐시 허용 시간(초). */
+public record PublicKeySet(String json, String etag, long maxAgeSeconds) {}
@@ -0,0 +1,3 @@
+package com.auth.jwt.auth.application.model;
+
+public record TokenPair(String accessToken, String refreshToken) {}
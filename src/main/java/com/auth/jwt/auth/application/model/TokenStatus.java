@@ -0,0 +1,8 @@
+package com.auth.jwt.auth.application.model;
+
+public enum TokenStatus {
+  VALID,
+  EXPIRED,
+  INVALID,
+  ;
+}
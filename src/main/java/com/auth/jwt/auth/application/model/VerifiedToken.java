@@ -0,0 +1,56 @@
+package com.auth.jwt.auth.application.model;
+
+import java.time.Instant;
+
+public record VerifiedToken(
+    TokenStatus status,
+    String subject,
+    String authority,
+    String username,
+    String type,
+    Instant expiresAt) {
+  private static final VerifiedToken EXPIRED =
+      new VerifiedToken(TokenStatus.EXPIRED, null, null, null, null, null);
+  private static final VerifiedToken INVALID =
+      new VerifiedToken(TokenStatus.INVALID, null, null, null, null, null);
+
+  public static VerifiedToken valid(
+      String subject, String authority, String username, String type, Instant expiresAt) {
+    return new VerifiedToken(TokenStatus.VALID, subject, authority, username, type, expiresAt);
+  }
+
+  public static VerifiedToken expired() {
+    return EXPIRED;
+  }
+
+  public static VerifiedToken invalid() {
+    return INVALID;
+  }
+
+  public boolean isValid() {
+    return status == TokenStatus.VALID;
+  }
+
+  public boolean isExpired() {
+    return status == TokenStatus.EXPIRED;
+  }
+
+  public boolean isAccessToken() {
+    return isValid() && "access".equals(type);
+  }
+
+  public boolean isRefreshToken() {
+    return isValid() && "refresh".equals(type);
+  }
+
+  public Long userId() {
+    if (subject == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(subject);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
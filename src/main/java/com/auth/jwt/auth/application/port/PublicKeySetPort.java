@@ -0,0 +1,7 @@
+package com.auth.jwt.auth.application.port;
+
+import com.auth.jwt.auth.application.model.PublicKeySet;
+
+public interface PublicKeySetPort {
+  PublicKeySet getPublicKeySet();
+}
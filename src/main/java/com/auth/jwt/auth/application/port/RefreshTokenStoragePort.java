@@ -8,7 +8,23 @@ public interface RefreshTokenStoragePort {
 
   Optional<RefreshToken> findByTokenValue(String tokenValue);
 
+  /** 사용자의 모든 세션을 제거한다. */
   void deleteByUserId(Long userId);
 
   void deleteByTokenValue(String tokenValue);
+
+  /**
+   * 사용자의 oldTokenValue 세션을 newToken 으로 원자적으로 교체한다. oldTokenValue 가 없거나(이미 사용됨) 다른 사용자의
+   * 세션이면 교체하지 않고 false 를 반환한다.
+   */
+  boolean replaceForUser(Long userId, String oldTokenValue, RefreshToken newToken);
+
+  /** 사용자의 세션(기기) 수. */
+  int countByUserId(Long userId);
+
+  /** 만료되어 제거되지 않은 리프레시 토큰 수. */
+  long countActiveSessions();
+
+  /** 만료 시각이 지난 토큰을 제거하고 제거한 수를 반환한다. */
+  int evictExpired();
 }
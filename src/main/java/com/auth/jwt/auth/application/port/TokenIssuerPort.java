@@ -1,11 +1,15 @@
 package com.auth.jwt.auth.application.port;
 
+import com.auth.jwt.auth.application.model.TokenPair;
+
 public interface TokenIssuerPort {
   String generateAccessToken(Long userId, String username, String authority);
 
   String generateRefreshToken(Long userId, String username);
 
-  boolean validateToken(String token);
-
-  String getUserIdFromToken(String token);
+  /** 같은 발급 시각과 사용자 정보로 액세스 토큰과 리프레시 토큰을 함께 발급한다. */
+  default TokenPair generateTokenPair(Long userId, String username, String authority) {
+    return new TokenPair(
+        generateAccessToken(userId, username, authority), generateRefreshToken(userId, username));
+  }
 }
@@ -1,9 +1,29 @@
 package com.auth.jwt.auth.application.port;
 
+import com.auth.jwt.auth.application.exception.TokenExpiredException;
+import com.auth.jwt.auth.application.model.VerifiedToken;
+
 public interface TokenValidationPort {
-  boolean validateToken(String token);
+  VerifiedToken verify(String token);
+
+  default boolean validateToken(String token) {
+    VerifiedToken verified = verify(token);
+    if (verified.isExpired()) {
+      throw new TokenExpiredException();
+    }
+    return verified.isValid();
+  }
 
-  String getUserIdFromToken(String token);
+  default String getUserIdFromToken(String token) {
+    VerifiedToken verified = verify(token);
+    return verified.isValid() ? verified.subject() : null;
+  }
 
-  boolean validateRefreshToken(String refreshToken);
+  default boolean validateRefreshToken(String refreshToken) {
+    VerifiedToken verified = verify(refreshToken);
+    if (verified.isExpired()) {
+      throw new TokenExpiredException();
+    }
+    return verified.isRefreshToken();
+  }
 }
@@ -1,5 +1,7 @@
 package com.auth.jwt.auth.infrastructure.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +13,87 @@ public class JwtProperties {
   private String secretKey;
   private long accessTokenExpiration;
   private long refreshTokenExpiration;
+  private RefreshTokenMode refreshTokenMode = RefreshTokenMode.JWT;
+  private RefreshTokenStore refreshTokenStore = new RefreshTokenStore();
   private String issuer;
   private String audience;
+  private String activeKid;
+  private List<Key> keys = new ArrayList<>();
+  private Generator generator = Generator.JJWT;
+  private Verifier verifier = Verifier.JJWT;
+  private Claims claims = new Claims();
+  private Cache cache = new Cache();
+  private Jwks jwks = new Jwks();
+
+  public enum RefreshTokenMode {
+    JWT,
+    OPAQUE,
+  }
+
+  public enum Generator {
+    JJWT,
+    TEMPLATE,
+  }
+
+  public enum Verifier {
+    JJWT,
+    FAST,
+  }
+
+  public enum KeyAlgorithm {
+    HMAC,
+    ES256,
+    EDDSA,
+  }
+
+  @Data
+  public static class RefreshTokenStore {
+    private Type type = Type.MEMORY;
+    // 만료 토큰 정리 주기이자 만료 시각을 묶는 틱 간격(ms)
+    private long sweepInterval = 60_000;
+    // 사용자당 동시 세션(기기) 수. 넘으면 가장 오래된 세션부터 제거한다.
+    private int maxSessionsPerUser = 5;
+    // MAPPED: 저장소 파일 경로와 초기 슬롯 수(2의 거듭제곱으로 올림)
+    private String path = "data/refresh-tokens.db";
+    private int capacity = 1 << 20;
+
+    public enum Type {
+      MEMORY,
+      MAPPED,
+    }
+  }
+
+  @Data
+  public static class Key {
+    private String kid;
+    private KeyAlgorithm algorithm = KeyAlgorithm.HMAC;
+    private String secretKey;
+    // ES256, EDDSA: Base64(또는 PEM) 인코딩된 PKCS#8 개인키와 X.509 공개키
+    private String privateKey;
+    private String publicKey;
+  }
+
+  @Data
+  public static class Claims {
+    private Profile profile = Profile.STANDARD;
+    // COMPACT 프로필에서 username(u) 클레임을 기록할지 여부
+    private boolean includeUsername = true;
+
+    public enum Profile {
+      STANDARD,
+      COMPACT,
+    }
+  }
+
+  @Data
+  public static class Cache {
+    private boolean enabled = false;
+    private int maximumSize = 10_000;
+    private long ttl = 60_000;
+  }
+
+  @Data
+  public static class Jwks {
+    private long maxAge = 600;
+  }
 }
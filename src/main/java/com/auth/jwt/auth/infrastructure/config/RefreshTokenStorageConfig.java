@@ -0,0 +1,32 @@
+package com.auth.jwt.auth.infrastructure.config;
+
+import com.auth.jwt.auth.application.port.DateTimePort;
+import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
+import com.auth.jwt.auth.infrastructure.persistence.InMemoryRefreshTokenStorageAdapter;
+import com.auth.jwt.auth.infrastructure.persistence.MappedRefreshTokenStorageAdapter;
+import java.nio.file.Path;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class RefreshTokenStorageConfig {
+
+  @Bean
+  @Primary
+  public RefreshTokenStoragePort refreshTokenStoragePort(
+      InMemoryRefreshTokenStorageAdapter inMemoryRefreshTokenStorageAdapter,
+      JwtProperties jwtProperties,
+      DateTimePort dateTimePort) {
+    JwtProperties.RefreshTokenStore store = jwtProperties.getRefreshTokenStore();
+    if (store.getType() != JwtProperties.RefreshTokenStore.Type.MAPPED) {
+      return inMemoryRefreshTokenStorageAdapter;
+    }
+
+    return new MappedRefreshTokenStorageAdapter(
+        Path.of(store.getPath()),
+        store.getCapacity(),
+        store.getMaxSessionsPerUser(),
+        dateTimePort);
+  }
+}
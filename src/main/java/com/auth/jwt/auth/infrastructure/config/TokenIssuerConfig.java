@@ -0,0 +1,52 @@
+package com.auth.jwt.auth.infrastructure.config;
+
+import com.auth.jwt.auth.application.port.TokenIssuerPort;
+import com.auth.jwt.auth.infrastructure.jwt.JwtKeyRing;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import com.auth.jwt.auth.infrastructure.jwt.OpaqueRefreshTokenIssuerAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.TemplateTokenIssuerAdapter;
+import java.time.Clock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Slf4j
+@Configuration
+public class TokenIssuerConfig {
+
+  @Bean
+  @Primary
+  public TokenIssuerPort tokenIssuerPort(
+      JwtTokenIssuerPort jwtTokenIssuerPort, JwtProperties jwtProperties, Clock clock) {
+    TokenIssuerPort issuer = selectGenerator(jwtTokenIssuerPort, jwtProperties, clock);
+
+    if (jwtProperties.getRefreshTokenMode() != JwtProperties.RefreshTokenMode.OPAQUE) {
+      return issuer;
+    }
+
+    log.info("불투명 리프레시 토큰 사용");
+    return new OpaqueRefreshTokenIssuerAdapter(issuer);
+  }
+
+  private TokenIssuerPort selectGenerator(
+      JwtTokenIssuerPort jwtTokenIssuerPort, JwtProperties jwtProperties, Clock clock) {
+    if (jwtProperties.getGenerator() != JwtProperties.Generator.TEMPLATE) {
+      return jwtTokenIssuerPort;
+    }
+
+    if (jwtProperties.getClaims().getProfile() != JwtProperties.Claims.Profile.STANDARD) {
+      log.warn("템플릿 발급기는 표준 클레임 프로필만 지원합니다. jjwt 발급기를 사용합니다.");
+      return jwtTokenIssuerPort;
+    }
+
+    JwtKeyRing keyRing = jwtTokenIssuerPort.keyRing();
+    if (!keyRing.active().isHmac()) {
+      log.warn("템플릿 발급기는 HMAC 키만 지원합니다. jjwt 발급기를 사용합니다.");
+      return jwtTokenIssuerPort;
+    }
+
+    log.info("템플릿 기반 토큰 발급기 사용");
+    return new TemplateTokenIssuerAdapter(keyRing, jwtProperties, clock, jwtTokenIssuerPort);
+  }
+}
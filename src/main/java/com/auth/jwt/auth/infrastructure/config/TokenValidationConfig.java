@@ -0,0 +1,44 @@
+package com.auth.jwt.auth.infrastructure.config;
+
+import com.auth.jwt.auth.application.port.TokenValidationPort;
+import com.auth.jwt.auth.infrastructure.jwt.CachingTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.FastHmacTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import java.time.Clock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Slf4j
+@Configuration
+public class TokenValidationConfig {
+
+  @Bean
+  @Primary
+  public TokenValidationPort tokenValidationPort(
+      JwtTokenIssuerPort jwtTokenIssuerPort, JwtProperties jwtProperties, Clock clock) {
+    TokenValidationPort validator = selectVerifier(jwtTokenIssuerPort, jwtProperties, clock);
+
+    JwtProperties.Cache cache = jwtProperties.getCache();
+    if (!cache.isEnabled()) {
+      return validator;
+    }
+
+    log.info("검증 토큰 캐시 사용 - 최대 크기: {}, TTL: {}ms", cache.getMaximumSize(), cache.getTtl());
+    // 빈 인스턴스가 MeterBinder 이므로 MeterRegistry 가 있으면 캐시 지표가 함께 등록된다.
+    return new CachingTokenValidationAdapter(
+        validator, cache.getMaximumSize(), cache.getTtl(), clock);
+  }
+
+  private TokenValidationPort selectVerifier(
+      JwtTokenIssuerPort jwtTokenIssuerPort, JwtProperties jwtProperties, Clock clock) {
+    if (jwtProperties.getVerifier() != JwtProperties.Verifier.FAST) {
+      return jwtTokenIssuerPort;
+    }
+
+    log.info("고정 클레임 HMAC 검증기 사용");
+    return new FastHmacTokenValidationAdapter(
+        jwtTokenIssuerPort.keyRing(), clock, jwtTokenIssuerPort);
+  }
+}
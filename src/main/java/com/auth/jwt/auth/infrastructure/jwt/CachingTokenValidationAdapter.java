@@ -0,0 +1,153 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.application.port.TokenValidationPort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증에 성공한 토큰을 SHA-256 다이제스트 기준으로 보관하는 고정 크기 캐시.
+ *
+ * <p>슬롯 배열은 direct-mapped 구조로, 같은 슬롯에 다른 토큰이 들어오면 기존 항목을 덮어쓴다(eviction).
+ * 항목은 토큰의 exp 와 설정된 TTL 중 더 이른 시각에 만료된다.
+ *
+ * <p>적중, 미스, eviction 횟수와 크기는 {@code cache=token-validation} 태그를 단 {@code cache.*} 지표로 내보낸다.
+ */
+public class CachingTokenValidationAdapter implements TokenValidationPort, MeterBinder {
+  private static final String CACHE_NAME = "token-validation";
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(CachingTokenValidationAdapter::newSha256);
+
+  private final TokenValidationPort delegate;
+  private final AtomicReferenceArray<Entry> slots;
+  private final long ttl;
+  private final Clock clock;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public CachingTokenValidationAdapter(
+      TokenValidationPort delegate, int maximumSize, long ttl, Clock clock) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("캐시 최대 크기는 양수여야 합니다.");
+    }
+    this.delegate = delegate;
+    this.slots = new AtomicReferenceArray<>(maximumSize);
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  @Override
+  public VerifiedToken verify(String token) {
+    if (token == null || token.isEmpty()) {
+      return delegate.verify(token);
+    }
+
+    byte[] digest = digest(token);
+    int index = indexOf(digest);
+    Instant now = clock.instant();
+
+    Entry entry = slots.get(index);
+    if (entry != null && MessageDigest.isEqual(entry.digest, digest)) {
+      if (now.isBefore(entry.expiresAt)) {
+        hits.increment();
+        return entry.verified;
+      }
+      if (slots.compareAndSet(index, entry, null)) {
+        evictions.increment();
+      }
+    }
+
+    misses.increment();
+    VerifiedToken verified = delegate.verify(token);
+    if (verified.isValid()) {
+      store(index, new Entry(digest, verified, expiryOf(verified, now)));
+    }
+    return verified;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+        .tags("cache", CACHE_NAME, "result", "hit")
+        .description("캐시에서 찾은 검증 횟수")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+        .tags("cache", CACHE_NAME, "result", "miss")
+        .description("서명 검증까지 간 횟수")
+        .register(registry);
+    FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+        .tag("cache", CACHE_NAME)
+        .description("만료되거나 다른 토큰에 밀려난 항목 수")
+        .register(registry);
+    Gauge.builder("cache.size", this, CachingTokenValidationAdapter::size)
+        .tag("cache", CACHE_NAME)
+        .description("캐시에 든 항목 수")
+        .register(registry);
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+  }
+
+  private int size() {
+    int size = 0;
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  private void store(int index, Entry entry) {
+    Entry previous = slots.getAndSet(index, entry);
+    if (previous != null && !MessageDigest.isEqual(previous.digest, entry.digest)) {
+      evictions.increment();
+    }
+  }
+
+  private Instant expiryOf(VerifiedToken verified, Instant now) {
+    Instant ttlExpiry = now.plusMillis(ttl);
+    Instant tokenExpiry = verified.expiresAt();
+    if (tokenExpiry == null || ttlExpiry.isBefore(tokenExpiry)) {
+      return ttlExpiry;
+    }
+    return tokenExpiry;
+  }
+
+  private int indexOf(byte[] digest) {
+    int hash =
+        ((digest[0] & 0xFF) << 24)
+            | ((digest[1] & 0xFF) << 16)
+            | ((digest[2] & 0xFF) << 8)
+            | (digest[3] & 0xFF);
+    return Math.floorMod(hash, slots.length());
+  }
+
+  private static byte[] digest(String token) {
+    return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  private record Entry(byte[] digest, VerifiedToken verified, Instant expiresAt) {}
+
+  public record CacheStats(long hits, long misses, long evictions, int size) {}
+}
@@ -0,0 +1,51 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축 클레임 프로필의 클레임 이름과 코드표.
+ *
+ * <p>auth, username, type 대신 r, u, t 를 쓰고 권한과 토큰 종류는 정수 코드로 기록한다. 코드표에 없는 권한은 문자열
+ * 그대로 기록한다. 코드는 발급된 토큰과 호환되어야 하므로 기존 값의 순서를 바꾸지 않고 뒤에만 추가한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompactClaims {
+  static final String ROLE = "r";
+  static final String USERNAME = "u";
+  static final String TYPE = "t";
+
+  static final int ACCESS = 1;
+  static final int REFRESH = 2;
+
+  private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_ADMIN");
+
+  static Object encodeRole(String authority) {
+    int index = ROLES.indexOf(authority);
+    return index < 0 ? authority : index + 1;
+  }
+
+  static String decodeRole(Object value) {
+    if (value instanceof String authority) {
+      return authority;
+    }
+    if (value instanceof Integer code && code >= 1 && code <= ROLES.size()) {
+      return ROLES.get(code - 1);
+    }
+    return null;
+  }
+
+  static String decodeType(Integer code) {
+    if (code == null) {
+      return null;
+    }
+    if (code == ACCESS) {
+      return "access";
+    }
+    if (code == REFRESH) {
+      return "refresh";
+    }
+    return null;
+  }
+}
@@ -0,0 +1,454 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import static com.auth.jwt.auth.infrastructure.jwt.JwsSupport.ascii;
+import static com.auth.jwt.auth.infrastructure.jwt.JwsSupport.newMac;
+
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.application.port.TokenValidationPort;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 이 서비스가 발급하는 고정 클레임 구성(sub, auth, username, type, iat, exp 와 압축 프로필의 r, u, t)에 특화된
+ * HMAC 토큰 검증기.
+ *
+ * <p>헤더 세그먼트로 키를 찾고 페이로드와 서명은 인덱스로 분리해 디코딩하며, 키별로 미리 초기화한 스레드별 Mac 과
+ * 버퍼를 재사용한다. 알 수 없는 헤더나 클레임, 이스케이프 문자, 비 ASCII 값 등 예상하지 못한 형태를 만나면 jjwt
+ * 기반 검증기로 위임한다.
+ */
+public class FastHmacTokenValidationAdapter implements TokenValidationPort {
+  private static final int MAX_TOKEN_LENGTH = 8192;
+  private static final int MAX_HEADER_LENGTH = 256;
+  private static final byte[] DECODE_TABLE = decodeTable();
+
+  private static final byte[] SUB = ascii("sub");
+  private static final byte[] AUTH = ascii("auth");
+  private static final byte[] USERNAME = ascii("username");
+  private static final byte[] TYPE = ascii("type");
+  private static final byte[] IAT = ascii("iat");
+  private static final byte[] EXP = ascii("exp");
+  private static final byte[] COMPACT_ROLE = ascii(CompactClaims.ROLE);
+  private static final byte[] COMPACT_USERNAME = ascii(CompactClaims.USERNAME);
+  private static final byte[] COMPACT_TYPE = ascii(CompactClaims.TYPE);
+
+  private final TokenValidationPort fallback;
+  private final Clock clock;
+  private final String[] encodedHeaders;
+  private final int[] signatureLengths;
+  private final ThreadLocal<Scratch> scratch;
+  private final LongAdder fallbacks = new LongAdder();
+
+  public FastHmacTokenValidationAdapter(
+      JwtKeyRing keyRing, Clock clock, TokenValidationPort fallback) {
+    this.fallback = fallback;
+    this.clock = clock;
+
+    // 키마다 헤더(alg, kid)가 다르므로 인코딩된 헤더 세그먼트를 토큰 앞부분과 비교해 키 인덱스를 찾는다.
+    // 비대칭 키로 서명된 토큰은 헤더가 등록되지 않아 jjwt 검증기로 위임된다.
+    List<JwtKeyRing.SigningKey> keys =
+        keyRing.keys().stream().filter(JwtKeyRing.SigningKey::isHmac).toList();
+    SecretKeySpec[] keySpecs = new SecretKeySpec[keys.size()];
+    this.encodedHeaders = new String[keys.size()];
+    this.signatureLengths = new int[keys.size()];
+    int maxSignatureLength = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      JwtKeyRing.SigningKey key = keys.get(i);
+      keySpecs[i] = JwsSupport.keySpec(key.secretKey());
+      signatureLengths[i] = newMac(keySpecs[i]).getMacLength();
+      maxSignatureLength = Math.max(maxSignatureLength, signatureLengths[i]);
+      encodedHeaders[i] = JwsSupport.encodedHeader(key);
+    }
+
+    int signatureBufferLength = maxSignatureLength;
+    this.scratch = ThreadLocal.withInitial(() -> new Scratch(keySpecs, signatureBufferLength));
+  }
+
+  @Override
+  public VerifiedToken verify(String token) {
+    if (token == null || token.isEmpty()) {
+      return VerifiedToken.invalid();
+    }
+
+    VerifiedToken verified = verifyFast(token);
+    if (verified != null) {
+      return verified;
+    }
+
+    fallbacks.increment();
+    return fallback.verify(token);
+  }
+
+  public long fallbackCount() {
+    return fallbacks.sum();
+  }
+
+  // 빠른 경로로 판정할 수 없으면 null 을 반환한다.
+  private VerifiedToken verifyFast(String token) {
+    int length = token.length();
+    if (length > MAX_TOKEN_LENGTH) {
+      return null;
+    }
+
+    int firstDot = token.indexOf('.');
+    if (firstDot <= 0 || firstDot > MAX_HEADER_LENGTH) {
+      return null;
+    }
+    int keyIndex = keyIndex(token, firstDot);
+    if (keyIndex < 0) {
+      return null;
+    }
+    int secondDot = token.indexOf('.', firstDot + 1);
+    if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+      return null;
+    }
+
+    Scratch s = scratch.get();
+    int signatureLength = signatureLengths[keyIndex];
+
+    int payloadLength = decode(token, firstDot + 1, secondDot, s.payload);
+    int decodedSignatureLength = decode(token, secondDot + 1, length, s.signature);
+    if (payloadLength < 0 || decodedSignatureLength != signatureLength) {
+      return null;
+    }
+
+    for (int i = 0; i < secondDot; i++) {
+      s.signingInput[i] = (byte) token.charAt(i);
+    }
+    Mac mac = s.macs[keyIndex];
+    try {
+      mac.update(s.signingInput, 0, secondDot);
+      mac.doFinal(s.expected, 0);
+    } catch (GeneralSecurityException e) {
+      return null;
+    }
+    if (!constantTimeEquals(s.expected, s.signature, signatureLength)) {
+      return VerifiedToken.invalid();
+    }
+
+    ClaimParser claims = s.claims;
+    if (!claims.parse(s.payload, payloadLength) || !claims.hasExp) {
+      return null;
+    }
+
+    if (clock.millis() > claims.exp * 1000L) {
+      return VerifiedToken.expired();
+    }
+
+    Instant expiresAt = Instant.ofEpochSecond(claims.exp);
+    // jjwt 검증기와 같이 t 클레임이 있으면 압축 프로필로 해석한다.
+    if (claims.hasCompactType) {
+      return VerifiedToken.valid(
+          claims.sub,
+          CompactClaims.decodeRole(claims.compactRole),
+          claims.compactUsername,
+          CompactClaims.decodeType(claims.compactType),
+          expiresAt);
+    }
+    return VerifiedToken.valid(claims.sub, claims.auth, claims.username, claims.type, expiresAt);
+  }
+
+  // 헤더 세그먼트가 같은 키의 인덱스. 키는 교체 중인 몇 개뿐이므로 잘라 내지 않고 길이와 내용을 차례로 비교한다.
+  private int keyIndex(String token, int headerLength) {
+    for (int i = 0; i < encodedHeaders.length; i++) {
+      String header = encodedHeaders[i];
+      if (header.length() == headerLength && token.regionMatches(0, header, 0, headerLength)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // base64url(패딩 없음)을 out 에 디코딩하고 길이를 반환한다. 허용되지 않거나 정규형이 아닌 입력이면 -1.
+  private static int decode(String src, int from, int to, byte[] out) {
+    int length = to - from;
+    if (length % 4 == 1) {
+      return -1;
+    }
+    int outLength = length / 4 * 3 + Math.max(length % 4 - 1, 0);
+    if (outLength > out.length) {
+      return -1;
+    }
+
+    int o = 0;
+    int bits = 0;
+    int bitCount = 0;
+    for (int i = from; i < to; i++) {
+      char c = src.charAt(i);
+      int value = c < 128 ? DECODE_TABLE[c] : -1;
+      if (value < 0) {
+        return -1;
+      }
+      bits = (bits << 6) | value;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        out[o++] = (byte) (bits >> bitCount);
+      }
+    }
+    if ((bits & ((1 << bitCount) - 1)) != 0) {
+      return -1;
+    }
+    return o;
+  }
+
+  private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+    int result = 0;
+    for (int i = 0; i < length; i++) {
+      result |= a[i] ^ b[i];
+    }
+    return result == 0;
+  }
+
+  private static byte[] decodeTable() {
+    byte[] table = new byte[128];
+    Arrays.fill(table, (byte) -1);
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alphabet.length(); i++) {
+      table[alphabet.charAt(i)] = (byte) i;
+    }
+    return table;
+  }
+
+  private static final class Scratch {
+    private final Mac[] macs;
+    private final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+    private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+    private final byte[] signature;
+    private final byte[] expected;
+    private final ClaimParser claims = new ClaimParser();
+
+    private Scratch(SecretKeySpec[] keySpecs, int maxSignatureLength) {
+      this.macs = new Mac[keySpecs.length];
+      for (int i = 0; i < keySpecs.length; i++) {
+        macs[i] = newMac(keySpecs[i]);
+      }
+      // 길이가 다른 서명은 decode 단계에서 걸러지도록 한 바이트 여유를 둔다.
+      this.signature = new byte[maxSignatureLength + 1];
+      this.expected = new byte[maxSignatureLength];
+    }
+  }
+
+  // 평탄한 JSON 객체만 허용하는 최소 파서. 예상 밖의 입력이면 false 를 반환한다.
+  private static final class ClaimParser {
+    private static final int MAX_TIME_DIGITS = 12;
+    // 압축 프로필의 정수 코드는 int 범위 안의 작은 값만 빠른 경로에서 처리한다.
+    private static final int MAX_CODE_DIGITS = 9;
+
+    private byte[] buf;
+    private int pos;
+    private int end;
+    private long number;
+
+    private String sub;
+    private String auth;
+    private String username;
+    private String type;
+    private long exp;
+    private boolean hasExp;
+    private boolean hasIat;
+
+    private Object compactRole;
+    private String compactUsername;
+    private Integer compactType;
+    private boolean hasCompactType;
+
+    private boolean parse(byte[] buf, int length) {
+      this.buf = buf;
+      this.pos = 0;
+      this.end = length;
+      this.sub = null;
+      this.auth = null;
+      this.username = null;
+      this.type = null;
+      this.exp = 0;
+      this.hasExp = false;
+      this.hasIat = false;
+      this.compactRole = null;
+      this.compactUsername = null;
+      this.compactType = null;
+      this.hasCompactType = false;
+
+      skipWhitespace();
+      if (!consume('{')) {
+        return false;
+      }
+      skipWhitespace();
+      if (consume('}')) {
+        return atEnd();
+      }
+
+      while (true) {
+        if (!parseMember()) {
+          return false;
+        }
+        skipWhitespace();
+        if (consume(',')) {
+          skipWhitespace();
+          continue;
+        }
+        if (consume('}')) {
+          return atEnd();
+        }
+        return false;
+      }
+    }
+
+    private boolean parseMember() {
+      if (!consume('"')) {
+        return false;
+      }
+      int keyStart = pos;
+      int keyEnd = scanString();
+      if (keyEnd < 0) {
+        return false;
+      }
+      skipWhitespace();
+      if (!consume(':')) {
+        return false;
+      }
+      skipWhitespace();
+
+      if (keyEquals(keyStart, keyEnd, EXP)) {
+        if (hasExp || !parseLong(MAX_TIME_DIGITS)) {
+          return false;
+        }
+        hasExp = true;
+        exp = number;
+        return true;
+      }
+      if (keyEquals(keyStart, keyEnd, IAT)) {
+        if (hasIat) {
+          return false;
+        }
+        hasIat = true;
+        return parseLong(MAX_TIME_DIGITS);
+      }
+      if (keyEquals(keyStart, keyEnd, SUB)) {
+        return sub == null && (sub = parseString()) != null;
+      }
+      if (keyEquals(keyStart, keyEnd, AUTH)) {
+        return auth == null && (auth = parseString()) != null;
+      }
+      if (keyEquals(keyStart, keyEnd, USERNAME)) {
+        return username == null && (username = parseString()) != null;
+      }
+      if (keyEquals(keyStart, keyEnd, TYPE)) {
+        return type == null && (type = parseString()) != null;
+      }
+      if (keyEquals(keyStart, keyEnd, COMPACT_ROLE)) {
+        if (compactRole != null) {
+          return false;
+        }
+        if (pos < end && buf[pos] == '"') {
+          return (compactRole = parseString()) != null;
+        }
+        if (!parseLong(MAX_CODE_DIGITS)) {
+          return false;
+        }
+        compactRole = (int) number;
+        return true;
+      }
+      if (keyEquals(keyStart, keyEnd, COMPACT_USERNAME)) {
+        return compactUsername == null && (compactUsername = parseString()) != null;
+      }
+      if (keyEquals(keyStart, keyEnd, COMPACT_TYPE)) {
+        if (hasCompactType || !parseLong(MAX_CODE_DIGITS)) {
+          return false;
+        }
+        hasCompactType = true;
+        compactType = (int) number;
+        return true;
+      }
+      return false;
+    }
+
+    private String parseString() {
+      if (!consume('"')) {
+        return null;
+      }
+      int start = pos;
+      int stringEnd = scanString();
+      if (stringEnd < 0) {
+        return null;
+      }
+      return new String(buf, start, stringEnd - start, StandardCharsets.US_ASCII);
+    }
+
+    // 닫는 따옴표 위치를 반환하고 그 다음으로 이동한다. 이스케이프, 제어 문자, 비 ASCII 는 거부한다.
+    private int scanString() {
+      while (pos < end) {
+        byte b = buf[pos];
+        if (b == '"') {
+          return pos++;
+        }
+        if (b == '\\' || b < 0x20) {
+          return -1;
+        }
+        pos++;
+      }
+      return -1;
+    }
+
+    // 정수를 number 에 읽는다. 소수, 지수, 앞자리 0, maxDigits 를 넘는 값은 거부한다.
+    private boolean parseLong(int maxDigits) {
+      boolean negative = consume('-');
+      int digitStart = pos;
+      long value = 0;
+      while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+        value = value * 10 + (buf[pos] - '0');
+        pos++;
+      }
+      int digits = pos - digitStart;
+      if (digits == 0 || digits > maxDigits || (digits > 1 && buf[digitStart] == '0')) {
+        return false;
+      }
+      if (pos < end && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E')) {
+        return false;
+      }
+      number = negative ? -value : value;
+      return true;
+    }
+
+    private boolean keyEquals(int start, int keyEnd, byte[] key) {
+      if (keyEnd - start != key.length) {
+        return false;
+      }
+      for (int i = 0; i < key.length; i++) {
+        if (buf[start + i] != key[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void skipWhitespace() {
+      while (pos < end) {
+        byte b = buf[pos];
+        if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+          return;
+        }
+        pos++;
+      }
+    }
+
+    private boolean consume(char expected) {
+      if (pos < end && buf[pos] == expected) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private boolean atEnd() {
+      skipWhitespace();
+      return pos == end;
+    }
+  }
+}
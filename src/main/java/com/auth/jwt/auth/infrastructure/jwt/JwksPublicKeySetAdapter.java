@@ -0,0 +1,116 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import com.auth.jwt.auth.application.model.PublicKeySet;
+import com.auth.jwt.auth.application.port.PublicKeySetPort;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키 링의 비대칭 공개키를 JWKS(RFC 7517) 형식으로 제공한다. HMAC 키는 공개하지 않는다.
+ *
+ * <p>키 링은 시작 시 고정되므로 본문과 ETag 를 한 번만 만들어 두고 요청마다 그대로 반환한다.
+ */
+@Slf4j
+@Component
+public class JwksPublicKeySetAdapter implements PublicKeySetPort {
+  private static final int P256_COORDINATE_LENGTH = 32;
+  private static final int ED25519_KEY_LENGTH = 32;
+
+  private final PublicKeySet publicKeySet;
+
+  public JwksPublicKeySetAdapter(
+      JwtTokenIssuerPort jwtTokenIssuerPort,
+      JwtProperties jwtProperties,
+      ObjectMapper objectMapper) {
+    JwtKeyRing keyRing = jwtTokenIssuerPort.keyRing();
+    this.publicKeySet = build(keyRing, jwtProperties.getJwks().getMaxAge(), objectMapper);
+    log.info("JWKS 공개키 {}개 등록", countKeys(keyRing));
+  }
+
+  @Override
+  public PublicKeySet getPublicKeySet() {
+    return publicKeySet;
+  }
+
+  static PublicKeySet build(JwtKeyRing keyRing, long maxAgeSeconds, ObjectMapper objectMapper) {
+    List<Map<String, String>> jwks = new ArrayList<>();
+    for (JwtKeyRing.SigningKey key : keyRing.keys()) {
+      if (!key.isHmac()) {
+        jwks.add(toJwk(key));
+      }
+    }
+
+    try {
+      String json = objectMapper.writeValueAsString(Map.of("keys", jwks));
+      return new PublicKeySet(json, etagOf(json), maxAgeSeconds);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("JWKS 를 생성할 수 없습니다.", e);
+    }
+  }
+
+  private static Map<String, String> toJwk(JwtKeyRing.SigningKey key) {
+    Map<String, String> jwk = new LinkedHashMap<>();
+    if (key.algorithm() == JwtProperties.KeyAlgorithm.ES256) {
+      ECPublicKey publicKey = (ECPublicKey) key.verificationKey();
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("kid", key.kid());
+      jwk.put("use", "sig");
+      jwk.put("alg", "ES256");
+      jwk.put("x", base64Url(unsigned(publicKey.getW().getAffineX(), P256_COORDINATE_LENGTH)));
+      jwk.put("y", base64Url(unsigned(publicKey.getW().getAffineY(), P256_COORDINATE_LENGTH)));
+      return jwk;
+    }
+
+    // X.509 SubjectPublicKeyInfo 의 마지막 32바이트가 Ed25519 공개키 원문이다.
+    byte[] encoded = key.verificationKey().getEncoded();
+    byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+    jwk.put("kty", "OKP");
+    jwk.put("crv", "Ed25519");
+    jwk.put("kid", key.kid());
+    jwk.put("use", "sig");
+    jwk.put("alg", "EdDSA");
+    jwk.put("x", base64Url(raw));
+    return jwk;
+  }
+
+  private static byte[] unsigned(BigInteger value, int length) {
+    byte[] bytes = value.toByteArray();
+    byte[] out = new byte[length];
+    int copy = Math.min(bytes.length, length);
+    System.arraycopy(bytes, bytes.length - copy, out, length - copy, copy);
+    return out;
+  }
+
+  private static String etagOf(String json) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+      return "\"" + base64Url(digest) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  private static String base64Url(byte[] bytes) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  private static long countKeys(JwtKeyRing keyRing) {
+    return keyRing.keys().stream().filter(key -> !key.isHmac()).count();
+  }
+}
@@ -0,0 +1,42 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class JwsSupport {
+  // jjwt 가 만드는 헤더와 같은 바이트가 되도록 jjwt 로 한 번 발급해 헤더 세그먼트를 얻는다.
+  static String encodedHeader(JwtKeyRing.SigningKey signingKey) {
+    JwtBuilder builder = Jwts.builder().subject("header").signWith(signingKey.secretKey());
+    if (signingKey.kid() != null) {
+      builder.header().keyId(signingKey.kid());
+    }
+    String token = builder.compact();
+    return token.substring(0, token.indexOf('.'));
+  }
+
+  static SecretKeySpec keySpec(SecretKey key) {
+    return new SecretKeySpec(key.getEncoded(), key.getAlgorithm());
+  }
+
+  static Mac newMac(SecretKeySpec keySpec) {
+    try {
+      Mac mac = Mac.getInstance(keySpec.getAlgorithm());
+      mac.init(keySpec);
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+    }
+  }
+
+  static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,169 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+
+/**
+ * 서명 키 묶음. 발급에는 활성 키 하나를 사용하고, 검증은 토큰 헤더의 kid 로 키를 찾는다.
+ *
+ * <p>jwt.keys 가 비어 있으면 jwt.secretKey 하나를 kid 없이 사용한다(기존 동작). jwt.keys 를 설정한 뒤에도
+ * jwt.secretKey 가 남아 있으면 kid 가 없는 기존 토큰을 그 키로 계속 검증한다. ES256, EdDSA 키는 개인키로 서명하고
+ * 공개키로 검증하며, 공개키는 JWKS 로 공개된다.
+ */
+public class JwtKeyRing {
+  private final SigningKey active;
+  private final Key legacyKey;
+  private final Map<String, Key> keysByKid;
+  private final List<SigningKey> keys;
+
+  private JwtKeyRing(SigningKey active, SecretKey legacyKey, List<SigningKey> kidKeys) {
+    this.active = active;
+    this.legacyKey = legacyKey;
+
+    Map<String, Key> byKid = new HashMap<>();
+    List<SigningKey> all = new ArrayList<>();
+    if (legacyKey != null) {
+      all.add(new SigningKey(null, JwtProperties.KeyAlgorithm.HMAC, legacyKey, legacyKey));
+    }
+    for (SigningKey key : kidKeys) {
+      byKid.put(key.kid(), key.verificationKey());
+      all.add(key);
+    }
+    this.keysByKid = byKid;
+    this.keys = Collections.unmodifiableList(all);
+  }
+
+  public static JwtKeyRing from(JwtProperties jwtProperties) {
+    SecretKey legacyKey = decodeSecret(jwtProperties.getSecretKey());
+    List<JwtProperties.Key> configured = jwtProperties.getKeys();
+
+    if (configured == null || configured.isEmpty()) {
+      if (legacyKey == null) {
+        throw new IllegalStateException("jwt.secretKey 또는 jwt.keys 중 하나는 설정해야 합니다.");
+      }
+      SigningKey active =
+          new SigningKey(null, JwtProperties.KeyAlgorithm.HMAC, legacyKey, legacyKey);
+      return new JwtKeyRing(active, legacyKey, List.of());
+    }
+
+    Map<String, SigningKey> byKid = new HashMap<>();
+    List<SigningKey> kidKeys = new ArrayList<>();
+    for (JwtProperties.Key key : configured) {
+      String kid = key.getKid();
+      if (kid == null || kid.isBlank()) {
+        throw new IllegalStateException("jwt.keys 의 kid 는 비어있을 수 없습니다.");
+      }
+      SigningKey signingKey = toSigningKey(key);
+      if (byKid.putIfAbsent(kid, signingKey) != null) {
+        throw new IllegalStateException("중복된 kid 입니다. kid: " + kid);
+      }
+      kidKeys.add(signingKey);
+    }
+
+    SigningKey active = byKid.get(jwtProperties.getActiveKid());
+    if (active == null) {
+      throw new IllegalStateException(
+          "활성 서명 키를 찾을 수 없습니다. activeKid: " + jwtProperties.getActiveKid());
+    }
+    if (active.signingKey() == null) {
+      throw new IllegalStateException("활성 서명 키에 개인키가 없습니다. kid: " + active.kid());
+    }
+    return new JwtKeyRing(active, legacyKey, kidKeys);
+  }
+
+  public SigningKey active() {
+    return active;
+  }
+
+  /** kid 에 해당하는 검증 키를 반환한다. kid 가 없으면 기존 단일 키, 찾지 못하면 null. */
+  public Key find(String kid) {
+    return kid == null ? legacyKey : keysByKid.get(kid);
+  }
+
+  /** 검증에 사용할 수 있는 모든 키. kid 없는 기존 키가 있으면 맨 앞에 온다. */
+  public List<SigningKey> keys() {
+    return keys;
+  }
+
+  private static SigningKey toSigningKey(JwtProperties.Key key) {
+    String kid = key.getKid();
+    JwtProperties.KeyAlgorithm algorithm = key.getAlgorithm();
+
+    if (algorithm == JwtProperties.KeyAlgorithm.HMAC) {
+      SecretKey secretKey = decodeSecret(key.getSecretKey());
+      if (secretKey == null) {
+        throw new IllegalStateException("서명 키가 비어있습니다. kid: " + kid);
+      }
+      return new SigningKey(kid, algorithm, secretKey, secretKey);
+    }
+
+    if (key.getPublicKey() == null || key.getPublicKey().isBlank()) {
+      throw new IllegalStateException("공개키가 비어있습니다. kid: " + kid);
+    }
+    String keyFactoryAlgorithm = algorithm == JwtProperties.KeyAlgorithm.ES256 ? "EC" : "Ed25519";
+    try {
+      KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm);
+      PublicKey publicKey =
+          keyFactory.generatePublic(new X509EncodedKeySpec(decodeDer(key.getPublicKey())));
+      if (publicKey instanceof ECPublicKey ecPublicKey
+          && ecPublicKey.getParams().getCurve().getField().getFieldSize() != 256) {
+        throw new IllegalStateException("ES256 키는 P-256 곡선이어야 합니다. kid: " + kid);
+      }
+
+      // 개인키가 없는 키는 검증 전용이다(이전 키 보관용).
+      PrivateKey privateKey = null;
+      if (key.getPrivateKey() != null && !key.getPrivateKey().isBlank()) {
+        privateKey =
+            keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodeDer(key.getPrivateKey())));
+      }
+      return new SigningKey(kid, algorithm, privateKey, publicKey);
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalStateException("서명 키를 읽을 수 없습니다. kid: " + kid, e);
+    }
+  }
+
+  private static SecretKey decodeSecret(String secretKey) {
+    if (secretKey == null || secretKey.isBlank()) {
+      return null;
+    }
+    return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+  }
+
+  // PEM 헤더와 공백을 제거하고 Base64 DER 로 디코딩한다.
+  private static byte[] decodeDer(String encoded) {
+    String base64 = encoded.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+    return Base64.getDecoder().decode(base64);
+  }
+
+  /**
+   * kid 와 서명/검증 키. HMAC 은 두 키가 같고, 비대칭 키는 개인키로 서명하고 공개키로 검증한다. 검증 전용 키는
+   * signingKey 가 null 이다.
+   */
+  public record SigningKey(
+      String kid, JwtProperties.KeyAlgorithm algorithm, Key signingKey, Key verificationKey) {
+
+    public boolean isHmac() {
+      return algorithm == JwtProperties.KeyAlgorithm.HMAC;
+    }
+
+    public SecretKey secretKey() {
+      return (SecretKey) verificationKey;
+    }
+  }
+}
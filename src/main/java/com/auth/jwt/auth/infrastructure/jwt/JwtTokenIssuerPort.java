@@ -1,108 +1,153 @@
 package com.auth.jwt.auth.infrastructure.jwt;
 
-import com.auth.jwt.auth.application.exception.TokenExpiredException;
+import com.auth.jwt.auth.application.model.TokenPair;
+import com.auth.jwt.auth.application.model.VerifiedToken;
 import com.auth.jwt.auth.application.port.TokenIssuerPort;
 import com.auth.jwt.auth.application.port.TokenValidationPort;
 import com.auth.jwt.auth.infrastructure.config.JwtProperties;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
-import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class JwtTokenIssuerPort implements TokenIssuerPort, TokenValidationPort {
-  private final SecretKey key;
+  private final JwtKeyRing keyRing;
   private final long accessTokenExpiration;
   private final JwtProperties jwtProperties;
+  private final JwtParser parser;
+  private final Clock clock;
 
-  public JwtTokenIssuerPort(JwtProperties jwtProperties) {
+  public JwtTokenIssuerPort(JwtProperties jwtProperties, Clock clock) {
     this.jwtProperties = jwtProperties;
-    byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecretKey());
-    this.key = Keys.hmacShaKeyFor(keyBytes);
+    this.clock = clock;
+    this.keyRing = JwtKeyRing.from(jwtProperties);
     this.accessTokenExpiration = jwtProperties.getAccessTokenExpiration();
+    // 만료 판정은 verify 에서 직접 수행한다. 파서 시계를 epoch 로 고정해 ExpiredJwtException 을 만들지 않는다.
+    this.parser = Jwts.parser().keyLocator(this::locateKey).clock(() -> new Date(0L)).build();
+  }
+
+  public JwtKeyRing keyRing() {
+    return keyRing;
   }
 
   @Override
   public String generateAccessToken(Long userId, String username, String authority) {
-    Date now = new Date();
-    Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
-
-    return Jwts.builder()
-        .subject(userId.toString())
-        .claim("auth", authority)
-        .claim("username", username)
-        .claim("type", "access")
-        .issuedAt(now)
-        .expiration(expiry)
-        .signWith(key)
-        .compact();
+    return accessToken(userId.toString(), username, authority, Date.from(clock.instant()));
   }
 
   @Override
   public String generateRefreshToken(Long userId, String username) {
-    Date now = new Date();
-    Date expiry = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration());
-
-    return Jwts.builder()
-        .subject(userId.toString())
-        .claim("type", "refresh")
-        .claim("username", username)
-        .issuedAt(now)
-        .expiration(expiry)
-        .signWith(key)
-        .compact();
+    return refreshToken(userId.toString(), username, Date.from(clock.instant()));
   }
 
   @Override
-  public boolean validateToken(String token) {
-    try {
-      if (token == null || token.trim().isEmpty()) {
-        return false;
+  public TokenPair generateTokenPair(Long userId, String username, String authority) {
+    Date now = Date.from(clock.instant());
+    String subject = userId.toString();
+
+    return new TokenPair(
+        accessToken(subject, username, authority, now), refreshToken(subject, username, now));
+  }
+
+  private String accessToken(String subject, String username, String authority, Date now) {
+    Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
+
+    JwtBuilder builder = signedBuilder().subject(subject);
+    if (isCompact()) {
+      builder.claim(CompactClaims.ROLE, CompactClaims.encodeRole(authority));
+      if (jwtProperties.getClaims().isIncludeUsername()) {
+        builder.claim(CompactClaims.USERNAME, username);
       }
+      builder.claim(CompactClaims.TYPE, CompactClaims.ACCESS);
+    } else {
+      builder.claim("auth", authority).claim("username", username).claim("type", "access");
+    }
+    return builder.issuedAt(now).expiration(expiry).compact();
+  }
 
-      Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-      return true;
-    } catch (ExpiredJwtException expiredException) {
-      log.warn("만료된 토큰입니다: {}", expiredException.getMessage());
-      throw new TokenExpiredException();
-    } catch (MalformedJwtException
-        | SignatureException
-        | UnsupportedJwtException
-        | IllegalArgumentException ex) {
-      log.error("JWT token 유효성 검증 실패: {}", ex.getMessage());
-      return false;
+  private String refreshToken(String subject, String username, Date now) {
+    Date expiry = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration());
+
+    JwtBuilder builder = signedBuilder().subject(subject);
+    if (isCompact()) {
+      builder.claim(CompactClaims.TYPE, CompactClaims.REFRESH);
+      if (jwtProperties.getClaims().isIncludeUsername()) {
+        builder.claim(CompactClaims.USERNAME, username);
+      }
+    } else {
+      builder.claim("type", "refresh").claim("username", username);
     }
+    return builder.issuedAt(now).expiration(expiry).compact();
   }
 
-  @Override
-  public boolean validateRefreshToken(String token) {
-    return validateToken(token) && isRefreshToken(token);
+  private boolean isCompact() {
+    return jwtProperties.getClaims().getProfile() == JwtProperties.Claims.Profile.COMPACT;
   }
 
-  @Override
-  public String getUserIdFromToken(String token) {
-    try {
-      Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+  private JwtBuilder signedBuilder() {
+    JwtKeyRing.SigningKey active = keyRing.active();
+    JwtBuilder builder = Jwts.builder().signWith(active.signingKey());
+    if (active.kid() != null) {
+      builder.header().keyId(active.kid());
+    }
+    return builder;
+  }
 
-      return claims.getSubject();
-    } catch (Exception e) {
-      log.error("Error extracting user ID from token: {}", e.getMessage());
-      return null;
+  private Key locateKey(Header header) {
+    String kid =
+        header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+    Key key = keyRing.find(kid);
+    if (key == null) {
+      throw new UnsupportedJwtException("알 수 없는 서명 키입니다. kid: " + kid);
     }
+    return key;
   }
 
-  private boolean isRefreshToken(String token) {
+  @Override
+  public VerifiedToken verify(String token) {
+    if (token == null || token.trim().isEmpty()) {
+      return VerifiedToken.invalid();
+    }
+
     try {
-      Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+      Claims claims = parser.parseSignedClaims(token).getPayload();
+
+      Date expiration = claims.getExpiration();
+      if (expiration == null) {
+        log.error("JWT token 유효성 검증 실패: 만료 시간이 없습니다.");
+        return VerifiedToken.invalid();
+      }
+
+      Instant expiresAt = expiration.toInstant();
+      if (clock.millis() > expiration.getTime()) {
+        log.debug("만료된 토큰입니다. exp: {}", expiresAt);
+        return VerifiedToken.expired();
+      }
+
+      // 프로필 설정과 관계없이 두 형식 모두 검증한다. 프로필을 바꿔도 이미 발급된 토큰은 유효하다.
+      if (claims.containsKey(CompactClaims.TYPE)) {
+        return VerifiedToken.valid(
+            claims.getSubject(),
+            CompactClaims.decodeRole(claims.get(CompactClaims.ROLE)),
+            claims.get(CompactClaims.USERNAME, String.class),
+            CompactClaims.decodeType(claims.get(CompactClaims.TYPE, Integer.class)),
+            expiresAt);
+      }
 
-      return "refresh".equals(claims.get("type", String.class));
-    } catch (Exception e) {
-      return false;
+      return VerifiedToken.valid(
+          claims.getSubject(),
+          claims.get("auth", String.class),
+          claims.get("username", String.class),
+          claims.get("type", String.class),
+          expiresAt);
+    } catch (JwtException | IllegalArgumentException ex) {
+      log.error("JWT token 유효성 검증 실패: {}", ex.getMessage());
+      return VerifiedToken.invalid();
     }
   }
 }
@@ -0,0 +1,42 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import com.auth.jwt.auth.application.model.TokenPair;
+import com.auth.jwt.auth.application.port.TokenIssuerPort;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 액세스 토큰 발급은 위임하고, 리프레시 토큰은 256비트 난수(base64url, 43자)로 발급한다.
+ *
+ * <p>불투명 리프레시 토큰은 서명이나 클레임이 없으므로 저장소 조회만으로 검증된다. JWT 구분자('.')를 포함하지 않아
+ * JWT 리프레시 토큰과 구분된다.
+ */
+public class OpaqueRefreshTokenIssuerAdapter implements TokenIssuerPort {
+  private static final int TOKEN_BYTES = 32;
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final TokenIssuerPort delegate;
+  private final SecureRandom random = new SecureRandom();
+
+  public OpaqueRefreshTokenIssuerAdapter(TokenIssuerPort delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public String generateAccessToken(Long userId, String username, String authority) {
+    return delegate.generateAccessToken(userId, username, authority);
+  }
+
+  @Override
+  public String generateRefreshToken(Long userId, String username) {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    return ENCODER.encodeToString(bytes);
+  }
+
+  @Override
+  public TokenPair generateTokenPair(Long userId, String username, String authority) {
+    return new TokenPair(
+        generateAccessToken(userId, username, authority), generateRefreshToken(userId, username));
+  }
+}
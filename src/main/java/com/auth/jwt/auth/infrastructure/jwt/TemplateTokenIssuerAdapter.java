@@ -0,0 +1,279 @@
+package com.auth.jwt.auth.infrastructure.jwt;
+
+import static com.auth.jwt.auth.infrastructure.jwt.JwsSupport.ascii;
+import static com.auth.jwt.auth.infrastructure.jwt.JwsSupport.newMac;
+
+import com.auth.jwt.auth.application.model.TokenPair;
+import com.auth.jwt.auth.application.port.TokenIssuerPort;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 헤더와 고정 클레임 조각을 미리 인코딩해 두고 가변 값(sub, username, auth, iat, exp)만 버퍼에 기록하는 토큰 발급기.
+ *
+ * <p>헤더(alg, kid)는 활성 키 기준으로 한 번만 만든다. jjwt 가 만드는 토큰과 바이트 단위로 같은 결과를 만들며,
+ * JSON 이스케이프가 필요한 문자열이 들어오거나 클레임이 버퍼를 넘으면 jjwt 기반 발급기로 위임한다.
+ *
+ * <p>클레임 버퍼는 문자열을 쓸 때 고정 조각과 숫자가 들어갈 RESERVED 만큼을 남겨 두므로 BUFFER_SIZE 를 넘지 않는다. 토큰 버퍼는
+ * 실제 헤더 길이와 서명 길이로 크기를 정하므로 kid 가 길어도 넘치지 않는다.
+ */
+public class TemplateTokenIssuerAdapter implements TokenIssuerPort {
+  private static final int BUFFER_SIZE = 4096;
+  private static final int RESERVED = 128;
+  private static final byte[] BASE64_URL =
+      ascii("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_");
+
+  private static final byte[] ACCESS_SUB = ascii("{\"sub\":\"");
+  private static final byte[] ACCESS_AUTH = ascii("\",\"auth\":\"");
+  private static final byte[] ACCESS_USERNAME = ascii("\",\"username\":\"");
+  private static final byte[] ACCESS_TYPE_IAT = ascii("\",\"type\":\"access\",\"iat\":");
+  private static final byte[] REFRESH_SUB = ascii("{\"sub\":\"");
+  private static final byte[] REFRESH_TYPE_USERNAME =
+      ascii("\",\"type\":\"refresh\",\"username\":\"");
+  private static final byte[] REFRESH_IAT = ascii("\",\"iat\":");
+  private static final byte[] EXP = ascii(",\"exp\":");
+  private static final byte[] END = ascii("}");
+
+  private final TokenIssuerPort fallback;
+  private final JwtProperties jwtProperties;
+  private final Clock clock;
+  private final byte[] encodedHeader;
+  private final ThreadLocal<Scratch> scratch;
+
+  public TemplateTokenIssuerAdapter(
+      JwtKeyRing keyRing, JwtProperties jwtProperties, Clock clock, TokenIssuerPort fallback) {
+    this.fallback = fallback;
+    this.jwtProperties = jwtProperties;
+    this.clock = clock;
+
+    if (jwtProperties.getClaims().getProfile() != JwtProperties.Claims.Profile.STANDARD) {
+      throw new IllegalArgumentException("템플릿 발급기는 표준 클레임 프로필만 지원합니다.");
+    }
+    JwtKeyRing.SigningKey active = keyRing.active();
+    if (!active.isHmac()) {
+      throw new IllegalArgumentException("템플릿 발급기는 HMAC 키만 지원합니다. kid: " + active.kid());
+    }
+    this.encodedHeader = ascii(JwsSupport.encodedHeader(active));
+
+    SecretKeySpec keySpec = JwsSupport.keySpec(active.secretKey());
+    int headerLength = encodedHeader.length;
+    this.scratch = ThreadLocal.withInitial(() -> new Scratch(newMac(keySpec), headerLength));
+  }
+
+  @Override
+  public String generateAccessToken(Long userId, String username, String authority) {
+    Scratch s = scratch.get();
+    int p = writeAccessClaims(s, userId, username, authority, clock.millis());
+    if (p < 0) {
+      return fallback.generateAccessToken(userId, username, authority);
+    }
+    return sign(s, s.claims, p);
+  }
+
+  @Override
+  public String generateRefreshToken(Long userId, String username) {
+    long now = clock.millis();
+    long expiry = now + jwtProperties.getRefreshTokenExpiration();
+
+    Scratch s = scratch.get();
+    int p = write(s.refreshClaims, 0, REFRESH_SUB);
+    p = writeDigits(s.refreshClaims, p, userId);
+    p = write(s.refreshClaims, p, REFRESH_TYPE_USERNAME);
+    p = writeString(s.refreshClaims, p, username);
+    if (p < 0) {
+      return fallback.generateRefreshToken(userId, username);
+    }
+    p = writeTimes(s.refreshClaims, p, REFRESH_IAT, now, expiry);
+
+    return sign(s, s.refreshClaims, p);
+  }
+
+  @Override
+  public TokenPair generateTokenPair(Long userId, String username, String authority) {
+    long now = clock.millis();
+
+    Scratch s = scratch.get();
+    int p = writeAccessClaims(s, userId, username, authority, now);
+    if (p < 0) {
+      return fallback.generateTokenPair(userId, username, authority);
+    }
+    String accessToken = sign(s, s.claims, p);
+
+    // 액세스 토큰에 기록해 둔 sub 와 username 바이트를 그대로 복사해 리프레시 클레임을 만든다.
+    byte[] refresh = s.refreshClaims;
+    int q = write(refresh, 0, REFRESH_SUB);
+    q = copy(s.claims, ACCESS_SUB.length, s.subjectEnd, refresh, q);
+    q = write(refresh, q, REFRESH_TYPE_USERNAME);
+    q = copy(s.claims, s.usernameStart, s.usernameEnd, refresh, q);
+    q = writeTimes(refresh, q, REFRESH_IAT, now, now + jwtProperties.getRefreshTokenExpiration());
+
+    return new TokenPair(accessToken, sign(s, refresh, q));
+  }
+
+  // 액세스 토큰 클레임을 s.claims 에 기록하고 길이를 반환한다. 위임이 필요하면 -1.
+  private int writeAccessClaims(
+      Scratch s, Long userId, String username, String authority, long now) {
+    byte[] buf = s.claims;
+    int p = write(buf, 0, ACCESS_SUB);
+    p = writeDigits(buf, p, userId);
+    s.subjectEnd = p;
+    p = write(buf, p, ACCESS_AUTH);
+    p = writeString(buf, p, authority);
+    if (p < 0) {
+      return -1;
+    }
+    p = write(buf, p, ACCESS_USERNAME);
+    s.usernameStart = p;
+    p = writeString(buf, p, username);
+    if (p < 0) {
+      return -1;
+    }
+    s.usernameEnd = p;
+    return writeTimes(buf, p, ACCESS_TYPE_IAT, now, now + jwtProperties.getAccessTokenExpiration());
+  }
+
+  private static int writeTimes(byte[] buf, int p, byte[] iatPrefix, long now, long expiry) {
+    p = write(buf, p, iatPrefix);
+    p = writeDigits(buf, p, now / 1000);
+    p = write(buf, p, EXP);
+    p = writeDigits(buf, p, expiry / 1000);
+    return write(buf, p, END);
+  }
+
+  private String sign(Scratch s, byte[] claims, int claimsLength) {
+    byte[] out = s.token;
+    System.arraycopy(encodedHeader, 0, out, 0, encodedHeader.length);
+    int p = encodedHeader.length;
+    out[p++] = '.';
+    p = encode(claims, claimsLength, out, p);
+
+    try {
+      s.mac.update(out, 0, p);
+      s.mac.doFinal(s.signature, 0);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("토큰 서명에 실패했습니다.", e);
+    }
+
+    out[p++] = '.';
+    p = encode(s.signature, s.signature.length, out, p);
+    return new String(out, 0, p, StandardCharsets.ISO_8859_1);
+  }
+
+  // 이스케이프가 필요하거나 버퍼를 넘는 값이면 -1 을 반환한다.
+  private static int writeString(byte[] buf, int p, String value) {
+    if (p < 0 || value == null) {
+      return -1;
+    }
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x20 || c == '"' || c == '\\' || c >= 0x80) {
+        return writeNonAscii(buf, p, value);
+      }
+    }
+    if (p + length > buf.length - RESERVED) {
+      return -1;
+    }
+    for (int i = 0; i < length; i++) {
+      buf[p++] = (byte) value.charAt(i);
+    }
+    return p;
+  }
+
+  private static int writeNonAscii(byte[] buf, int p, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x20 || c == '"' || c == '\\' || Character.isSurrogate(c)) {
+        return -1;
+      }
+    }
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    if (p + utf8.length > buf.length - RESERVED) {
+      return -1;
+    }
+    System.arraycopy(utf8, 0, buf, p, utf8.length);
+    return p + utf8.length;
+  }
+
+  private static int writeDigits(byte[] buf, int p, long value) {
+    if (value < 0) {
+      buf[p++] = '-';
+      value = -value;
+    }
+    int start = p;
+    do {
+      buf[p++] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value > 0);
+    for (int i = start, j = p - 1; i < j; i++, j--) {
+      byte tmp = buf[i];
+      buf[i] = buf[j];
+      buf[j] = tmp;
+    }
+    return p;
+  }
+
+  private static int copy(byte[] src, int from, int to, byte[] dst, int p) {
+    System.arraycopy(src, from, dst, p, to - from);
+    return p + to - from;
+  }
+
+  private static int write(byte[] buf, int p, byte[] fragment) {
+    System.arraycopy(fragment, 0, buf, p, fragment.length);
+    return p + fragment.length;
+  }
+
+  // base64url(패딩 없음)으로 out 에 기록하고 다음 위치를 반환한다.
+  private static int encode(byte[] src, int length, byte[] out, int p) {
+    int i = 0;
+    for (; i + 2 < length; i += 3) {
+      int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+      out[p++] = BASE64_URL[bits >>> 18];
+      out[p++] = BASE64_URL[(bits >>> 12) & 0x3F];
+      out[p++] = BASE64_URL[(bits >>> 6) & 0x3F];
+      out[p++] = BASE64_URL[bits & 0x3F];
+    }
+    int remaining = length - i;
+    if (remaining == 1) {
+      int bits = (src[i] & 0xFF) << 16;
+      out[p++] = BASE64_URL[bits >>> 18];
+      out[p++] = BASE64_URL[(bits >>> 12) & 0x3F];
+    } else if (remaining == 2) {
+      int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+      out[p++] = BASE64_URL[bits >>> 18];
+      out[p++] = BASE64_URL[(bits >>> 12) & 0x3F];
+      out[p++] = BASE64_URL[(bits >>> 6) & 0x3F];
+    }
+    return p;
+  }
+
+  private static int encodedLength(int length) {
+    return length / 3 * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+  }
+
+  // 헤더, '.', 인코딩한 클레임, '.', 인코딩한 서명.
+  private static int tokenLength(int headerLength, int macLength) {
+    return headerLength + 1 + encodedLength(BUFFER_SIZE) + 1 + encodedLength(macLength);
+  }
+
+  private static final class Scratch {
+    private final Mac mac;
+    private final byte[] claims = new byte[BUFFER_SIZE];
+    private final byte[] refreshClaims = new byte[BUFFER_SIZE];
+    private final byte[] token;
+    private final byte[] signature;
+    private int subjectEnd;
+    private int usernameStart;
+    private int usernameEnd;
+
+    private Scratch(Mac mac, int headerLength) {
+      this.mac = mac;
+      this.signature = new byte[mac.getMacLength()];
+      this.token = new byte[tokenLength(headerLength, signature.length)];
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.auth.jwt.auth.infrastructure.persistence;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각을 틱 단위 버킷으로 묶어 두는 타이밍 휠.
+ *
+ * <p>등록과 취소는 해당 틱 버킷 하나만 건드리고, {@link #advance(long, Consumer)} 는 지난 틱의 버킷만 꺼내므로 전체
+ * 세션을 훑지 않는다. 버킷은 아직 만료되지 않은 키가 있는 틱에만 존재한다.
+ */
+final class ExpiryWheel<K> {
+  private final long tickMillis;
+  private final ConcurrentNavigableMap<Long, Bucket<K>> buckets = new ConcurrentSkipListMap<>();
+
+  ExpiryWheel(long tickMillis) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("틱 간격은 0보다 커야 합니다.");
+    }
+    this.tickMillis = tickMillis;
+  }
+
+  void schedule(K key, long expiresAtMillis) {
+    long tick = tickOf(expiresAtMillis);
+    while (true) {
+      Bucket<K> bucket = buckets.computeIfAbsent(tick, t -> new Bucket<>());
+      if (bucket.add(key)) {
+        return;
+      }
+      // advance 나 cancel 이 방금 닫은 버킷이다. 새 버킷을 만들어 다시 시도한다.
+      buckets.remove(tick, bucket);
+    }
+  }
+
+  void cancel(K key, long expiresAtMillis) {
+    long tick = tickOf(expiresAtMillis);
+    Bucket<K> bucket = buckets.get(tick);
+    if (bucket != null && bucket.remove(key)) {
+      buckets.remove(tick, bucket);
+    }
+  }
+
+  /** nowMillis 까지 지난 틱의 키를 expired 에 넘기고 버킷을 비운다. 넘긴 키 수를 반환한다. */
+  int advance(long nowMillis, Consumer<K> expired) {
+    // 틱 t 의 키는 만료 시각이 t * tickMillis 보다 이르므로, 그 시각이 지난 버킷만 꺼낸다.
+    long lastTick = Math.floorDiv(nowMillis, tickMillis);
+    int count = 0;
+    Map.Entry<Long, Bucket<K>> entry;
+    while ((entry = buckets.firstEntry()) != null && entry.getKey() <= lastTick) {
+      if (!buckets.remove(entry.getKey(), entry.getValue())) {
+        continue;
+      }
+      for (K key : entry.getValue().close()) {
+        expired.accept(key);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private long tickOf(long expiresAtMillis) {
+    return Math.floorDiv(expiresAtMillis, tickMillis) + 1;
+  }
+
+  private static final class Bucket<K> {
+    private final Set<K> keys = new HashSet<>();
+    private boolean closed;
+
+    synchronized boolean add(K key) {
+      if (closed) {
+        return false;
+      }
+      keys.add(key);
+      return true;
+    }
+
+    // 버킷이 비면 닫고 true 를 반환해 호출자가 휠에서 제거하게 한다. 닫힌 버킷은 더 바꾸지 않는다.
+    synchronized boolean remove(K key) {
+      if (closed || !keys.remove(key) || !keys.isEmpty()) {
+        return false;
+      }
+      closed = true;
+      return true;
+    }
+
+    synchronized Set<K> close() {
+      closed = true;
+      return keys;
+    }
+  }
+}
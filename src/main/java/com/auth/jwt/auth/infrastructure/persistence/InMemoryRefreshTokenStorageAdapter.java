@@ -1,42 +1,204 @@
 package com.auth.jwt.auth.infrastructure.persistence;
 
 import com.auth.jwt.auth.application.model.RefreshToken;
+import com.auth.jwt.auth.application.port.DateTimePort;
 import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 리프레시 토큰 세션을 힙에 보관하는 저장소.
+ *
+ * <p>토큰 조회는 다이제스트 키 맵을 잠금 없이 읽는다. 세션을 바꾸는 연산은 사용자 ID 로 고른 스트라이프 하나를 잠그고 그
+ * 안에서 토큰 맵과 사용자 인덱스를 함께 바꾸므로, 같은 사용자의 동시 로그인과 재발급이 두 인덱스를 어긋나게 하지 않는다.
+ */
+@Slf4j
 @Repository
 public class InMemoryRefreshTokenStorageAdapter implements RefreshTokenStoragePort {
-  private final Map<String, RefreshToken> tokenStore = new ConcurrentHashMap<>();
-  private final Map<Long, RefreshToken> userIndex = new ConcurrentHashMap<>();
+  private static final int STRIPE_BITS = 6;
 
+  // 토큰 원문은 보관하지 않는다. 조회할 때 제시된 토큰의 다이제스트로 찾는다.
+  private final Map<TokenDigest, Session> tokenStore = new ConcurrentHashMap<>();
+  private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+  private final ExpiryWheel<TokenDigest> expiryWheel;
+  private final DateTimePort dateTimePort;
+  private final int maxSessionsPerUser;
+
+  public InMemoryRefreshTokenStorageAdapter(
+      DateTimePort dateTimePort, JwtProperties jwtProperties) {
+    JwtProperties.RefreshTokenStore store = jwtProperties.getRefreshTokenStore();
+    this.dateTimePort = dateTimePort;
+    this.expiryWheel = new ExpiryWheel<>(store.getSweepInterval());
+    this.maxSessionsPerUser = store.getMaxSessionsPerUser();
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  /** 사용자 세션 수가 상한을 넘으면 가장 오래된 세션부터 제거한다. */
   @Override
   public RefreshToken save(RefreshToken refreshToken) {
-    tokenStore.put(refreshToken.tokenValue(), refreshToken);
-    userIndex.put(refreshToken.userId(), refreshToken);
+    Session session = toSession(refreshToken);
+    Stripe stripe = stripe(session.userId());
+    synchronized (stripe) {
+      add(stripe, session);
+    }
     return refreshToken;
   }
 
+  @Override
+  public boolean replaceForUser(Long userId, String oldTokenValue, RefreshToken newToken) {
+    TokenDigest oldDigest = TokenDigest.of(oldTokenValue);
+    Session session = toSession(newToken);
+    Stripe stripe = stripe(userId);
+    synchronized (stripe) {
+      Session old = tokenStore.get(oldDigest);
+      if (old == null || old.userId() != userId) {
+        return false;
+      }
+      remove(stripe, old);
+      add(stripe, session);
+      return true;
+    }
+  }
+
   @Override
   public Optional<RefreshToken> findByTokenValue(String tokenValue) {
-    return Optional.ofNullable(tokenStore.get(tokenValue));
+    if (tokenValue == null) {
+      return Optional.empty();
+    }
+    Session session = tokenStore.get(TokenDigest.of(tokenValue));
+    if (session == null) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new RefreshToken(tokenValue, session.userId(), toDateTime(session.expiresAtMillis())));
   }
 
   @Override
   public void deleteByUserId(Long userId) {
-    RefreshToken token = userIndex.remove(userId);
-    if (token != null) {
-      tokenStore.remove(token.tokenValue());
+    Stripe stripe = stripe(userId);
+    synchronized (stripe) {
+      stripe.sessions.removeAll(userId).forEach(this::discard);
     }
   }
 
   @Override
   public void deleteByTokenValue(String tokenValue) {
-    RefreshToken token = tokenStore.remove(tokenValue);
-    if (token != null) {
-      userIndex.remove(token.userId());
+    if (tokenValue == null) {
+      return;
+    }
+    TokenDigest digest = TokenDigest.of(tokenValue);
+    Session session = tokenStore.get(digest);
+    if (session == null) {
+      return;
     }
+    Stripe stripe = stripe(session.userId());
+    synchronized (stripe) {
+      // 잠그기 전에 다른 스레드가 지웠거나 바꿨을 수 있으므로 같은 세션일 때만 제거한다.
+      if (tokenStore.get(digest) == session) {
+        remove(stripe, session);
+      }
+    }
+  }
+
+  @Override
+  public int countByUserId(Long userId) {
+    Stripe stripe = stripe(userId);
+    synchronized (stripe) {
+      return stripe.sessions.count(userId);
+    }
+  }
+
+  @Override
+  public long countActiveSessions() {
+    return tokenStore.size();
+  }
+
+  /** 지난 틱의 버킷만 확인하므로 전체 세션을 훑지 않는다. */
+  @Override
+  public int evictExpired() {
+    long now = epochMillis(dateTimePort.getCurrentDateTime());
+    int[] evicted = new int[1];
+    expiryWheel.advance(
+        now,
+        digest -> {
+          Session session = tokenStore.get(digest);
+          if (session == null || now <= session.expiresAtMillis()) {
+            return;
+          }
+          Stripe stripe = stripe(session.userId());
+          synchronized (stripe) {
+            if (tokenStore.get(digest) == session) {
+              remove(stripe, session);
+              evicted[0]++;
+            }
+          }
+        });
+
+    if (evicted[0] > 0) {
+      log.debug("만료된 리프레시 토큰 {}건 제거, 활성 세션 {}건", evicted[0], tokenStore.size());
+    }
+    return evicted[0];
+  }
+
+  // add, remove 는 세션 사용자의 스트라이프를 잠근 상태에서 호출한다.
+  private void add(Stripe stripe, Session session) {
+    // 같은 토큰을 다시 저장하면 이전 세션을 대체한다. 토큰에는 사용자 ID 가 들어 있으므로 이전 세션도 같은 사용자다.
+    Session previous = tokenStore.get(session.digest());
+    if (previous != null && previous.userId() == session.userId()) {
+      remove(stripe, previous);
+    }
+
+    tokenStore.put(session.digest(), session);
+    expiryWheel.schedule(session.digest(), session.expiresAtMillis());
+    int count = stripe.sessions.put(session.userId(), session);
+    while (count-- > maxSessionsPerUser) {
+      discard(stripe.sessions.removeFirst(session.userId()));
+    }
+  }
+
+  private void remove(Stripe stripe, Session session) {
+    stripe.sessions.remove(session.userId(), session);
+    discard(session);
+  }
+
+  // 사용자 인덱스에서 이미 빠진 세션을 토큰 저장소와 만료 휠에서도 제거한다.
+  private void discard(Session session) {
+    tokenStore.remove(session.digest(), session);
+    expiryWheel.cancel(session.digest(), session.expiresAtMillis());
+  }
+
+  private Stripe stripe(long userId) {
+    long h = userId * 0x9E3779B97F4A7C15L;
+    return stripes[(int) (h >>> (Long.SIZE - STRIPE_BITS))];
+  }
+
+  private static Session toSession(RefreshToken refreshToken) {
+    return new Session(
+        TokenDigest.of(refreshToken.tokenValue()),
+        refreshToken.userId(),
+        epochMillis(refreshToken.expiry()));
+  }
+
+  private static long epochMillis(LocalDateTime dateTime) {
+    return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  private static LocalDateTime toDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+  }
+
+  private record Session(TokenDigest digest, long userId, long expiresAtMillis) {}
+
+  private static final class Stripe {
+    private final LongMultimap<Session> sessions = new LongMultimap<>();
   }
 }
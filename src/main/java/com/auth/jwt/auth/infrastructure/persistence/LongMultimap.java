@@ -0,0 +1,201 @@
+package com.auth.jwt.auth.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * long 키에 값 목록을 묶는 오픈 어드레싱(선형 탐사) 멀티맵. 키를 박싱하지 않고, 값은 키마다 넣은 순서대로 보관한다.
+ *
+ * <p>키 하나에 대한 연산은 그 키의 값 수에만 비례한다. 동기화하지 않으므로 호출자가 잠금을 관리한다.
+ */
+final class LongMultimap<V> {
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private Values[] values;
+  private int mask;
+  private int size;
+
+  LongMultimap() {
+    this(MIN_CAPACITY);
+  }
+
+  LongMultimap(int expectedKeys) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * 3 < expectedKeys * 4) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  /** key 에 value 를 추가하고 추가한 뒤의 값 수를 반환한다. */
+  int put(long key, V value) {
+    int slot = find(key);
+    if (slot < 0) {
+      if ((size + 1) * 4 > keys.length * 3) {
+        resize(keys.length << 1);
+      }
+      slot = freeSlot(key);
+      keys[slot] = key;
+      values[slot] = new Values();
+      size++;
+    }
+    values[slot].add(value);
+    return values[slot].size;
+  }
+
+  int count(long key) {
+    int slot = find(key);
+    return slot < 0 ? 0 : values[slot].size;
+  }
+
+  /** key 의 값 중 가장 먼저 넣은 것을 제거해 반환한다. 없으면 null. */
+  V removeFirst(long key) {
+    int slot = find(key);
+    if (slot < 0) {
+      return null;
+    }
+    V value = values[slot].removeAt(0);
+    if (values[slot].size == 0) {
+      removeSlot(slot);
+    }
+    return value;
+  }
+
+  boolean remove(long key, V value) {
+    int slot = find(key);
+    if (slot < 0) {
+      return false;
+    }
+    Values list = values[slot];
+    int index = list.indexOf(value);
+    if (index < 0) {
+      return false;
+    }
+    list.removeAt(index);
+    if (list.size == 0) {
+      removeSlot(slot);
+    }
+    return true;
+  }
+
+  /** key 의 값을 모두 제거해 넣은 순서대로 반환한다. */
+  List<V> removeAll(long key) {
+    int slot = find(key);
+    if (slot < 0) {
+      return List.of();
+    }
+    List<V> removed = values[slot].toList();
+    removeSlot(slot);
+    return removed;
+  }
+
+  int keyCount() {
+    return size;
+  }
+
+  private int find(long key) {
+    int slot = home(key);
+    while (values[slot] != null) {
+      if (keys[slot] == key) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private int freeSlot(long key) {
+    int slot = home(key);
+    while (values[slot] != null) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  // 후방 이동 삭제. 묘비를 남기지 않으므로 탐사 구간이 길어지지 않는다.
+  private void removeSlot(int slot) {
+    int hole = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mask;
+      if (values[next] == null) {
+        break;
+      }
+      int home = home(keys[next]);
+      boolean stays = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+      if (stays) {
+        continue;
+      }
+      keys[hole] = keys[next];
+      values[hole] = values[next];
+      hole = next;
+    }
+    values[hole] = null;
+    size--;
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    Values[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = freeSlot(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new Values[capacity];
+    mask = capacity - 1;
+  }
+
+  private int home(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  }
+
+  // 키 하나의 값 목록. 사용자당 세션 수는 작으므로 배열을 그대로 옮긴다.
+  private static final class Values {
+    private Object[] items = new Object[2];
+    private int size;
+
+    void add(Object value) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, size << 1);
+      }
+      items[size++] = value;
+    }
+
+    int indexOf(Object value) {
+      for (int i = 0; i < size; i++) {
+        if (items[i].equals(value)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> V removeAt(int index) {
+      V value = (V) items[index];
+      System.arraycopy(items, index + 1, items, index, size - index - 1);
+      items[--size] = null;
+      return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> List<V> toList() {
+      List<V> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add((V) items[i]);
+      }
+      return list;
+    }
+  }
+}
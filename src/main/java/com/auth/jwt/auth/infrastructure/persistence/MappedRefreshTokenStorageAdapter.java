@@ -0,0 +1,683 @@
+package com.auth.jwt.auth.infrastructure.persistence;
+
+import com.auth.jwt.auth.application.model.RefreshToken;
+import com.auth.jwt.auth.application.port.DateTimePort;
+import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 세션을 메모리 맵 파일에 보관하는 저장소. 재시작해도 세션이 유지되고 세션 데이터는 힙 밖에 있다.
+ *
+ * <p>파일은 헤더와 두 개의 오픈 어드레싱(선형 탐사) 테이블로 이루어진다. 토큰 테이블은 (다이제스트, userId, 만료 시각)을,
+ * 사용자 테이블은 (userId, 다이제스트)를 담는다. 삭제는 묘비를 남기지 않고 뒤 슬롯을 당겨 채운다.
+ *
+ * <p>조회는 StampedLock 낙관적 읽기로 잠금 없이 수행하고, 쓰기는 배타 잠금으로 직렬화한다. 이미 쓰이던 슬롯을 고치거나 삭제로
+ * 당겨 채울 때는 상태를 BUSY 로 먼저 바꾸고 내용을 쓴 뒤 마지막에 USED 로 게시한다. 정상 종료되지 않아 헤더의 dirty 플래그가 남아
+ * 있으면 열 때 USED 슬롯만으로 테이블을 다시 만들므로, 쓰다 만 슬롯이 다른 세션의 userId 와 섞여 살아나지 않는다.
+ *
+ * <p>변경은 매핑된 페이지에만 쓰고, 파일 동기화(force)는 만료 정리 주기(jwt.refreshTokenStore.sweepInterval)와 사용자 세션
+ * 전체 삭제, 종료 때 한다. 프로세스가 죽어도 페이지 캐시에 남은 변경은 잃지 않는다. 운영체제가 멈추거나 전원이 나가면 마지막 동기화
+ * 이후 최대 한 정리 주기의 변경을 잃어, 그 사이 발급한 세션이 사라지거나 그 사이 지운 세션이 되살아날 수 있다. 토큰 슬롯은 64바이트로
+ * 정렬되어 한 페이지에 들어가고, 사용자 테이블은 복구 때 토큰 테이블로 다시 만든다.
+ */
+@Slf4j
+public class MappedRefreshTokenStorageAdapter implements RefreshTokenStoragePort, AutoCloseable {
+  private static final int MAGIC = 0x4A575254;
+  private static final int VERSION = 1;
+  private static final int MIN_CAPACITY = 1 << 10;
+  // 매핑 하나(2GB)에 두 테이블이 들어가는 최대 슬롯 수
+  private static final int MAX_CAPACITY = 1 << 24;
+  private static final int SWEEP_CHUNK = 4096;
+
+  private static final int HEADER_SIZE = 64;
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 4;
+  private static final int CAPACITY_OFFSET = 8;
+  private static final int DIRTY_OFFSET = 12;
+  private static final int SIZE_OFFSET = 16;
+
+  private static final long EMPTY = 0L;
+  private static final long USED = 1L;
+  // 내용을 쓰는 중인 슬롯. 탐사에서는 차 있는 슬롯으로 보고, 복구에서는 버린다.
+  private static final long BUSY = 2L;
+
+  private final Path path;
+  private final int maxSessionsPerUser;
+  private final DateTimePort dateTimePort;
+  private final StampedLock lock = new StampedLock();
+  private volatile Table table;
+  private boolean closed;
+
+  public MappedRefreshTokenStorageAdapter(
+      Path path, int capacity, int maxSessionsPerUser, DateTimePort dateTimePort) {
+    this.path = path;
+    this.maxSessionsPerUser = maxSessionsPerUser;
+    this.dateTimePort = dateTimePort;
+
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      if (Files.exists(path) && Files.size(path) > 0) {
+        Table existing = Table.open(path);
+        if (existing.isDirty()) {
+          log.warn("정상 종료되지 않은 리프레시 토큰 저장소를 복구합니다. path: {}", path);
+          existing = rebuild(existing, existing.capacity);
+        }
+        table = existing;
+      } else {
+        table = Table.create(path, normalizeCapacity(capacity));
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("리프레시 토큰 저장소 파일을 열 수 없습니다. path: " + path, e);
+    }
+
+    table.setDirty(true);
+    table.buf.force();
+    log.info(
+        "메모리 맵 리프레시 토큰 저장소 사용 - path: {}, 용량: {}, 세션: {}",
+        path,
+        table.capacity,
+        table.size());
+  }
+
+  @Override
+  public RefreshToken save(RefreshToken refreshToken) {
+    TokenDigest digest = TokenDigest.of(refreshToken.tokenValue());
+    long userId = refreshToken.userId();
+    long expiresAt = epochMillis(refreshToken.expiry());
+
+    long stamp = lock.writeLock();
+    try {
+      Table t = table;
+      int slot = findToken(t, digest);
+      if (slot >= 0) {
+        int offset = t.tokenOffset(slot);
+        markBusy(t, offset);
+        t.buf.putLong(offset + Table.TOKEN_USER_ID, userId);
+        t.buf.putLong(offset + Table.TOKEN_EXPIRY, expiresAt);
+        publish(t, offset);
+        return refreshToken;
+      }
+
+      insertSession(t, digest, userId, expiresAt);
+      return refreshToken;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean replaceForUser(Long userId, String oldTokenValue, RefreshToken newToken) {
+    TokenDigest oldDigest = TokenDigest.of(oldTokenValue);
+    TokenDigest digest = TokenDigest.of(newToken.tokenValue());
+    long expiresAt = epochMillis(newToken.expiry());
+
+    long stamp = lock.writeLock();
+    try {
+      Table t = table;
+      int oldSlot = findToken(t, oldDigest);
+      if (oldSlot < 0 || t.buf.getLong(t.tokenOffset(oldSlot) + Table.TOKEN_USER_ID) != userId) {
+        return false;
+      }
+      removeSession(t, oldSlot);
+
+      // 같은 초에 발급된 JWT 는 이전 토큰과 같을 수 있으므로, 제거한 뒤에도 남아 있는지 다시 확인한다.
+      int slot = findToken(t, digest);
+      if (slot >= 0) {
+        removeSession(t, slot);
+      }
+      insertSession(t, digest, userId, expiresAt);
+      return true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public Optional<RefreshToken> findByTokenValue(String tokenValue) {
+    if (tokenValue == null) {
+      return Optional.empty();
+    }
+    TokenDigest digest = TokenDigest.of(tokenValue);
+
+    long stamp = lock.tryOptimisticRead();
+    Entry entry = lookup(table, digest);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        entry = lookup(table, digest);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    if (entry == null) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new RefreshToken(tokenValue, entry.userId(), toDateTime(entry.expiresAtMillis())));
+  }
+
+  @Override
+  public void deleteByUserId(Long userId) {
+    long stamp = lock.writeLock();
+    try {
+      Table t = table;
+      int userSlot;
+      while ((userSlot = findUser(t, userId, null)) >= 0) {
+        TokenDigest digest = t.readDigest(t.userOffset(userSlot) + Table.USER_DIGEST);
+        int tokenSlot = findToken(t, digest);
+        if (tokenSlot >= 0) {
+          remove(t, Region.TOKEN, tokenSlot);
+          t.setSize(t.size() - 1);
+        }
+        remove(t, Region.USER, userSlot);
+      }
+      // 로그아웃 전체나 권한 변경으로 세션을 끊는 경로라 정리 주기를 기다리지 않고 내린다.
+      t.buf.force();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteByTokenValue(String tokenValue) {
+    if (tokenValue == null) {
+      return;
+    }
+    TokenDigest digest = TokenDigest.of(tokenValue);
+
+    long stamp = lock.writeLock();
+    try {
+      Table t = table;
+      int tokenSlot = findToken(t, digest);
+      if (tokenSlot >= 0) {
+        removeSession(t, tokenSlot);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int countByUserId(Long userId) {
+    long stamp = lock.tryOptimisticRead();
+    int count = countUser(table, userId);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        count = countUser(table, userId);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public long countActiveSessions() {
+    return table.size();
+  }
+
+  /** 토큰 테이블을 구간별로 잠가 가며 만료된 세션을 제거하고, 끝나면 파일에 반영한다. */
+  @Override
+  public int evictExpired() {
+    long now = epochMillis(dateTimePort.getCurrentDateTime());
+    int evicted = 0;
+
+    for (int start = 0; ; start += SWEEP_CHUNK) {
+      long stamp = lock.writeLock();
+      try {
+        Table t = table;
+        if (start >= t.capacity) {
+          t.buf.force();
+          break;
+        }
+        int end = Math.min(start + SWEEP_CHUNK, t.capacity);
+        for (int slot = start; slot < end; slot++) {
+          int offset = t.tokenOffset(slot);
+          if (t.buf.getLong(offset) == USED
+              && now > t.buf.getLong(offset + Table.TOKEN_EXPIRY)) {
+            removeSession(t, slot);
+            evicted++;
+            // 뒤 슬롯이 당겨져 왔을 수 있으므로 같은 슬롯을 다시 확인한다.
+            slot--;
+          }
+        }
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    if (evicted > 0) {
+      log.debug("만료된 리프레시 토큰 {}건 제거, 활성 세션 {}건", evicted, table.size());
+    }
+    return evicted;
+  }
+
+  @Override
+  public void close() {
+    long stamp = lock.writeLock();
+    try {
+      if (closed) {
+        return;
+      }
+      table.buf.force();
+      table.setDirty(false);
+      table.buf.force();
+      closed = true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  // 쓰기 잠금을 잡은 상태에서 호출한다. 필요하면 테이블을 확장한 뒤 새 세션을 넣는다.
+  private void insertSession(Table t, TokenDigest digest, long userId, long expiresAt) {
+    t = ensureCapacity(t);
+    insertToken(t, digest, userId, expiresAt);
+    insertUser(t, userId, digest);
+    t.setSize(t.size() + 1);
+    evictOldestSessions(t, userId);
+  }
+
+  // 사용자 세션 수가 상한을 넘으면 만료 시각이 가장 이른(가장 먼저 발급된) 세션부터 제거한다.
+  private void evictOldestSessions(Table t, long userId) {
+    while (true) {
+      int count = 0;
+      int oldestSlot = -1;
+      long oldestExpiry = Long.MAX_VALUE;
+
+      int slot = Region.USER.home(userHash(userId), t.mask);
+      for (int probe = 0; probe < t.capacity; probe++) {
+        int offset = t.userOffset(slot);
+        if (t.buf.getLong(offset) == EMPTY) {
+          break;
+        }
+        if (t.buf.getLong(offset + Table.USER_ID) == userId) {
+          count++;
+          int tokenSlot = findToken(t, t.readDigest(offset + Table.USER_DIGEST));
+          if (tokenSlot >= 0) {
+            long expiresAt = t.buf.getLong(t.tokenOffset(tokenSlot) + Table.TOKEN_EXPIRY);
+            if (expiresAt < oldestExpiry) {
+              oldestExpiry = expiresAt;
+              oldestSlot = tokenSlot;
+            }
+          }
+        }
+        slot = (slot + 1) & t.mask;
+      }
+
+      if (count <= maxSessionsPerUser || oldestSlot < 0) {
+        return;
+      }
+      removeSession(t, oldestSlot);
+    }
+  }
+
+  private static int countUser(Table t, long userId) {
+    int count = 0;
+    int slot = Region.USER.home(userHash(userId), t.mask);
+    for (int probe = 0; probe < t.capacity; probe++) {
+      int offset = t.userOffset(slot);
+      if (t.buf.getLong(offset) == EMPTY) {
+        break;
+      }
+      if (t.buf.getLong(offset + Table.USER_ID) == userId) {
+        count++;
+      }
+      slot = (slot + 1) & t.mask;
+    }
+    return count;
+  }
+
+  private void removeSession(Table t, int tokenSlot) {
+    int offset = t.tokenOffset(tokenSlot);
+    long userId = t.buf.getLong(offset + Table.TOKEN_USER_ID);
+    TokenDigest digest = t.readDigest(offset + Table.TOKEN_DIGEST);
+
+    remove(t, Region.TOKEN, tokenSlot);
+    int userSlot = findUser(t, userId, digest);
+    if (userSlot >= 0) {
+      remove(t, Region.USER, userSlot);
+    }
+    t.setSize(t.size() - 1);
+  }
+
+  // 낙관적 읽기 중에는 쓰기와 겹친 값이 보일 수 있다. 호출자가 검증한 뒤에만 결과를 사용한다.
+  private static Entry lookup(Table t, TokenDigest digest) {
+    int slot = findToken(t, digest);
+    if (slot < 0) {
+      return null;
+    }
+    int offset = t.tokenOffset(slot);
+    return new Entry(
+        t.buf.getLong(offset + Table.TOKEN_USER_ID), t.buf.getLong(offset + Table.TOKEN_EXPIRY));
+  }
+
+  private static int findToken(Table t, TokenDigest digest) {
+    int slot = Region.TOKEN.home(digest.hashCode(), t.mask);
+    for (int probe = 0; probe < t.capacity; probe++) {
+      int offset = t.tokenOffset(slot);
+      if (t.buf.getLong(offset) == EMPTY) {
+        return -1;
+      }
+      if (t.digestEquals(offset + Table.TOKEN_DIGEST, digest)) {
+        return slot;
+      }
+      slot = (slot + 1) & t.mask;
+    }
+    return -1;
+  }
+
+  // digest 가 null 이면 userId 가 같은 첫 슬롯을 찾는다.
+  private static int findUser(Table t, long userId, TokenDigest digest) {
+    int slot = Region.USER.home(userHash(userId), t.mask);
+    for (int probe = 0; probe < t.capacity; probe++) {
+      int offset = t.userOffset(slot);
+      if (t.buf.getLong(offset) == EMPTY) {
+        return -1;
+      }
+      if (t.buf.getLong(offset + Table.USER_ID) == userId
+          && (digest == null || t.digestEquals(offset + Table.USER_DIGEST, digest))) {
+        return slot;
+      }
+      slot = (slot + 1) & t.mask;
+    }
+    return -1;
+  }
+
+  private static void insertToken(Table t, TokenDigest digest, long userId, long expiresAt) {
+    int offset = t.tokenOffset(freeSlot(t, Region.TOKEN, digest.hashCode()));
+    t.writeDigest(offset + Table.TOKEN_DIGEST, digest);
+    t.buf.putLong(offset + Table.TOKEN_USER_ID, userId);
+    t.buf.putLong(offset + Table.TOKEN_EXPIRY, expiresAt);
+    publish(t, offset);
+  }
+
+  private static void insertUser(Table t, long userId, TokenDigest digest) {
+    int offset = t.userOffset(freeSlot(t, Region.USER, userHash(userId)));
+    t.buf.putLong(offset + Table.USER_ID, userId);
+    t.writeDigest(offset + Table.USER_DIGEST, digest);
+    publish(t, offset);
+  }
+
+  private static int freeSlot(Table t, Region region, int hash) {
+    int slot = region.home(hash, t.mask);
+    while (t.buf.getLong(region.offset(t, slot)) != EMPTY) {
+      slot = (slot + 1) & t.mask;
+    }
+    return slot;
+  }
+
+  // 선형 탐사의 후방 이동 삭제. 비운 슬롯 뒤에 있으면서 원래 자리가 그 슬롯 이전인 항목을 당겨 채운다.
+  private static void remove(Table t, Region region, int slot) {
+    int hole = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & t.mask;
+      int nextOffset = region.offset(t, next);
+      if (t.buf.getLong(nextOffset) == EMPTY) {
+        break;
+      }
+      int home = region.home(region.hash(t, nextOffset), t.mask);
+      boolean stays = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+      if (stays) {
+        continue;
+      }
+      copySlot(t, region, nextOffset, region.offset(t, hole));
+      hole = next;
+    }
+    t.buf.putLong(region.offset(t, hole), EMPTY);
+  }
+
+  // 대상 슬롯은 당겨 오기 전 항목으로 USED 상태다. 먼저 BUSY 로 바꿔야 복사 도중 멈춰도 두 항목이 섞여 게시되지 않는다.
+  private static void copySlot(Table t, Region region, int from, int to) {
+    markBusy(t, to);
+    for (int i = 8; i < region.slotSize; i += 8) {
+      t.buf.putLong(to + i, t.buf.getLong(from + i));
+    }
+    publish(t, to);
+  }
+
+  private static void markBusy(Table t, int offset) {
+    t.buf.putLong(offset, BUSY);
+    VarHandle.storeStoreFence();
+  }
+
+  // 내용 쓰기가 상태보다 늦게 반영되지 않도록 울타리를 친 뒤 상태를 게시한다.
+  private static void publish(Table t, int offset) {
+    VarHandle.storeStoreFence();
+    t.buf.putLong(offset, USED);
+  }
+
+  private Table ensureCapacity(Table t) {
+    if ((t.size() + 1) * 4 <= (long) t.capacity * 3) {
+      return t;
+    }
+    if (t.capacity >= MAX_CAPACITY) {
+      throw new IllegalStateException("리프레시 토큰 저장소가 가득 찼습니다. capacity: " + t.capacity);
+    }
+
+    log.info("리프레시 토큰 저장소 확장 - 용량: {} -> {}", t.capacity, t.capacity * 2);
+    try {
+      table = rebuild(t, t.capacity * 2);
+    } catch (IOException e) {
+      throw new IllegalStateException("리프레시 토큰 저장소를 확장할 수 없습니다. path: " + path, e);
+    }
+    table.setDirty(true);
+    return table;
+  }
+
+  // 게시된(USED) 만료되지 않은 슬롯만 새 파일에 다시 넣고 원래 파일과 교체한다. 쓰던 중인(BUSY) 슬롯은 버리고, 옮기다 멈춰
+  // 같은 항목이 두 슬롯에 게시되어 있으면 하나만 남긴다.
+  private Table rebuild(Table source, int capacity) throws IOException {
+    long now = epochMillis(dateTimePort.getCurrentDateTime());
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    Table target = Table.create(temp, capacity);
+
+    long size = 0;
+    for (int slot = 0; slot < source.capacity; slot++) {
+      int offset = source.tokenOffset(slot);
+      if (source.buf.getLong(offset) != USED) {
+        continue;
+      }
+      long expiresAt = source.buf.getLong(offset + Table.TOKEN_EXPIRY);
+      TokenDigest digest = source.readDigest(offset + Table.TOKEN_DIGEST);
+      if (now > expiresAt || findToken(target, digest) >= 0) {
+        continue;
+      }
+      long userId = source.buf.getLong(offset + Table.TOKEN_USER_ID);
+      insertToken(target, digest, userId, expiresAt);
+      insertUser(target, userId, digest);
+      size++;
+    }
+    target.setSize(size);
+    target.buf.force();
+
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return target;
+  }
+
+  // 연속된 userId 가 연속 슬롯에 몰려 탐사 구간이 길어지지 않도록 비트를 섞는다.
+  private static int userHash(long userId) {
+    long h = userId * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private static int normalizeCapacity(int capacity) {
+    int bounded = Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, capacity));
+    return Integer.highestOneBit(bounded) == bounded
+        ? bounded
+        : Math.min(MAX_CAPACITY, Integer.highestOneBit(bounded) << 1);
+  }
+
+  private static long epochMillis(LocalDateTime dateTime) {
+    return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  private static LocalDateTime toDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+  }
+
+  private record Entry(long userId, long expiresAtMillis) {}
+
+  private enum Region {
+    TOKEN(Table.TOKEN_SLOT_SIZE),
+    USER(Table.USER_SLOT_SIZE);
+
+    private final int slotSize;
+
+    Region(int slotSize) {
+      this.slotSize = slotSize;
+    }
+
+    int offset(Table t, int slot) {
+      return this == TOKEN ? t.tokenOffset(slot) : t.userOffset(slot);
+    }
+
+    // 슬롯에 저장된 키의 해시. 삽입할 때 쓴 해시(TokenDigest.hashCode, userHash)와 같아야 한다.
+    int hash(Table t, int offset) {
+      return this == TOKEN
+          ? Long.hashCode(t.buf.getLong(offset + Table.TOKEN_DIGEST))
+          : userHash(t.buf.getLong(offset + Table.USER_ID));
+    }
+
+    int home(int hash, int mask) {
+      return (hash ^ (hash >>> 16)) & mask;
+    }
+  }
+
+  /**
+   * 매핑된 파일 하나. 헤더 다음에 토큰 테이블(슬롯 64바이트: 상태, 다이제스트, userId, 만료 시각)과 사용자 테이블(슬롯
+   * 48바이트: 상태, userId, 다이제스트)이 이어진다.
+   */
+  private static final class Table {
+    static final int TOKEN_SLOT_SIZE = 64;
+    static final int TOKEN_DIGEST = 8;
+    static final int TOKEN_USER_ID = 40;
+    static final int TOKEN_EXPIRY = 48;
+    static final int USER_SLOT_SIZE = 48;
+    static final int USER_ID = 8;
+    static final int USER_DIGEST = 16;
+
+    final MappedByteBuffer buf;
+    final int capacity;
+    final int mask;
+    final int userRegion;
+
+    private Table(MappedByteBuffer buf, int capacity) {
+      this.buf = buf;
+      this.capacity = capacity;
+      this.mask = capacity - 1;
+      this.userRegion = HEADER_SIZE + capacity * TOKEN_SLOT_SIZE;
+      buf.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static Table create(Path path, int capacity) throws IOException {
+      try (FileChannel channel =
+          FileChannel.open(
+              path,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE)) {
+        Table t = new Table(map(channel, capacity), capacity);
+        t.buf.putInt(MAGIC_OFFSET, MAGIC);
+        t.buf.putInt(VERSION_OFFSET, VERSION);
+        t.buf.putInt(CAPACITY_OFFSET, capacity);
+        return t;
+      }
+    }
+
+    static Table open(Path path) throws IOException {
+      try (FileChannel channel =
+          FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        int capacity = header.getInt(CAPACITY_OFFSET);
+        if (header.getInt(MAGIC_OFFSET) != MAGIC
+            || header.getInt(VERSION_OFFSET) != VERSION
+            || capacity < MIN_CAPACITY
+            || capacity > MAX_CAPACITY
+            || Integer.bitCount(capacity) != 1
+            || channel.size() != fileSize(capacity)) {
+          throw new IllegalStateException(
+              "리프레시 토큰 저장소 파일 형식이 올바르지 않습니다. path: " + path);
+        }
+        return new Table(map(channel, capacity), capacity);
+      }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, int capacity) throws IOException {
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+    }
+
+    static long fileSize(int capacity) {
+      return HEADER_SIZE + (long) capacity * (TOKEN_SLOT_SIZE + USER_SLOT_SIZE);
+    }
+
+    int tokenOffset(int slot) {
+      return HEADER_SIZE + slot * TOKEN_SLOT_SIZE;
+    }
+
+    int userOffset(int slot) {
+      return userRegion + slot * USER_SLOT_SIZE;
+    }
+
+    long size() {
+      return buf.getLong(SIZE_OFFSET);
+    }
+
+    void setSize(long size) {
+      buf.putLong(SIZE_OFFSET, size);
+    }
+
+    boolean isDirty() {
+      return buf.getInt(DIRTY_OFFSET) != 0;
+    }
+
+    void setDirty(boolean dirty) {
+      buf.putInt(DIRTY_OFFSET, dirty ? 1 : 0);
+    }
+
+    TokenDigest readDigest(int offset) {
+      return new TokenDigest(
+          buf.getLong(offset),
+          buf.getLong(offset + 8),
+          buf.getLong(offset + 16),
+          buf.getLong(offset + 24));
+    }
+
+    void writeDigest(int offset, TokenDigest digest) {
+      buf.putLong(offset, digest.w0());
+      buf.putLong(offset + 8, digest.w1());
+      buf.putLong(offset + 16, digest.w2());
+      buf.putLong(offset + 24, digest.w3());
+    }
+
+    boolean digestEquals(int offset, TokenDigest digest) {
+      return buf.getLong(offset) == digest.w0()
+          && buf.getLong(offset + 8) == digest.w1()
+          && buf.getLong(offset + 16) == digest.w2()
+          && buf.getLong(offset + 24) == digest.w3();
+    }
+  }
+}
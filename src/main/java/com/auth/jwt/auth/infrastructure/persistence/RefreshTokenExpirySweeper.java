@@ -0,0 +1,20 @@
+package com.auth.jwt.auth.infrastructure.persistence;
+
+import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** 설정으로 선택된 리프레시 토큰 저장소의 만료 세션을 주기적으로 정리한다. */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenExpirySweeper {
+  private final RefreshTokenStoragePort refreshTokenStoragePort;
+
+  @Scheduled(
+      fixedDelayString = "${jwt.refreshTokenStore.sweepInterval:60000}",
+      initialDelayString = "${jwt.refreshTokenStore.sweepInterval:60000}")
+  public void sweep() {
+    refreshTokenStoragePort.evictExpired();
+  }
+}
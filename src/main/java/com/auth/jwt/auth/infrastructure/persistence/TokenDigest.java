@@ -0,0 +1,52 @@
+package com.auth.jwt.auth.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 값의 SHA-256 다이제스트(32바이트)를 long 네 개로 보관한다. 저장소는 토큰 원문 대신 이 값만 키로 들고 있는다.
+ */
+record TokenDigest(long w0, long w1, long w2, long w3) {
+  static final int LENGTH = 32;
+
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(TokenDigest::newSha256);
+  private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[LENGTH]);
+
+  static TokenDigest of(String tokenValue) {
+    MessageDigest sha256 = SHA_256.get();
+    byte[] hash = BUFFER.get();
+    sha256.update(tokenValue.getBytes(StandardCharsets.UTF_8));
+    try {
+      sha256.digest(hash, 0, LENGTH);
+    } catch (DigestException e) {
+      throw new IllegalStateException("토큰 다이제스트 계산에 실패했습니다.", e);
+    }
+    return new TokenDigest(
+        readLong(hash, 0), readLong(hash, 8), readLong(hash, 16), readLong(hash, 24));
+  }
+
+  // 앞 8바이트는 이미 균일하게 분포되어 있으므로 그대로 해시로 쓴다.
+  @Override
+  public int hashCode() {
+    return Long.hashCode(w0);
+  }
+
+  private static long readLong(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[offset + i] & 0xFF);
+    }
+    return value;
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.auth.jwt.auth.presentation;
+
+import com.auth.jwt.auth.application.model.PublicKeySet;
+import com.auth.jwt.auth.application.port.PublicKeySetPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "토큰 검증 키", description = "다른 서비스의 로컬 토큰 검증을 위한 공개키 API")
+public class JwksController {
+  private final PublicKeySetPort publicKeySetPort;
+
+  @Operation(
+      summary = "JWKS 조회",
+      description =
+          """
+          ES256, EdDSA 서명 검증용 공개키 목록을 JWKS 형식으로 반환합니다.
+
+          **캐시**: 강한 ETag 와 Cache-Control(max-age) 헤더를 제공합니다. If-None-Match 가
+          일치하면 304 를 반환합니다.
+
+          **참고**: 이 API는 인증이 필요하지 않습니다.
+          """)
+  @SecurityRequirements(value = {}) // 이 API는 인증이 필요하지 않음
+  @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<String> getJwks() {
+    PublicKeySet publicKeySet = publicKeySetPort.getPublicKeySet();
+
+    // ETag 가 If-None-Match 와 일치하면 Spring 이 본문 없이 304 로 응답한다.
+    return ResponseEntity.ok()
+        .eTag(publicKeySet.etag())
+        .cacheControl(
+            CacheControl.maxAge(Duration.ofSeconds(publicKeySet.maxAgeSeconds())).cachePublic())
+        .body(publicKeySet.json());
+  }
+}
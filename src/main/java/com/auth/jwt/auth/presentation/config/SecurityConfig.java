@@ -66,9 +66,17 @@ public class SecurityConfig {
                 // register auth (REST API)
                 .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/refresh")
                 .permitAll()
+                // 토큰 검증 공개키(JWKS)
+                .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json")
+                .permitAll()
                 // register user
                 .requestMatchers(HttpMethod.POST, "/users")
                 .permitAll()
+                // 상태 확인은 공개하고 지표는 관리자만 조회
+                .requestMatchers(HttpMethod.GET, "/actuator/health")
+                .permitAll()
+                .requestMatchers("/actuator/**")
+                .hasRole("ADMIN")
                 // any request
                 .requestMatchers("/admin/**")
                 .hasRole("ADMIN")
@@ -1,12 +1,15 @@
 package com.auth.jwt.auth.presentation.filter;
 
 import com.auth.jwt.auth.application.AuthenticationService;
+import com.auth.jwt.auth.application.dto.command.CreateTokenPairCommand;
 import com.auth.jwt.auth.application.dto.command.SaveRefreshCommand;
 import com.auth.jwt.auth.application.dto.result.AuthenticationResult;
 import com.auth.jwt.auth.application.dto.result.CreateTokenPairResult;
 import com.auth.jwt.auth.presentation.dto.request.LoginRequest;
 import com.auth.jwt.auth.presentation.dto.response.LoginResponse;
 import com.auth.jwt.auth.presentation.utils.AuthResponseSender;
+import com.auth.jwt.common.exception.ExceptionDetail;
+import com.auth.jwt.common.exception.ServiceUnavailableException;
 import com.auth.jwt.common.model.CustomPrincipal;
 import com.auth.jwt.common.utils.LoggingUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -49,10 +52,18 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
       AuthenticationResult result =
           authenticationService.getUserByCredentialInfo(loginRequest.toInfo());
-      CustomPrincipal principal = new CustomPrincipal(result.id(), result.role());
+      CustomPrincipal principal =
+          new CustomPrincipal(result.id(), result.role(), result.username());
 
       return new UsernamePasswordAuthenticationToken(
           principal, null, extractAuthorities(principal.role()));
+    } catch (ServiceUnavailableException e) {
+      // 인증 실패가 아니므로 401 대신 503 을 보내고, null 을 돌려 필터 체인을 여기서 끝낸다.
+      log.warn("로그인 처리 용량 초과 - IP: {}", LoggingUtil.getClientIp(request));
+      ExceptionDetail detail = e.getExceptionDetail();
+      authResponseSender.sendServiceUnavailableResponse(
+          request, response, e.getRetryAfterSeconds(), detail.getCode(), detail.getMessage());
+      return null;
     } catch (com.auth.jwt.auth.application.exception.AuthenticationException e) {
       log.error("자격 증명 중 오류: {}", e.getMessage());
       throw new AuthenticationException(e.getMessage()) {};
@@ -97,7 +108,9 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
       CustomPrincipal principal = (CustomPrincipal) authResult.getPrincipal();
       Long userId = principal.id();
 
-      CreateTokenPairResult result = authenticationService.createAuthenticationToken(userId);
+      CreateTokenPairResult result =
+          authenticationService.createAuthenticationToken(
+              new CreateTokenPairCommand(userId, principal.username(), principal.role()));
 
       authenticationService.saveRefreshToken(new SaveRefreshCommand(userId, result.refreshToken()));
 
@@ -40,6 +40,7 @@ public class AuthorizationFilter extends OncePerRequestFilter {
         || (path.startsWith("/v3/api-docs"))
         || (path.equals("/swagger-ui.html"))
         || (path.equals("/users") && method.equals("POST"))
+        || (path.equals("/.well-known/jwks.json") && method.equals("GET"))
         || (path.equals("/errors"));
   }
 
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
@@ -53,6 +54,17 @@ public class AuthResponseSender {
     }
   }
 
+  public void sendServiceUnavailableResponse(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      long retryAfterSeconds,
+      String code,
+      String message) {
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    sendErrorResponse(
+        request, response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, code, message, null);
+  }
+
   private void configureResponse(HttpServletResponse response, int statusCode) {
     response.setStatus(statusCode);
     response.setContentType(MediaType.APPLICATION_JSON_VALUE);
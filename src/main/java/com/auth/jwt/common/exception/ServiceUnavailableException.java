@@ -0,0 +1,16 @@
+package com.auth.jwt.common.exception;
+
+import lombok.Getter;
+
+/** 처리 용량이 가득 차 요청을 받지 못했을 때 던진다. 클라이언트는 retryAfterSeconds 뒤에 다시 시도한다. */
+@Getter
+public class ServiceUnavailableException extends RuntimeException implements CustomException {
+  private final ExceptionDetail exceptionDetail;
+  private final long retryAfterSeconds;
+
+  public ServiceUnavailableException(ExceptionDetail exceptionDetail, long retryAfterSeconds) {
+    super(exceptionDetail.getMessage());
+    this.exceptionDetail = exceptionDetail;
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -58,6 +58,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     return ResponseBuilder.build(exception, HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public final ResponseEntity<ErrorResponse> handleServiceUnavailableExceptions(
+      ServiceUnavailableException exception, WebRequest request) {
+    log.warn("처리 용량 초과, {} - {}", request.getDescription(false), exception.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+        .body(ErrorResponse.from(exception.getExceptionDetail(), null));
+  }
+
   @ExceptionHandler(AuthorizationDeniedException.class)
   public final ResponseEntity<Object> handleAuthorizationDeniedException(
       AuthorizationDeniedException exception, WebRequest request) {
@@ -1,3 +1,8 @@
 package com.auth.jwt.common.model;
 
-public record CustomPrincipal(Long id, String role) {}
+/** username 은 로그인 요청에서만 채운다. 토큰으로 인가한 요청에서는 null 이다. */
+public record CustomPrincipal(Long id, String role, String username) {
+  public CustomPrincipal(Long id, String role) {
+    this(id, role, null);
+  }
+}
@@ -8,6 +8,9 @@ public interface UserQueryFacade {
 
   void validateCredentials(String username, String rawPassword) throws BusinessException;
 
+  /** 자격 증명을 확인하고, 확인에 쓴 사용자를 그대로 돌려준다. 저장소는 한 번만 조회한다. */
+  User authenticate(String username, String rawPassword) throws BusinessException;
+
   User getById(Long id);
 
   boolean existsById(Long id);
@@ -2,6 +2,7 @@ package com.auth.jwt.user.application;
 
 import com.auth.jwt.user.application.dto.command.RoleGrantCommand;
 import com.auth.jwt.user.application.dto.command.SignupCommand;
+import com.auth.jwt.user.application.event.UserChangedEvent;
 import com.auth.jwt.user.application.exception.UserAlreadyExistsException;
 import com.auth.jwt.user.application.exception.UserExceptionHandler;
 import com.auth.jwt.user.application.exception.UserNotFoundException;
@@ -10,10 +11,15 @@ import com.auth.jwt.user.domain.entity.User;
 import com.auth.jwt.user.domain.repository.UserRepository;
 import com.auth.jwt.user.domain.service.IdGenerator;
 import com.auth.jwt.user.domain.service.PasswordEncryptionProvider;
+import com.auth.jwt.user.domain.vo.Password;
 import com.auth.jwt.user.domain.vo.UserId;
 import com.auth.jwt.user.domain.vo.Username;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -24,22 +30,54 @@ public class UserCommandService {
   private final UserRepository userRepository;
   private final IdGenerator idGenerator;
   private final PasswordEncryptionProvider encryptionProvider;
+  private final ApplicationEventPublisher eventPublisher;
 
+  /**
+   * 사용자명을 먼저 선점하고 비밀번호를 해시한다. 중복 가입은 해시 비용을 치르기 전에 거절되고, 동시에 같은 사용자명으로 가입해도 하나만
+   * 저장된다. 선점 뒤 실패하면 사용자명을 놓는다.
+   */
   public User signup(SignupCommand command) {
-
-    String usernameValue = command.username();
-
-    if (userRepository.existsByUsername(Username.of(usernameValue))) {
+    Username username = Username.of(command.username());
+    UserId userId = UserId.of(idGenerator.generate());
+    if (!userRepository.reserveUsername(username, userId)) {
       throw new UserAlreadyExistsException();
     }
 
-    User user =
-        User.create(
-            idGenerator, usernameValue, command.password(), encryptionProvider, command.nickname());
-    User savedUser = userRepository.save(user);
-    log.info("신규 회원 가입, username: {}", savedUser.getUsername());
+    try {
+      User user = create(userId, command);
+      User savedUser = userRepository.save(user);
+      log.info("신규 회원 가입, username: {}", savedUser.getUsername());
+      return savedUser;
+    } catch (RuntimeException e) {
+      userRepository.releaseUsername(username, userId);
+      throw e;
+    }
+  }
 
-    return savedUser;
+  /** 여러 회원을 한 번에 가입시킨다. 중복 사용자명이 하나라도 있으면 해시하기 전에 거절하고 아무도 저장하지 않는다. */
+  public List<User> signupAll(List<SignupCommand> commands) {
+    Map<Username, UserId> reserved = new LinkedHashMap<>();
+    try {
+      for (SignupCommand command : commands) {
+        Username username = Username.of(command.username());
+        UserId userId = UserId.of(idGenerator.generate());
+        if (reserved.containsKey(username) || !userRepository.reserveUsername(username, userId)) {
+          throw new UserAlreadyExistsException();
+        }
+        reserved.put(username, userId);
+      }
+
+      List<User> users =
+          commands.stream()
+              .map(command -> create(reserved.get(Username.of(command.username())), command))
+              .toList();
+      List<User> savedUsers = userRepository.saveAll(users);
+      log.info("신규 회원 일괄 가입, 건수: {}", savedUsers.size());
+      return savedUsers;
+    } catch (RuntimeException e) {
+      reserved.forEach(userRepository::releaseUsername);
+      throw e;
+    }
   }
 
   public User grantAdminRole(RoleGrantCommand command) {
@@ -49,11 +87,30 @@ public class UserCommandService {
             .orElseThrow(() -> new UserNotFoundException());
     User grantAdminRoleUser = user.grantAdminRole();
     User updatedUser = userRepository.update(grantAdminRoleUser);
+    eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId().getValue()));
     log.info("Admin role 이 다음 유저에게 부여됨: {}", updatedUser.toString());
 
     return updatedUser;
   }
 
+  /**
+   * 저장된 해시를 같은 비밀번호의 새 해시로 바꾼다. 그 사이 비밀번호가 바뀌었거나 다른 요청이 먼저 바꿨으면 아무것도 하지 않는다.
+   *
+   * @return 바꿨으면 true
+   */
+  public boolean rehashPassword(long userId, String previousHash, String newHash) {
+    User user =
+        userRepository.findById(UserId.of(userId)).orElseThrow(() -> new UserNotFoundException());
+    if (!user.getPassword().getValue().equals(previousHash)) {
+      return false;
+    }
+
+    User updatedUser = userRepository.update(user.changePassword(Password.ofEncrypted(newHash)));
+    eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId().getValue()));
+    log.info("비밀번호 해시 갱신, userId: {}", userId);
+    return true;
+  }
+
   public User createUser(long id, SignupCommand command, Role role) {
     User user =
         User.create(
@@ -66,4 +123,14 @@ public class UserCommandService {
     User savedUser = userRepository.save(user);
     return savedUser;
   }
+
+  private User create(UserId userId, SignupCommand command) {
+    return User.create(
+        userId.getValue(),
+        command.username(),
+        command.password(),
+        encryptionProvider,
+        command.nickname(),
+        Role.getDefault());
+  }
 }
@@ -1,6 +1,7 @@
 package com.auth.jwt.user.application;
 
 import com.auth.jwt.common.percade.UserQueryFacade;
+import com.auth.jwt.user.application.event.PasswordRehashRequestedEvent;
 import com.auth.jwt.user.application.exception.UserBusinessException;
 import com.auth.jwt.user.application.exception.UserNotFoundException;
 import com.auth.jwt.user.domain.entity.User;
@@ -10,6 +11,7 @@ import com.auth.jwt.user.domain.vo.UserId;
 import com.auth.jwt.user.domain.vo.Username;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -19,9 +21,15 @@ public class UserQueryService implements UserQueryFacade {
 
   private final UserRepository userRepository;
   private final PasswordEncryptionProvider passwordEncryptionProvider;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public void validateCredentials(String username, String rawPassword) {
+    authenticate(username, rawPassword);
+  }
+
+  @Override
+  public User authenticate(String username, String rawPassword) {
     User user =
         userRepository
             .findByUsername(Username.of(username))
@@ -31,16 +39,26 @@ public class UserQueryService implements UserQueryFacade {
     if (!user.getPassword().matches(rawPassword, passwordEncryptionProvider)) {
       throw new UserBusinessException("NOT_MATCH_USER_INFO", "아이디 또는 비밀번호가 올바르지 않습니다.");
     }
+
+    // 원문 비밀번호는 지금만 알 수 있으므로 여기서 다시 해시를 요청한다. 로그인 응답은 기다리지 않는다.
+    if (user.getPassword().needsRehash(passwordEncryptionProvider)) {
+      eventPublisher.publishEvent(
+          new PasswordRehashRequestedEvent(
+              user.getId().getValue(), user.getPassword().getValue(), rawPassword));
+    }
+    return user;
   }
 
   @Override
   public User getById(Long id) {
-    return userRepository.findById(UserId.of(id)).orElseThrow(() -> new UserNotFoundException());
+    return userRepository
+        .findById(UserId.requireValid(id))
+        .orElseThrow(() -> new UserNotFoundException());
   }
 
   @Override
   public boolean existsById(Long id) {
-    return userRepository.existsById(UserId.of(id));
+    return userRepository.existsById(UserId.requireValid(id));
   }
 
   @Override
@@ -0,0 +1,12 @@
+package com.auth.jwt.user.application.event;
+
+/**
+ * 로그인에 성공한 사용자의 해시가 지금 설정과 다른 알고리즘이나 비용으로 만들어졌음을 알린다. 원문 비밀번호를 담으므로 프로세스 밖으로 내보내거나 로그에 남기지
+ * 않는다.
+ */
+public record PasswordRehashRequestedEvent(long userId, String currentHash, String rawPassword) {
+  @Override
+  public String toString() {
+    return "PasswordRehashRequestedEvent[userId=" + userId + "]";
+  }
+}
@@ -0,0 +1,4 @@
+package com.auth.jwt.user.application.event;
+
+/** 저장된 사용자의 역할이나 정보가 바뀌었음을 알린다. 사용자 조회 캐시가 이 이벤트로 항목을 무효화한다. */
+public record UserChangedEvent(long userId) {}
@@ -0,0 +1,10 @@
+package com.auth.jwt.user.application.exception;
+
+import com.auth.jwt.common.exception.DuplicateResourceException;
+import com.auth.jwt.common.exception.ExceptionDetail;
+
+public class UserUpdateConflictException extends DuplicateResourceException {
+  public UserUpdateConflictException(String code, String message) {
+    super(ExceptionDetail.of(code, message));
+  }
+}
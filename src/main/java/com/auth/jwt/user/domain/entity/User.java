@@ -15,13 +15,21 @@ public class User {
   private final Password password;
   private final Nickname nickname;
   private final Role role;
+  // 저장소가 변경을 반영할 때마다 1씩 늘린다. 변경은 읽어 온 버전이 저장된 버전과 같을 때만 성공한다.
+  private final long version;
 
   public User(UserId id, Username username, Password password, Nickname nickname, Role role) {
+    this(id, username, password, nickname, role, 0);
+  }
+
+  public User(
+      UserId id, Username username, Password password, Nickname nickname, Role role, long version) {
     this.id = id;
     this.username = username;
     this.password = password;
     this.nickname = nickname;
     this.role = role;
+    this.version = version;
   }
 
   public static User create(
@@ -50,7 +58,15 @@ public class User {
   }
 
   public User grantAdminRole() {
-    return new User(id, username, password, nickname, Role.ADMIN);
+    return new User(id, username, password, nickname, Role.ADMIN, version);
+  }
+
+  public User changeUsername(String newUsername) {
+    return new User(id, Username.of(newUsername), password, nickname, role, version);
+  }
+
+  public User changePassword(Password newPassword) {
+    return new User(id, username, newPassword, nickname, role, version);
   }
 
   @Override
@@ -75,6 +91,8 @@ public class User {
         + ", nickname= "
         + nickname.toString()
         + ", role= "
-        + role.getAuthority();
+        + role.getAuthority()
+        + ", version= "
+        + version;
   }
 }
@@ -0,0 +1,33 @@
+package com.auth.jwt.user.domain.exception;
+
+/** 낙관적 동시성 검사에 실패한 변경. 읽은 뒤 다른 요청이 먼저 사용자를 바꿨거나, 바꾸려는 사용자명을 이미 누가 쓰고 있다. */
+public class UserConcurrentModificationException extends UserException {
+  private final String code;
+
+  private UserConcurrentModificationException(String code, String message) {
+    super(message);
+    this.code = code;
+  }
+
+  public static UserConcurrentModificationException versionMismatch(
+      long userId, long expectedVersion, long actualVersion) {
+    return new UserConcurrentModificationException(
+        "USER_VERSION_CONFLICT",
+        "다른 요청이 먼저 사용자 정보를 변경했습니다. 다시 조회한 뒤 시도해 주세요. id: "
+            + userId
+            + ", 기대 버전: "
+            + expectedVersion
+            + ", 현재 버전: "
+            + actualVersion);
+  }
+
+  public static UserConcurrentModificationException usernameTaken(String username) {
+    return new UserConcurrentModificationException(
+        "USERNAME_ALREADY_TAKEN", "이미 사용 중인 사용자명입니다. username: " + username);
+  }
+
+  @Override
+  public String getCode() {
+    return code;
+  }
+}
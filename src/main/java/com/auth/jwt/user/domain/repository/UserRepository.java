@@ -1,8 +1,10 @@
 package com.auth.jwt.user.domain.repository;
 
 import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
 import com.auth.jwt.user.domain.vo.UserId;
 import com.auth.jwt.user.domain.vo.Username;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -10,10 +12,36 @@ public interface UserRepository {
 
   boolean existsById(UserId userId); // DDD 개선: 존재 여부만 확인하는 메서드 추가
 
+  /**
+   * 가입할 사용자명을 userId 앞으로 선점한다. 이미 저장된 사용자명이거나 다른 가입이 먼저 선점했으면 false. 선점한 사용자명은 같은
+   * userId 의 사용자만 저장할 수 있으므로, 저장하지 않기로 했으면 {@link #releaseUsername} 으로 놓아야 한다.
+   */
+  boolean reserveUsername(Username username, UserId userId);
+
+  /** 선점만 하고 저장하지 않은 사용자명을 놓는다. 이미 저장된 사용자의 사용자명은 건드리지 않는다. */
+  void releaseUsername(Username username, UserId userId);
+
+  /** 사용자명을 다른 사용자가 쓰거나 선점했으면 덮어쓰지 않고 {@link UserConcurrentModificationException}. */
   User save(User user);
 
+  /** 여러 사용자를 한 번에 저장한다. 기본 구현은 한 건씩 save 하며, 외부 저장소는 배치로 보내도록 재정의한다. */
+  default List<User> saveAll(List<User> users) {
+    users.forEach(this::save);
+    return users;
+  }
+
   Optional<User> findById(UserId userId);
 
+  /** 식별자 래퍼 없이 존재 여부를 확인한다. 기본 구현은 UserId 로 위임한다. */
+  default boolean existsById(long userId) {
+    return existsById(UserId.of(userId));
+  }
+
+  /** 식별자 래퍼 없이 조회한다. 기본 구현은 UserId 로 위임한다. */
+  default Optional<User> findById(long userId) {
+    return findById(UserId.of(userId));
+  }
+
   Optional<User> findByUsername(Username username);
 
   User update(User grantAdminRoleUser);
@@ -4,4 +4,9 @@ public interface PasswordEncryptionProvider {
   String encode(String plainPassword);
 
   boolean matches(String plainPassword, String value);
+
+  /** 저장된 해시가 지금 설정과 다른 알고리즘이나 비용으로 만들어졌으면 true. 로그인에 성공하면 새 설정으로 다시 해시한다. */
+  default boolean needsRehash(String value) {
+    return false;
+  }
 }
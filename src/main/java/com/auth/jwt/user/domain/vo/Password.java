@@ -24,6 +24,14 @@ public class Password {
     return new Password(passwordEncryptionProvider.encode(plainPassword));
   }
 
+  /** 저장소에서 읽은 암호화된 값으로 복원한다. 이미 검증과 암호화를 거친 값이므로 다시 하지 않는다. */
+  public static Password ofEncrypted(String encryptedValue) {
+    if (encryptedValue == null || encryptedValue.isBlank()) {
+      throw new UserEmptyException(UserDomainField.PASSWORD);
+    }
+    return new Password(encryptedValue);
+  }
+
   private static void validatePassword(String plainPassword) {
     if (plainPassword == null || plainPassword.isBlank()) {
       throw new UserEmptyException(UserDomainField.PASSWORD);
@@ -44,6 +52,14 @@ public class Password {
     return passwordEncryptionService.matches(plainPassword, this.value);
   }
 
+  public boolean needsRehash(PasswordEncryptionProvider passwordEncryptionService) {
+    return passwordEncryptionService.needsRehash(this.value);
+  }
+
+  public String getValue() {
+    return value;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) return true;
@@ -16,6 +16,12 @@ public class UserId {
     return new UserId(value);
   }
 
+  /** 래퍼를 만들지 않고 검증만 한 뒤 값을 반환한다. */
+  public static long requireValid(Long value) {
+    validateUserId(value);
+    return value;
+  }
+
   private static void validateUserId(Long value) {
     if (value == null) {
       throw new UserEmptyException(UserDomainField.ID);
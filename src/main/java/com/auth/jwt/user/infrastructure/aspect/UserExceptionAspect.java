@@ -3,6 +3,8 @@ package com.auth.jwt.user.infrastructure.aspect;
 import com.auth.jwt.user.application.exception.InvalidUserValueException;
 import com.auth.jwt.user.application.exception.UserBusinessException;
 import com.auth.jwt.user.application.exception.UserExceptionHandler;
+import com.auth.jwt.user.application.exception.UserUpdateConflictException;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
 import com.auth.jwt.user.domain.exception.UserException;
 import com.auth.jwt.user.domain.exception.UserInvalidValueException;
 import java.util.Arrays;
@@ -57,6 +59,14 @@ public class UserExceptionAspect {
           e.getCode(),
           e.getMessage());
       throw new InvalidUserValueException(e.getCode(), e.getMessage());
+    } catch (UserConcurrentModificationException e) {
+      log.warn(
+          "{}.{} 실행 중 동시 변경 충돌 - 코드: {}, 상세: {}",
+          className,
+          methodName,
+          e.getCode(),
+          e.getMessage());
+      throw new UserUpdateConflictException(e.getCode(), e.getMessage());
     } catch (UserException e) {
       log.warn(
           "{}.{} 실행 중 도메인 예외 - 코드: {}, 상세: {}", className, methodName, e.getCode(), e.getMessage());
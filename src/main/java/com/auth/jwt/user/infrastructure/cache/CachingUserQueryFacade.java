@@ -0,0 +1,199 @@
+package com.auth.jwt.user.infrastructure.cache;
+
+import com.auth.jwt.common.exception.BusinessException;
+import com.auth.jwt.common.percade.UserQueryFacade;
+import com.auth.jwt.user.application.event.UserChangedEvent;
+import com.auth.jwt.user.domain.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 인가 경로의 식별자 조회(existsById, getById)를 사용자 식별자 기준으로 보관하는 고정 크기 캐시.
+ *
+ * <p>슬롯 배열은 direct-mapped 구조로, 같은 슬롯에 다른 사용자가 들어오면 기존 항목을 덮어쓴다(eviction). 항목은 TTL 이 지나거나
+ * {@link UserChangedEvent} 를 받으면 사라진다. 존재하지 않는 사용자는 가입 직후 바로 보여야 하므로 캐시하지 않는다. 사용자명
+ * 조회와 자격 증명 확인은 그대로 위임한다.
+ *
+ * <p>existsById 가 미스에서 존재를 확인하면 사용자 없이 존재만 담은 항목을 넣는다. getById 는 이 항목을 미스로 보고 사용자를 담은
+ * 항목으로 덮어쓴다. 적중, 미스, eviction, 무효화 횟수와 크기는 {@code cache=user-query} 태그를 단 {@code cache.*} 지표로
+ * 내보낸다.
+ */
+public class CachingUserQueryFacade implements UserQueryFacade, MeterBinder {
+  private static final String CACHE_NAME = "user-query";
+
+  private final UserQueryFacade delegate;
+  private final AtomicReferenceArray<Entry> slots;
+  private final long ttl;
+  private final Clock clock;
+
+  // 무효화마다 증가. 조회 중 무효화가 끼어들면 읽어 온 값을 버리는 데 쓴다.
+  private final AtomicLong invalidationSequence = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  public CachingUserQueryFacade(UserQueryFacade delegate, int maximumSize, long ttl, Clock clock) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("캐시 최대 크기는 양수여야 합니다.");
+    }
+    this.delegate = delegate;
+    this.slots = new AtomicReferenceArray<>(maximumSize);
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  @Override
+  public User getById(Long id) {
+    if (id == null) {
+      return delegate.getById(id);
+    }
+
+    Entry entry = lookup(id, true);
+    if (entry != null) {
+      return entry.user;
+    }
+
+    long sequence = invalidationSequence.get();
+    User user = delegate.getById(id);
+    store(new Entry(id, user, clock.instant().plusMillis(ttl)), sequence);
+    return user;
+  }
+
+  @Override
+  public boolean existsById(Long id) {
+    if (id == null) {
+      return delegate.existsById(id);
+    }
+    if (lookup(id, false) != null) {
+      return true;
+    }
+
+    long sequence = invalidationSequence.get();
+    boolean exists = delegate.existsById(id);
+    if (exists) {
+      store(new Entry(id, null, clock.instant().plusMillis(ttl)), sequence);
+    }
+    return exists;
+  }
+
+  @Override
+  public User getByUsername(String username) {
+    return delegate.getByUsername(username);
+  }
+
+  @Override
+  public void validateCredentials(String username, String rawPassword) throws BusinessException {
+    delegate.validateCredentials(username, rawPassword);
+  }
+
+  @Override
+  public User authenticate(String username, String rawPassword) throws BusinessException {
+    return delegate.authenticate(username, rawPassword);
+  }
+
+  @EventListener
+  public void onUserChanged(UserChangedEvent event) {
+    invalidate(event.userId());
+  }
+
+  public void invalidate(long userId) {
+    invalidationSequence.incrementAndGet();
+    int index = indexOf(userId);
+    Entry entry = slots.get(index);
+    if (entry != null && entry.userId == userId && slots.compareAndSet(index, entry, null)) {
+      invalidations.increment();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+        .tags("cache", CACHE_NAME, "result", "hit")
+        .description("캐시에서 찾은 사용자 조회 횟수")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+        .tags("cache", CACHE_NAME, "result", "miss")
+        .description("저장소까지 간 사용자 조회 횟수")
+        .register(registry);
+    FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+        .tag("cache", CACHE_NAME)
+        .description("만료되거나 다른 사용자에 밀려난 항목 수")
+        .register(registry);
+    FunctionCounter.builder("cache.removals", invalidations, LongAdder::sum)
+        .tag("cache", CACHE_NAME)
+        .description("사용자 변경으로 무효화한 항목 수")
+        .register(registry);
+    Gauge.builder("cache.size", this, CachingUserQueryFacade::size)
+        .tag("cache", CACHE_NAME)
+        .description("캐시에 든 항목 수")
+        .register(registry);
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size());
+  }
+
+  private int size() {
+    int size = 0;
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  // 사용자가 필요한 조회는 존재만 담은 항목을 미스로 본다. 이 항목은 곧 사용자를 담은 항목으로 덮어쓰므로 비우지 않는다.
+  private Entry lookup(long userId, boolean needsUser) {
+    int index = indexOf(userId);
+    Entry entry = slots.get(index);
+    if (entry != null && entry.userId == userId && (entry.user != null || !needsUser)) {
+      if (clock.instant().isBefore(entry.expiresAt)) {
+        hits.increment();
+        return entry;
+      }
+      if (slots.compareAndSet(index, entry, null)) {
+        evictions.increment();
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  // 넣은 뒤 무효화 순번이 바뀌었으면 조회 도중 변경된 것이므로 방금 넣은 항목을 되돌린다.
+  private void store(Entry entry, long sequence) {
+    int index = indexOf(entry.userId);
+    Entry previous = slots.getAndSet(index, entry);
+    if (previous != null && previous.userId != entry.userId) {
+      evictions.increment();
+    }
+    if (invalidationSequence.get() != sequence) {
+      slots.compareAndSet(index, entry, null);
+    }
+  }
+
+  private int indexOf(long userId) {
+    long mixed = userId * 0x9E3779B97F4A7C15L;
+    return Math.floorMod((int) (mixed >>> 32), slots.length());
+  }
+
+  // user 가 null 이면 existsById 로 존재만 확인한 항목이다.
+  private record Entry(long userId, User user, Instant expiresAt) {}
+
+  public record CacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+    public double hitRate() {
+      long requests = hits + misses;
+      return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+  }
+}
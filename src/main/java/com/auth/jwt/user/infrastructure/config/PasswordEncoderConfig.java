@@ -1,15 +1,102 @@
 package com.auth.jwt.user.infrastructure.config;
 
+import com.auth.jwt.user.infrastructure.encryption.CalibratedBCryptPasswordEncoder;
+import com.auth.jwt.user.infrastructure.encryption.PasswordHashingExecutor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
+  private static final String BCRYPT_ID = "bcrypt";
+  private static final String ARGON2ID_ID = "argon2id";
+  private static final String PBKDF2_ID = "pbkdf2";
 
+  /**
+   * 해시 앞에 알고리즘 접두사를 붙이는 위임 인코더. 새 해시는 설정한 알고리즘으로 만들고, 다른 알고리즘의 해시도 검증한 뒤 {@link
+   * PasswordEncoder#upgradeEncoding} 으로 다시 해시할 대상임을 알린다.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(UserProperties userProperties) {
+    UserProperties.PasswordHashing hashing = userProperties.getPasswordHashing();
+    PasswordEncoder bcrypt = bcrypt(hashing);
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(BCRYPT_ID, bcrypt);
+    encoders.put(ARGON2ID_ID, argon2(hashing.getArgon2()));
+    encoders.put(PBKDF2_ID, pbkdf2(hashing.getPbkdf2()));
+
+    String idForEncode =
+        switch (hashing.getAlgorithm()) {
+          case BCRYPT -> BCRYPT_ID;
+          case ARGON2ID -> ARGON2ID_ID;
+          case PBKDF2 -> PBKDF2_ID;
+        };
+    log.info("비밀번호 해시 알고리즘: {}", idForEncode);
+
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+    // 접두사가 없는 해시는 알고리즘 접두사를 붙이기 전에 저장된 BCrypt 해시다.
+    encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+    return encoder;
+  }
+
+  @Bean(destroyMethod = "close")
+  public PasswordHashingExecutor passwordHashingExecutor(UserProperties userProperties) {
+    UserProperties.PasswordHashing hashing = userProperties.getPasswordHashing();
+    int threads =
+        hashing.getThreads() > 0
+            ? hashing.getThreads()
+            : Runtime.getRuntime().availableProcessors();
+
+    log.info(
+        "비밀번호 해시 스레드 풀 - 스레드: {}, 대기열: {}, 최대 대기: {}ms",
+        threads,
+        hashing.getQueueCapacity(),
+        hashing.getMaxWait());
+    return new PasswordHashingExecutor(
+        threads, hashing.getQueueCapacity(), hashing.getMaxWait(), hashing.getRetryAfter());
+  }
+
+  private PasswordEncoder bcrypt(UserProperties.PasswordHashing hashing) {
+    if (hashing.getStrength() > 0) {
+      log.info("BCrypt 비용: {}", hashing.getStrength());
+      return new CalibratedBCryptPasswordEncoder(hashing.getStrength());
+    }
+    // 다른 알고리즘으로 해시할 때 BCrypt 는 기존 해시 검증에만 쓰므로 보정하지 않는다.
+    if (hashing.getAlgorithm() != UserProperties.PasswordHashing.Algorithm.BCRYPT) {
+      return new BCryptPasswordEncoder();
+    }
+
+    long started = System.nanoTime();
+    CalibratedBCryptPasswordEncoder encoder =
+        CalibratedBCryptPasswordEncoder.calibrate(hashing.getTargetLatency());
+    log.info(
+        "BCrypt 비용 보정 - 목표: {}ms, 비용: {}, 보정 소요: {}ms",
+        hashing.getTargetLatency(),
+        encoder.getStrength(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    return encoder;
+  }
+
+  private PasswordEncoder argon2(UserProperties.Argon2 argon2) {
+    return new Argon2PasswordEncoder(
+        argon2.getSaltLength(),
+        argon2.getHashLength(),
+        argon2.getParallelism(),
+        argon2.getMemory(),
+        argon2.getIterations());
+  }
+
+  private PasswordEncoder pbkdf2(UserProperties.Pbkdf2 pbkdf2) {
+    return new Pbkdf2PasswordEncoder(
+        "", pbkdf2.getSaltLength(), pbkdf2.getIterations(), pbkdf2.getAlgorithm());
   }
 }
@@ -0,0 +1,106 @@
+package com.auth.jwt.user.infrastructure.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "user")
+public class UserProperties {
+  private Store store = new Store();
+  private Cache cache = new Cache();
+  private BloomFilter bloomFilter = new BloomFilter();
+  private PasswordHashing passwordHashing = new PasswordHashing();
+
+  @Data
+  public static class Store {
+    private Type type = Type.MEMORY;
+    // DURABLE: 로그 세그먼트와 스냅숏을 두는 디렉터리
+    private String directory = "data/users";
+    // DURABLE: 스냅숏 주기(ms). 스냅숏에 포함된 로그 세그먼트는 지운다.
+    private long snapshotInterval = 300_000;
+    // JDBC: 연결 풀과 배치 설정
+    private Jdbc jdbc = new Jdbc();
+
+    public enum Type {
+      MEMORY,
+      DURABLE,
+      JDBC,
+    }
+  }
+
+  @Data
+  public static class Cache {
+    private boolean enabled = false;
+    private int maximumSize = 10_000;
+    // 항목 유지 시간(ms). 다른 인스턴스에서 바뀐 사용자는 이 시간 안에 반영된다.
+    private long ttl = 30_000;
+  }
+
+  @Data
+  public static class BloomFilter {
+    private boolean enabled = false;
+    // 이 수를 넘기면 false positive 비율이 목표보다 높아진다.
+    private long expectedUsernames = 1_000_000;
+    private double falsePositiveRate = 0.01;
+  }
+
+  @Data
+  public static class PasswordHashing {
+    // 새 해시에 쓰는 알고리즘. 다른 알고리즘의 해시는 로그인할 때 이 알고리즘으로 다시 해시한다.
+    private Algorithm algorithm = Algorithm.BCRYPT;
+    // BCrypt 비용. 0 이면 기동 시 targetLatency 에 맞춰 고른다. 저장된 해시와 다르면 로그인할 때 다시 해시한다.
+    private int strength = 10;
+    // 자동 보정 시 해시 하나의 목표 시간(ms)
+    private long targetLatency = 250;
+    private Argon2 argon2 = new Argon2();
+    private Pbkdf2 pbkdf2 = new Pbkdf2();
+    // 0 이면 CPU 코어 수
+    private int threads = 0;
+    private int queueCapacity = 64;
+    // 제출부터 결과까지 기다리는 최대 시간(ms). 넘기면 503 으로 응답한다.
+    private long maxWait = 2_000;
+    // 503 응답의 Retry-After(초)
+    private long retryAfter = 1;
+
+    public enum Algorithm {
+      BCRYPT,
+      ARGON2ID,
+      PBKDF2,
+    }
+  }
+
+  @Data
+  public static class Argon2 {
+    private int saltLength = 16;
+    private int hashLength = 32;
+    private int parallelism = 1;
+    // KiB 단위. 해시 하나가 이만큼의 힙을 잡으므로 해시 스레드 수를 곱한 만큼이 동시에 필요하다.
+    private int memory = 19_456;
+    private int iterations = 2;
+  }
+
+  @Data
+  public static class Pbkdf2 {
+    private int saltLength = 16;
+    private int iterations = 600_000;
+    private Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm algorithm =
+        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256;
+  }
+
+  @Data
+  public static class Jdbc {
+    private String url = "jdbc:h2:mem:users;DB_CLOSE_DELAY=-1";
+    private String username = "sa";
+    private String password = "";
+    private int maximumPoolSize = 10;
+    // saveAll 에서 한 번에 보내는 INSERT 수
+    private int batchSize = 500;
+    // 드라이버 설정. 예) MySQL 의 cachePrepStmts, prepStmtCacheSize 로 준비된 문장을 재사용한다.
+    private Map<String, String> dataSourceProperties = new HashMap<>();
+  }
+}
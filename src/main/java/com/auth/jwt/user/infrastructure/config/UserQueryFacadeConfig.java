@@ -0,0 +1,30 @@
+package com.auth.jwt.user.infrastructure.config;
+
+import com.auth.jwt.common.percade.UserQueryFacade;
+import com.auth.jwt.user.application.UserQueryService;
+import com.auth.jwt.user.infrastructure.cache.CachingUserQueryFacade;
+import java.time.Clock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Slf4j
+@Configuration
+public class UserQueryFacadeConfig {
+
+  @Bean
+  @Primary
+  public UserQueryFacade userQueryFacade(
+      UserQueryService userQueryService, UserProperties userProperties, Clock clock) {
+    UserProperties.Cache cache = userProperties.getCache();
+    if (!cache.isEnabled()) {
+      return userQueryService;
+    }
+
+    log.info("사용자 조회 캐시 사용 - 최대 크기: {}, TTL: {}ms", cache.getMaximumSize(), cache.getTtl());
+    // 빈 인스턴스가 MeterBinder 이므로 MeterRegistry 가 있으면 캐시 지표가 함께 등록된다.
+    return new CachingUserQueryFacade(
+        userQueryService, cache.getMaximumSize(), cache.getTtl(), clock);
+  }
+}
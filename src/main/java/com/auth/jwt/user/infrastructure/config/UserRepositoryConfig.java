@@ -0,0 +1,93 @@
+package com.auth.jwt.user.infrastructure.config;
+
+import com.auth.jwt.user.domain.repository.UserRepository;
+import com.auth.jwt.user.infrastructure.persistence.BloomFilteredUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.DurableUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.JdbcUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.UsernameSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Slf4j
+@Configuration
+public class UserRepositoryConfig {
+
+  public static final String USER_STORE_DATA_SOURCE = "userStoreDataSource";
+
+  @Bean
+  @Primary
+  public UserRepository userRepository(
+      InMemoryUserRepository inMemoryUserRepository,
+      UserProperties userProperties,
+      @Qualifier(USER_STORE_DATA_SOURCE) ObjectProvider<DataSource> userStoreDataSource) {
+    UserProperties.Store store = userProperties.getStore();
+    UserProperties.BloomFilter bloomFilter = userProperties.getBloomFilter();
+    return switch (store.getType()) {
+      case DURABLE ->
+          withBloomFilter(
+              new DurableUserRepository(
+                  Path.of(store.getDirectory()),
+                  store.getSnapshotInterval(),
+                  inMemoryUserRepository),
+              bloomFilter);
+      case JDBC ->
+          withBloomFilter(
+              new JdbcUserRepository(
+                  userStoreDataSource.getObject(), store.getJdbc().getBatchSize()),
+              bloomFilter);
+      default -> withBloomFilter(inMemoryUserRepository, bloomFilter);
+    };
+  }
+
+  private static <R extends UserRepository & UsernameSource> UserRepository withBloomFilter(
+      R repository, UserProperties.BloomFilter bloomFilter) {
+    if (!bloomFilter.isEnabled()) {
+      return repository;
+    }
+
+    log.info(
+        "사용자명 블룸 필터 사용 - 예상 사용자명: {}개, 목표 false positive 비율: {}",
+        bloomFilter.getExpectedUsernames(),
+        bloomFilter.getFalsePositiveRate());
+    // 빈 인스턴스가 MeterBinder 이므로 MeterRegistry 가 있으면 필터 지표가 함께 등록된다.
+    return new BloomFilteredUserRepository(
+        repository,
+        repository,
+        bloomFilter.getExpectedUsernames(),
+        bloomFilter.getFalsePositiveRate());
+  }
+
+  /**
+   * JDBC 사용자 저장소의 연결 풀. 수명 주기와 지표를 Spring 이 관리하도록 빈으로 두되, 다른 DataSource 자동 구성과 겹치지 않게 기본
+   * 주입 후보에서 빼고 이름으로만 주입한다.
+   */
+  @Bean(name = USER_STORE_DATA_SOURCE, destroyMethod = "close", defaultCandidate = false)
+  @Qualifier(USER_STORE_DATA_SOURCE)
+  @ConditionalOnProperty(prefix = "user.store", name = "type", havingValue = "jdbc")
+  public HikariDataSource userStoreDataSource(
+      UserProperties userProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+    UserProperties.Jdbc jdbc = userProperties.getStore().getJdbc();
+    HikariConfig config = new HikariConfig();
+    config.setPoolName("user-store");
+    config.setJdbcUrl(jdbc.getUrl());
+    config.setUsername(jdbc.getUsername());
+    config.setPassword(jdbc.getPassword());
+    config.setMaximumPoolSize(jdbc.getMaximumPoolSize());
+    jdbc.getDataSourceProperties().forEach(config::addDataSourceProperty);
+    meterRegistry.ifAvailable(
+        registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    return new HikariDataSource(config);
+  }
+}
@@ -1,22 +0,0 @@
-package com.auth.jwt.user.infrastructure.encryption;
-
-import com.auth.jwt.user.domain.service.PasswordEncryptionProvider;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Component;
-
-@Component
-@RequiredArgsConstructor
-public class BCryptPasswordEncryptionAdapter implements PasswordEncryptionProvider {
-  private final PasswordEncoder encoder;
-
-  @Override
-  public String encode(String rawPassword) {
-    return encoder.encode(rawPassword);
-  }
-
-  @Override
-  public boolean matches(String rawPassword, String encodedPassword) {
-    return encoder.matches(rawPassword, encodedPassword);
-  }
-}
@@ -0,0 +1,72 @@
+package com.auth.jwt.user.infrastructure.encryption;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 비용(strength)을 직접 정하거나 기동 시 목표 지연에 맞춰 정하는 BCrypt 인코더. 저장된 해시의 비용이 지금 비용과 다르면 {@link
+ * #upgradeEncoding} 이 true 를 돌려준다. 높이는 쪽뿐 아니라 낮추는 쪽도 다시 해시하므로 인스턴스 종류를 바꿔도 로그인마다 쓰는 CPU 가
+ * 설정을 따라간다.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+  // BCryptPasswordEncoder 의 기본값. 보정해도 이보다 낮추지 않는다.
+  static final int MIN_STRENGTH = 10;
+  static final int MAX_STRENGTH = 31;
+  // 비용 1 은 계산량 2 배다. 낮은 비용에서 재고 목표까지 두 배씩 늘려 가며 고른다.
+  private static final int PROBE_STRENGTH = 6;
+  private static final int PROBE_SAMPLES = 5;
+  private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+  private final int strength;
+
+  public CalibratedBCryptPasswordEncoder(int strength) {
+    super(strength);
+    this.strength = strength;
+  }
+
+  /** 이 기기에서 해시 하나가 targetMillis 를 넘지 않는 가장 큰 비용을 고른다. */
+  public static CalibratedBCryptPasswordEncoder calibrate(long targetMillis) {
+    long probeNanos = measure(PROBE_STRENGTH);
+    double targetNanos = targetMillis * 1_000_000.0;
+
+    int strength = PROBE_STRENGTH;
+    double estimatedNanos = probeNanos;
+    while (strength < MAX_STRENGTH && estimatedNanos * 2 <= targetNanos) {
+      strength++;
+      estimatedNanos *= 2;
+    }
+    return new CalibratedBCryptPasswordEncoder(Math.max(MIN_STRENGTH, strength));
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    int stored = strengthOf(encodedPassword);
+    return stored > 0 && stored != strength;
+  }
+
+  /** BCrypt 해시가 아니면 -1. */
+  static int strengthOf(String encodedPassword) {
+    if (encodedPassword == null) {
+      return -1;
+    }
+    Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+    return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+  }
+
+  // 첫 측정은 JIT 준비로 느리므로 가장 빠른 값을 쓴다.
+  private static long measure(int strength) {
+    BCryptPasswordEncoder probe = new BCryptPasswordEncoder(strength);
+    long fastest = Long.MAX_VALUE;
+    for (int i = 0; i < PROBE_SAMPLES; i++) {
+      long started = System.nanoTime();
+      probe.encode("calibration-password");
+      fastest = Math.min(fastest, System.nanoTime() - started);
+    }
+    return fastest;
+  }
+}
@@ -0,0 +1,33 @@
+package com.auth.jwt.user.infrastructure.encryption;
+
+import com.auth.jwt.user.domain.service.PasswordEncryptionProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정된 알고리즘으로 해시하고, 해시 앞의 알고리즘 접두사({bcrypt}, {argon2id}, {pbkdf2})를 보고 맞는 알고리즘으로 검증한다. 접두사가
+ * 없는 기존 해시는 BCrypt 로 본다. 해시 계산은 요청 스레드가 아니라 {@link PasswordHashingExecutor} 에서 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DelegatingPasswordEncryptionAdapter implements PasswordEncryptionProvider {
+  private final PasswordEncoder encoder;
+  private final PasswordHashingExecutor hashingExecutor;
+
+  @Override
+  public String encode(String rawPassword) {
+    return hashingExecutor.execute(() -> encoder.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return hashingExecutor.execute(() -> encoder.matches(rawPassword, encodedPassword));
+  }
+
+  // 해시 계산 없이 접두사와 파라미터만 비교하므로 요청 스레드에서 한다.
+  @Override
+  public boolean needsRehash(String encodedPassword) {
+    return encoder.upgradeEncoding(encodedPassword);
+  }
+}
@@ -0,0 +1,229 @@
+package com.auth.jwt.user.infrastructure.encryption;
+
+import com.auth.jwt.common.exception.ExceptionDetail;
+import com.auth.jwt.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 계산 전용 스레드 풀. BCrypt 한 번은 수십 ms 의 CPU 를 쓰므로 요청 스레드에서 돌리면 로그인이 몰릴 때 톰캣 작업 스레드가
+ * 모두 해시에 묶이고, 토큰 검증만 하면 되는 요청까지 밀린다.
+ *
+ * <p>해시는 고정된 수의 스레드에서만 돌린다. 대기열이 가득 찼거나 제출부터 결과까지 maxWait 을 넘기면 바로 {@link
+ * ServiceUnavailableException} 을 던져 요청 스레드를 돌려준다.
+ *
+ * <p>대기열 길이, 대기 시간, 거절과 시간 초과 횟수는 {@code password.hashing.*} 지표로 내보낸다.
+ */
+@Slf4j
+public class PasswordHashingExecutor implements AutoCloseable, MeterBinder {
+  private static final ExceptionDetail BUSY =
+      ExceptionDetail.of("PASSWORD_HASHING_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+
+  private final ThreadPoolExecutor executor;
+  private final BlockingQueue<Runnable> queue;
+  private final long maxWaitNanos;
+  private final long retryAfterSeconds;
+
+  private final LongAdder started = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder timedOut = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanosSeen = new LongAccumulator(Math::max, 0);
+
+  public PasswordHashingExecutor(
+      int threads, int queueCapacity, long maxWaitMillis, long retryAfterSeconds) {
+    if (threads <= 0 || queueCapacity <= 0 || maxWaitMillis <= 0) {
+      throw new IllegalArgumentException(
+          "비밀번호 해시 스레드 풀 설정이 올바르지 않습니다. threads: "
+              + threads
+              + ", queueCapacity: "
+              + queueCapacity
+              + ", maxWait: "
+              + maxWaitMillis);
+    }
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    this.retryAfterSeconds = retryAfterSeconds;
+
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            queue,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    executor.prestartAllCoreThreads();
+  }
+
+  /**
+   * 작업을 해시 스레드에서 실행하고 결과를 기다린다. 작업이 던진 런타임 예외는 그대로 다시 던진다.
+   *
+   * @throws ServiceUnavailableException 대기열이 가득 찼거나 maxWait 안에 끝나지 않았을 때
+   */
+  public <T> T execute(Supplier<T> task) {
+    long submitted = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                recordWait(System.nanoTime() - submitted);
+                return task.get();
+              });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.debug("비밀번호 해시 대기열 가득 참 - 대기: {}", queue.size());
+      throw new ServiceUnavailableException(BUSY, retryAfterSeconds);
+    }
+
+    try {
+      return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // 아직 대기열에 있으면 꺼내 버린다. 취소만 하면 작업자가 꺼낼 때까지 대기열 자리를 차지한다. 이미 돌고 있는 BCrypt 는
+      // 인터럽트에 반응하지 않으므로 끝날 때까지 둔다.
+      discard(future);
+      timedOut.increment();
+      log.debug("비밀번호 해시 대기 시간 초과 - 대기: {}", queue.size());
+      throw new ServiceUnavailableException(BUSY, retryAfterSeconds);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("비밀번호 해시 중 오류", cause);
+    } catch (InterruptedException e) {
+      discard(future);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트", e);
+    }
+  }
+
+  /**
+   * 결과를 기다리지 않는 작업을 맡긴다. 로그인 뒤 다시 해시하기처럼 미뤄도 되는 작업에 쓴다.
+   *
+   * @return 대기열이 가득 차 맡기지 못했으면 false
+   */
+  public boolean trySubmit(Runnable task) {
+    long submitted = System.nanoTime();
+    try {
+      executor.execute(
+          () -> {
+            recordWait(System.nanoTime() - submitted);
+            task.run();
+          });
+      return true;
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      return false;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("password.hashing.queue.depth", queue, BlockingQueue::size)
+        .description("해시 스레드를 기다리는 작업 수")
+        .register(registry);
+    Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("해시를 계산하고 있는 스레드 수")
+        .register(registry);
+    FunctionTimer.builder(
+            "password.hashing.wait",
+            this,
+            hashing -> hashing.started.sum(),
+            hashing -> hashing.totalWaitNanos.sum(),
+            TimeUnit.NANOSECONDS)
+        .description("제출부터 해시 스레드가 작업을 잡기까지의 시간")
+        .register(registry);
+    TimeGauge.builder(
+            "password.hashing.wait.max",
+            maxWaitNanosSeen,
+            TimeUnit.NANOSECONDS,
+            LongAccumulator::get)
+        .description("기동 후 가장 길었던 대기 시간")
+        .register(registry);
+    FunctionCounter.builder("password.hashing.rejected", rejected, LongAdder::sum)
+        .description("대기열이 가득 차 거절한 작업 수")
+        .register(registry);
+    FunctionCounter.builder("password.hashing.timed.out", timedOut, LongAdder::sum)
+        .description("maxWait 안에 끝나지 않아 포기한 작업 수")
+        .register(registry);
+  }
+
+  public HashingStats stats() {
+    return new HashingStats(
+        queue.size(),
+        executor.getActiveCount(),
+        started.sum(),
+        rejected.sum(),
+        timedOut.sum(),
+        totalWaitNanos.sum(),
+        maxWaitNanosSeen.get());
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // submit 이 돌려준 Future 는 대기열에 들어간 작업 그 자체다.
+  private void discard(Future<?> future) {
+    future.cancel(false);
+    executor.remove((Runnable) future);
+  }
+
+  private void recordWait(long waitNanos) {
+    started.increment();
+    totalWaitNanos.add(waitNanos);
+    maxWaitNanosSeen.accumulate(waitNanos);
+  }
+
+  /** queueDepth 와 active 는 지금 값이고 나머지는 누적값이다. 대기 시간은 제출부터 해시 스레드가 작업을 잡기까지의 시간이다. */
+  public record HashingStats(
+      int queueDepth,
+      int active,
+      long started,
+      long rejected,
+      long timedOut,
+      long totalWaitNanos,
+      long maxWaitNanos) {
+    public double averageWaitMillis() {
+      return started == 0 ? 0.0 : totalWaitNanos / 1_000_000.0 / started;
+    }
+  }
+}
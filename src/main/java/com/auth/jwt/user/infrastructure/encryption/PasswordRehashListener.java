@@ -0,0 +1,41 @@
+package com.auth.jwt.user.infrastructure.encryption;
+
+import com.auth.jwt.user.application.UserCommandService;
+import com.auth.jwt.user.application.event.PasswordRehashRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인에 성공한 사용자의 해시를 지금 설정으로 다시 만든다. 해시 스레드 풀에 맡기기만 하므로 로그인 응답은 기다리지 않는다. 풀이 가득 찼거나 다른
+ * 요청이 먼저 사용자를 바꿨으면 건너뛰고, 다음 로그인에서 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordRehashListener {
+  private final PasswordEncoder encoder;
+  private final PasswordHashingExecutor hashingExecutor;
+  private final UserCommandService userCommandService;
+
+  @EventListener
+  public void onPasswordRehashRequested(PasswordRehashRequestedEvent event) {
+    if (!hashingExecutor.trySubmit(() -> rehash(event))) {
+      log.debug("비밀번호 해시 대기열이 가득 차 다시 해시하기를 건너뜀, userId: {}", event.userId());
+    }
+  }
+
+  // 이미 해시 스레드 위이므로 어댑터를 거치지 않고 인코더를 바로 쓴다.
+  private void rehash(PasswordRehashRequestedEvent event) {
+    try {
+      String newHash = encoder.encode(event.rawPassword());
+      if (!userCommandService.rehashPassword(event.userId(), event.currentHash(), newHash)) {
+        log.debug("비밀번호가 이미 바뀌어 다시 해시하기를 건너뜀, userId: {}", event.userId());
+      }
+    } catch (RuntimeException e) {
+      log.warn("비밀번호 다시 해시하기 실패, userId: {}, 원인: {}", event.userId(), e.getMessage());
+    }
+  }
+}
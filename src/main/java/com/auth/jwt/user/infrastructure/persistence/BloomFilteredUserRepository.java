@@ -0,0 +1,253 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.repository.UserRepository;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자명 조회 앞에 {@link CountingBloomFilter} 를 두는 저장소 데코레이터. 필터가 없다고 답한 사용자명은 저장소에 묻지 않고 바로
+ * 없다고 답한다. 없는 사용자명을 두드리는 크리덴셜 스터핑이나 가입 시도가 원격 저장소까지 가지 않게 한다.
+ *
+ * <p>사용자명은 저장소에 쓰기 전에 필터에 넣고, 사용자명을 바꾼 뒤나 쓰기가 실패해 저장소에 없는 것을 확인한 뒤에 뺀다. 로그 fsync
+ * 실패처럼 예외가 나도 반영되었을 수 있으므로, 확인할 수 없으면 빼지 않고 false positive 로 남긴다. 그래서 저장이 끝난 사용자명을
+ * 필터가 없다고 답하는 일은 없다. 다른 인스턴스가 같은 저장소에 쓰는 구성에서는 그 쓰기를 필터가 모르므로 사용하지 않는다.
+ *
+ * <p>조회 결과별 횟수와 실제 false positive 비율은 {@code user.bloom.filter.*} 지표로 내보낸다.
+ */
+@Slf4j
+public class BloomFilteredUserRepository implements UserRepository, AutoCloseable, MeterBinder {
+  private final UserRepository delegate;
+  private final CountingBloomFilter filter;
+
+  private final LongAdder negatives = new LongAdder();
+  private final LongAdder positives = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+
+  public BloomFilteredUserRepository(
+      UserRepository delegate,
+      UsernameSource usernames,
+      long expectedUsernames,
+      double falsePositiveRate) {
+    this.delegate = delegate;
+    this.filter = new CountingBloomFilter(expectedUsernames, falsePositiveRate);
+
+    long started = System.nanoTime();
+    usernames.forEachUsername(filter::add);
+    log.info(
+        "사용자명 블룸 필터 적재 - 사용자명: {}개, 예상 false positive 비율: {}, {}ms",
+        filter.entries(),
+        filter.expectedFalsePositiveRate(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+  }
+
+  @Override
+  public boolean existsByUsername(Username username) {
+    if (!mightContain(username)) {
+      return false;
+    }
+    return recordLookup(delegate.existsByUsername(username));
+  }
+
+  @Override
+  public Optional<User> findByUsername(Username username) {
+    if (!mightContain(username)) {
+      return Optional.empty();
+    }
+    Optional<User> user = delegate.findByUsername(username);
+    recordLookup(user.isPresent());
+    return user;
+  }
+
+  @Override
+  public User save(User user) {
+    String username = user.getUsername().getValue();
+    filter.add(username);
+    try {
+      return delegate.save(user);
+    } catch (RuntimeException e) {
+      removeIfNotStored(user);
+      throw e;
+    }
+  }
+
+  /**
+   * 필터가 없다고 답하면 저장된 사용자명이 아니므로, 감싼 저장소가 {@link UnsavedUsernameReservation} 이면 사용자명 조회 없이
+   * 선점한다. 선점만으로는 조회에 보이지 않으므로 필터에는 저장할 때 넣는다.
+   */
+  @Override
+  public boolean reserveUsername(Username username, UserId userId) {
+    if (delegate instanceof UnsavedUsernameReservation unsaved && !mightContain(username)) {
+      return unsaved.reserveUnsavedUsername(username, userId);
+    }
+    return delegate.reserveUsername(username, userId);
+  }
+
+  @Override
+  public void releaseUsername(Username username, UserId userId) {
+    delegate.releaseUsername(username, userId);
+  }
+
+  @Override
+  public List<User> saveAll(List<User> users) {
+    users.forEach(user -> filter.add(user.getUsername().getValue()));
+    try {
+      return delegate.saveAll(users);
+    } catch (RuntimeException e) {
+      users.forEach(this::removeIfNotStored);
+      throw e;
+    }
+  }
+
+  /** 사용자명이 바뀌면 새 사용자명을 먼저 넣고, 변경이 성공하면 이전 사용자명을 뺀다. */
+  @Override
+  public User update(User updatedUser) {
+    Optional<User> current = delegate.findById(updatedUser.getId());
+    String username = updatedUser.getUsername().getValue();
+    String previous = current.map(user -> user.getUsername().getValue()).orElse(username);
+    if (previous.equals(username)) {
+      return delegate.update(updatedUser);
+    }
+
+    filter.add(username);
+    User updated;
+    try {
+      updated = delegate.update(updatedUser);
+    } catch (RuntimeException e) {
+      // 반영되었으면 성공한 것처럼 이전 사용자명을, 반영되지 않았으면 새 사용자명을 뺀다.
+      Boolean renamed = isStored(updatedUser);
+      if (renamed != null) {
+        filter.remove(renamed ? previous : username);
+      }
+      throw e;
+    }
+    filter.remove(previous);
+    return updated;
+  }
+
+  @Override
+  public boolean existsById(UserId userId) {
+    return delegate.existsById(userId);
+  }
+
+  @Override
+  public boolean existsById(long userId) {
+    return delegate.existsById(userId);
+  }
+
+  @Override
+  public Optional<User> findById(UserId userId) {
+    return delegate.findById(userId);
+  }
+
+  @Override
+  public Optional<User> findById(long userId) {
+    return delegate.findById(userId);
+  }
+
+  /** 빈으로 등록되는 것은 이 데코레이터이므로, 감싼 저장소의 로그 동기화나 연결 풀 정리를 대신 호출한다. */
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    lookupCounter(registry, "negative", negatives);
+    lookupCounter(registry, "positive", positives);
+    lookupCounter(registry, "false_positive", falsePositives);
+    Gauge.builder("user.bloom.filter.entries", filter, CountingBloomFilter::entries)
+        .description("블룸 필터에 들어 있는 사용자명 수")
+        .register(registry);
+    Gauge.builder("user.bloom.filter.false.positive.rate", this, r -> r.stats().falsePositiveRate())
+        .description("없는 사용자명 중 필터를 통과해 저장소까지 간 비율")
+        .register(registry);
+    Gauge.builder(
+            "user.bloom.filter.expected.false.positive.rate",
+            filter,
+            CountingBloomFilter::expectedFalsePositiveRate)
+        .description("현재 사용자명 수에서 예상되는 false positive 비율")
+        .register(registry);
+  }
+
+  public FilterStats stats() {
+    return new FilterStats(
+        negatives.sum(),
+        positives.sum(),
+        falsePositives.sum(),
+        filter.entries(),
+        filter.expectedFalsePositiveRate());
+  }
+
+  private static void lookupCounter(MeterRegistry registry, String result, LongAdder count) {
+    FunctionCounter.builder("user.bloom.filter.lookups", count, LongAdder::sum)
+        .tag("result", result)
+        .description("사용자명 조회의 블룸 필터 판정 결과별 횟수")
+        .register(registry);
+  }
+
+  private void removeIfNotStored(User user) {
+    if (isStored(user) == Boolean.FALSE) {
+      filter.remove(user.getUsername().getValue());
+    }
+  }
+
+  // 저장소의 사용자가 user 의 사용자명을 갖고 있는지. 확인하는 조회마저 실패하면 null.
+  private Boolean isStored(User user) {
+    String username = user.getUsername().getValue();
+    try {
+      return delegate
+          .findById(user.getId())
+          .map(stored -> stored.getUsername().getValue().equals(username))
+          .orElse(false);
+    } catch (RuntimeException e) {
+      log.warn("실패한 쓰기의 반영 여부를 확인하지 못해 블룸 필터에 사용자명을 남깁니다. username: {}", username, e);
+      return null;
+    }
+  }
+
+  private boolean mightContain(Username username) {
+    if (filter.mightContain(username.getValue())) {
+      return true;
+    }
+    negatives.increment();
+    return false;
+  }
+
+  private boolean recordLookup(boolean found) {
+    if (found) {
+      positives.increment();
+    } else {
+      falsePositives.increment();
+    }
+    return found;
+  }
+
+  /**
+   * negatives 는 필터가 저장소 조회 없이 걸러낸 수, positives 와 falsePositives 는 필터를 통과해 저장소에서 찾은 수와 못 찾은
+   * 수다.
+   */
+  public record FilterStats(
+      long negatives,
+      long positives,
+      long falsePositives,
+      long entries,
+      double expectedFalsePositiveRate) {
+    /** 없는 사용자명 중 필터를 통과한 비율. */
+    public double falsePositiveRate() {
+      long absent = negatives + falsePositives;
+      return absent == 0 ? 0.0 : (double) falsePositives / absent;
+    }
+  }
+}
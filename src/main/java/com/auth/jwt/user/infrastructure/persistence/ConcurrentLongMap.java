@@ -0,0 +1,184 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * long 키 오픈 어드레싱(선형 탐사) 맵. 키를 박싱하지 않고 조회할 때 객체를 만들지 않는다.
+ *
+ * <p>조회와 {@link #compareAndSet} 은 잠금 없이 수행하고, {@link #put} 은 이 객체의 모니터로 직렬화한다. 슬롯은 키를 먼저 쓰고
+ * 값을 release 로 기록하므로, 값을 acquire 로 읽은 조회는 항상 그 슬롯의 키를 본다. 값이 null 인 슬롯은 빈 슬롯이다. 삭제는
+ * 지원하지 않는다.
+ *
+ * <p>테이블을 키울 때는 값을 새 테이블에 먼저 복사한 뒤 이전 슬롯을 {@code MOVED} 로 CAS 한다. 그 사이 값이 바뀌었으면 다시
+ * 복사하므로 이전 테이블에서 성공한 교체도 사라지지 않고, 자기 키의 슬롯에서 {@code MOVED} 를 만난 조회와 교체는 이미 값이 있는 새
+ * 테이블로 넘어간다.
+ */
+final class ConcurrentLongMap<V> {
+  private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+  private static final int MIN_CAPACITY = 16;
+  private static final Object MOVED = new Object();
+
+  private volatile Table table;
+  private int size;
+
+  ConcurrentLongMap() {
+    this(MIN_CAPACITY);
+  }
+
+  ConcurrentLongMap(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * 3 < expectedSize * 4) {
+      capacity <<= 1;
+    }
+    table = new Table(capacity);
+  }
+
+  @SuppressWarnings("unchecked")
+  V get(long key) {
+    Table t = table;
+    int slot = t.home(key);
+    while (true) {
+      Object value = VALUES.getAcquire(t.values, slot);
+      if (value == null) {
+        return null;
+      }
+      if (t.keys[slot] == key) {
+        if (value != MOVED) {
+          return (V) value;
+        }
+        t = t.next;
+        slot = t.home(key);
+        continue;
+      }
+      slot = (slot + 1) & t.mask;
+    }
+  }
+
+  boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /** key 의 값을 value 로 바꾸고 이전 값을 반환한다. 없던 키면 null. */
+  @SuppressWarnings("unchecked")
+  synchronized V put(long key, V value) {
+    Table t = table;
+    int slot = t.home(key);
+    while (t.values[slot] != null) {
+      if (t.keys[slot] == key) {
+        return (V) VALUES.getAndSetRelease(t.values, slot, value);
+      }
+      slot = (slot + 1) & t.mask;
+    }
+
+    if ((size + 1) * 4 > t.keys.length * 3) {
+      t = resize(t);
+      slot = t.freeSlot(key);
+    }
+    t.keys[slot] = key;
+    VALUES.setRelease(t.values, slot, value);
+    size++;
+    return null;
+  }
+
+  /**
+   * key 의 값이 expected 와 같은 객체일 때만 update 로 바꾼다. 슬롯 하나를 잠금 없이 CAS 하므로 같은 값을 보고 바꾸려는 요청 중 하나만
+   * 성공한다. 없는 키면 false.
+   */
+  boolean compareAndSet(long key, V expected, V update) {
+    Table t = table;
+    int slot = t.home(key);
+    while (true) {
+      Object value = VALUES.getAcquire(t.values, slot);
+      if (value == null) {
+        return false;
+      }
+      if (t.keys[slot] != key) {
+        slot = (slot + 1) & t.mask;
+        continue;
+      }
+      if (value != MOVED) {
+        Object witness = VALUES.compareAndExchange(t.values, slot, expected, update);
+        if (witness == expected) {
+          return true;
+        }
+        if (witness != MOVED) {
+          return false;
+        }
+      }
+      t = t.next;
+      slot = t.home(key);
+    }
+  }
+
+  /** 호출 시점의 테이블을 훑는다. 도중에 바뀐 값은 반영될 수도, 안 될 수도 있다. */
+  @SuppressWarnings("unchecked")
+  void forEach(Consumer<? super V> action) {
+    Table t = table;
+    for (int slot = 0; slot < t.keys.length; slot++) {
+      Object value = VALUES.getAcquire(t.values, slot);
+      if (value == MOVED) {
+        value = get(t.keys[slot]);
+      }
+      if (value != null) {
+        action.accept((V) value);
+      }
+    }
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  // 슬롯마다 새 테이블에 값을 복사한 뒤 이전 슬롯을 MOVED 로 바꾼다. 그 사이 compareAndSet 이 값을 바꿨으면 바뀐 값을 다시 복사한다.
+  private Table resize(Table old) {
+    Table resized = new Table(old.keys.length << 1);
+    old.next = resized;
+    for (int i = 0; i < old.keys.length; i++) {
+      Object value = VALUES.getAcquire(old.values, i);
+      if (value == null) {
+        continue;
+      }
+      int slot = resized.freeSlot(old.keys[i]);
+      resized.keys[slot] = old.keys[i];
+      while (true) {
+        VALUES.setRelease(resized.values, slot, value);
+        Object witness = VALUES.compareAndExchange(old.values, i, value, MOVED);
+        if (witness == value) {
+          break;
+        }
+        value = witness;
+      }
+    }
+    table = resized;
+    return resized;
+  }
+
+  private static final class Table {
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+    // 이 테이블을 옮겨 간 테이블. 첫 MOVED 를 기록하기 전에 정해지므로 MOVED 를 본 스레드는 항상 이 값을 본다.
+    private Table next;
+
+    private Table(int capacity) {
+      keys = new long[capacity];
+      values = new Object[capacity];
+      mask = capacity - 1;
+    }
+
+    private int home(long key) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private int freeSlot(long key) {
+      int slot = home(key);
+      while (values[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 집합의 카운팅 블룸 필터. {@link #mightContain} 이 false 면 확실히 없고, true 면 있을 수도 있다.
+ *
+ * <p>카운터는 4비트로 long 하나에 16개씩 담고 CAS 로 바꾸므로 잠금이 없다. 15 에 이른 카운터는 더 올리지도 내리지도 않는다. 넘친
+ * 뒤 내리면 아직 남은 항목을 지워 버릴 수 있어서, 그 자리는 false positive 를 감수하고 계속 켜 둔다. 해시는 64비트 해시 두 개로
+ * k 개를 만드는 이중 해싱이다.
+ */
+final class CountingBloomFilter {
+  private static final int COUNTER_BITS = 4;
+  private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+  private final AtomicLongArray words;
+  private final long counters;
+  private final int hashes;
+  private final LongAdder entries = new LongAdder();
+
+  CountingBloomFilter(long expectedEntries, double falsePositiveRate) {
+    if (expectedEntries <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException(
+          "블룸 필터 크기 설정이 올바르지 않습니다. expectedEntries: "
+              + expectedEntries
+              + ", falsePositiveRate: "
+              + falsePositiveRate);
+    }
+    double ln2 = Math.log(2);
+    long size = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2));
+    long wordCount = (size + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD;
+    if (wordCount > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("블룸 필터가 너무 큽니다. counters: " + size);
+    }
+    this.words = new AtomicLongArray((int) wordCount);
+    this.counters = wordCount * COUNTERS_PER_WORD;
+    this.hashes = Math.max(1, (int) Math.round((double) counters / expectedEntries * ln2));
+  }
+
+  void add(String value) {
+    long h1 = hash(value);
+    long h2 = secondHash(h1);
+    for (int i = 0; i < hashes; i++) {
+      increment(index(h1, h2, i));
+    }
+    entries.increment();
+  }
+
+  void remove(String value) {
+    long h1 = hash(value);
+    long h2 = secondHash(h1);
+    for (int i = 0; i < hashes; i++) {
+      decrement(index(h1, h2, i));
+    }
+    entries.decrement();
+  }
+
+  boolean mightContain(String value) {
+    long h1 = hash(value);
+    long h2 = secondHash(h1);
+    for (int i = 0; i < hashes; i++) {
+      if (counter(index(h1, h2, i)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long entries() {
+    return entries.sum();
+  }
+
+  /** 지금 항목 수에서 기대되는 false positive 비율. (1 - e^(-kn/m))^k */
+  double expectedFalsePositiveRate() {
+    double filled = 1 - Math.exp(-(double) hashes * Math.max(0, entries()) / counters);
+    return Math.pow(filled, hashes);
+  }
+
+  private long counter(long index) {
+    long word = words.get((int) (index / COUNTERS_PER_WORD));
+    return (word >>> shift(index)) & COUNTER_MASK;
+  }
+
+  private void increment(long index) {
+    int position = (int) (index / COUNTERS_PER_WORD);
+    int shift = shift(index);
+    while (true) {
+      long word = words.get(position);
+      long value = (word >>> shift) & COUNTER_MASK;
+      if (value == COUNTER_MASK || words.compareAndSet(position, word, word + (1L << shift))) {
+        return;
+      }
+    }
+  }
+
+  private void decrement(long index) {
+    int position = (int) (index / COUNTERS_PER_WORD);
+    int shift = shift(index);
+    while (true) {
+      long word = words.get(position);
+      long value = (word >>> shift) & COUNTER_MASK;
+      if (value == 0
+          || value == COUNTER_MASK
+          || words.compareAndSet(position, word, word - (1L << shift))) {
+        return;
+      }
+    }
+  }
+
+  private long index(long h1, long h2, int i) {
+    return Math.floorMod(h1 + i * h2, counters);
+  }
+
+  private static int shift(long index) {
+    return (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+  }
+
+  // 문자 단위 FNV-1a 뒤에 murmur3 fmix64 로 비트를 섞는다.
+  private static long hash(String value) {
+    long h = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      h ^= value.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    return mix(h);
+  }
+
+  private static long secondHash(long h1) {
+    return mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+  }
+
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,396 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.repository.UserRepository;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쓰기를 로그에 남기고 주기적으로 스냅숏을 저장해 재시작 후에도 사용자를 유지하는 저장소. 조회는 {@link InMemoryUserRepository}
+ * 가 그대로 처리한다.
+ *
+ * <p>스냅숏은 로그 세그먼트를 넘긴 뒤 메모리를 훑어 기록하므로, 넘긴 시점 이후의 쓰기가 일부 섞일 수 있다. 로그 기록은 행 전체를
+ * 덮어쓰므로 복구할 때 스냅숏 위에 이후 세그먼트를 다시 재생해도 결과가 같다. 프레임 디코딩과 CRC 확인은 병렬로 하고, 반영은 lsn
+ * 순서대로 한다.
+ */
+@Slf4j
+public class DurableUserRepository implements UserRepository, UsernameSource, AutoCloseable {
+  private static final int SNAPSHOT_MAGIC = 0x55534E50;
+  private static final int SNAPSHOT_VERSION = 2;
+  private static final int SNAPSHOT_HEADER_SIZE = 24;
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SNAPSHOT_SUFFIX = ".bin";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+  private final Path directory;
+  private final InMemoryUserRepository memory;
+  private final UserWriteAheadLog writeAheadLog;
+  private final ScheduledExecutorService snapshotScheduler;
+  private volatile long lastSnapshotLsn = -1;
+
+  public DurableUserRepository(
+      Path directory, long snapshotInterval, InMemoryUserRepository memory) {
+    this.directory = directory;
+    this.memory = memory;
+
+    try {
+      Files.createDirectories(directory);
+      deleteFiles(TEMP_SUFFIX, path -> true);
+      this.writeAheadLog = new UserWriteAheadLog(directory, recover());
+    } catch (IOException e) {
+      throw new IllegalStateException("사용자 저장소를 열 수 없습니다. path: " + directory, e);
+    }
+
+    this.snapshotScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "user-snapshot");
+              thread.setDaemon(true);
+              return thread;
+            });
+    snapshotScheduler.scheduleWithFixedDelay(
+        this::snapshotQuietly, snapshotInterval, snapshotInterval, TimeUnit.MILLISECONDS);
+  }
+
+  /** 사용자명을 잡는 것까지 로그 잠금 안에서 기록 전에 하므로, 다른 사용자의 사용자명을 덮어쓰는 저장은 로그에 남지 않는다. */
+  @Override
+  public User save(User user) {
+    writeAheadLog.append(UserRow.from(user), memory::claimUsername, memory::put);
+    return user;
+  }
+
+  /** 선점은 가입 요청 동안만 유지되면 되므로 로그에 남기지 않는다. */
+  @Override
+  public boolean reserveUsername(Username username, UserId userId) {
+    return memory.reserveUsername(username, userId);
+  }
+
+  @Override
+  public void releaseUsername(Username username, UserId userId) {
+    memory.releaseUsername(username, userId);
+  }
+
+  /**
+   * 버전 확인과 바꿀 사용자명 예약을 로그 잠금 안에서 기록 전에 하므로, 충돌한 변경은 로그에 남지 않는다. 쓰기는 모두 로그 잠금을
+   * 지나므로 기록 뒤의 반영(CAS)은 실패하지 않는다.
+   */
+  @Override
+  public User update(User updatedUser) {
+    UserRow row = UserRow.nextVersionOf(updatedUser);
+    // 반영할 차례에 꺼내 비운다. 기록하기 전에 실패했을 때만 남아 있어 예약을 놓는다.
+    AtomicReference<UserRow> prepared = new AtomicReference<>();
+    try {
+      writeAheadLog.append(
+          row,
+          ignored -> prepared.set(memory.prepareReplace(row)),
+          ignored -> memory.commitReplace(prepared.getAndSet(null), row));
+    } catch (RuntimeException e) {
+      UserRow current = prepared.get();
+      if (current != null) {
+        memory.abortReplace(current, row);
+      }
+      throw e;
+    }
+    return row.toUser();
+  }
+
+  @Override
+  public boolean existsByUsername(Username username) {
+    return memory.existsByUsername(username);
+  }
+
+  @Override
+  public boolean existsById(UserId userId) {
+    return memory.existsById(userId);
+  }
+
+  @Override
+  public boolean existsById(long userId) {
+    return memory.existsById(userId);
+  }
+
+  @Override
+  public Optional<User> findById(UserId userId) {
+    return memory.findById(userId);
+  }
+
+  @Override
+  public Optional<User> findById(long userId) {
+    return memory.findById(userId);
+  }
+
+  @Override
+  public Optional<User> findByUsername(Username username) {
+    return memory.findByUsername(username);
+  }
+
+  @Override
+  public void forEachUsername(Consumer<String> action) {
+    memory.forEachUsername(action);
+  }
+
+  /** 로그 세그먼트를 넘기고 현재 사용자 전체를 스냅숏으로 저장한 뒤, 스냅숏에 포함된 세그먼트와 이전 스냅숏을 지운다. */
+  public void snapshot() throws IOException {
+    long started = System.nanoTime();
+    long lsn = writeAheadLog.rotate();
+    if (lsn == lastSnapshotLsn) {
+      return;
+    }
+    Path target = directory.resolve(snapshotName(lsn));
+    Path temp = directory.resolve(snapshotName(lsn) + TEMP_SUFFIX);
+
+    int count;
+    try (FileChannel out =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      count = writeSnapshot(out, lsn);
+      out.force(true);
+    }
+    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    lastSnapshotLsn = lsn;
+
+    deleteFiles(SNAPSHOT_SUFFIX, path -> snapshotLsn(path) < lsn);
+    deleteFiles(
+        UserWriteAheadLog.SEGMENT_SUFFIX, path -> UserWriteAheadLog.segmentFirstLsn(path) <= lsn);
+    log.info(
+        "사용자 스냅숏 저장 - lsn: {}, 사용자: {}명, {}ms",
+        lsn,
+        count,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+  }
+
+  @Override
+  public void close() throws IOException {
+    snapshotScheduler.shutdown();
+    try {
+      snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    writeAheadLog.close();
+  }
+
+  // 가장 최근 스냅숏을 읽고 그 뒤 세그먼트를 재생한다. 복구한 마지막 lsn 을 반환한다. 세그먼트 사이에 빠진 lsn 이 있으면 그 뒤를
+  // 재생해도 앞선 쓰기가 빠진 상태가 되므로 복구하지 않고 시작을 막는다.
+  private long recover() throws IOException {
+    long started = System.nanoTime();
+    long lastLsn = 0;
+    int restored = 0;
+
+    Optional<Path> snapshot = latest(SNAPSHOT_SUFFIX, DurableUserRepository::snapshotLsn);
+    if (snapshot.isPresent()) {
+      lastLsn = snapshotLsn(snapshot.get());
+      lastSnapshotLsn = lastLsn;
+      restored = loadSnapshot(snapshot.get());
+    }
+
+    int replayed = 0;
+    List<Path> segments = list(UserWriteAheadLog.SEGMENT_SUFFIX);
+    segments.sort(Comparator.comparingLong(UserWriteAheadLog::segmentFirstLsn));
+    for (int i = 0; i < segments.size(); i++) {
+      Path segment = segments.get(i);
+      long firstLsn = UserWriteAheadLog.segmentFirstLsn(segment);
+      if (firstLsn <= lastLsn) {
+        continue;
+      }
+      if (firstLsn != lastLsn + 1) {
+        throw new IllegalStateException(
+            "사용자 로그에 빠진 기록이 있습니다. 기대한 lsn: " + (lastLsn + 1) + ", path: " + segment);
+      }
+      Replay replay = replaySegment(segment, lastLsn, i == segments.size() - 1);
+      replayed += replay.records();
+      lastLsn = replay.lastLsn();
+    }
+
+    log.info(
+        "사용자 저장소 복구 완료 - 스냅숏: {}명, 로그: {}건, 사용자: {}명, lsn: {}, {}ms",
+        restored,
+        replayed,
+        memory.size(),
+        lastLsn,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    return lastLsn;
+  }
+
+  private int loadSnapshot(Path path) throws IOException {
+    try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer buf = map(in);
+      if (buf.limit() < SNAPSHOT_HEADER_SIZE
+          || buf.getInt(0) != SNAPSHOT_MAGIC
+          || buf.getInt(4) != SNAPSHOT_VERSION) {
+        throw new IllegalStateException("사용자 스냅숏 형식이 올바르지 않습니다. path: " + path);
+      }
+      int expected = buf.getInt(16);
+
+      UserRow[] rows = decode(buf, UserRecordCodec.scan(buf, SNAPSHOT_HEADER_SIZE, buf.limit()));
+      if (rows.length != expected || Arrays.asList(rows).contains(null)) {
+        throw new IllegalStateException("사용자 스냅숏이 손상되었습니다. path: " + path);
+      }
+      for (UserRow row : rows) {
+        memory.put(row);
+      }
+      return rows.length;
+    }
+  }
+
+  // 손상되거나 잘린 프레임부터는 기록이 끝나지 않은 것으로 보고 세그먼트를 그 앞에서 자른다. 기록 중이던 세그먼트는 가장 최근
+  // 것뿐이므로, 그 앞 세그먼트가 손상되었으면 자르지 않고 시작을 막는다.
+  private Replay replaySegment(Path segment, long lastLsn, boolean newest) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer buf = map(channel);
+      int[] offsets = UserRecordCodec.scan(buf, 0, buf.limit());
+      UserRow[] rows = decode(buf, offsets);
+
+      int applied = 0;
+      int end = 0;
+      for (int i = 0; i < rows.length && rows[i] != null; i++) {
+        memory.put(rows[i]);
+        lastLsn = UserRecordCodec.lsn(buf, offsets[i]);
+        end = offsets[i] + UserRecordCodec.frameSize(buf, offsets[i]);
+        applied++;
+      }
+
+      if (end < buf.limit()) {
+        if (!newest) {
+          throw new IllegalStateException("사용자 로그 중간 세그먼트가 손상되었습니다. path: " + segment);
+        }
+        log.warn(
+            "사용자 로그 끝의 불완전한 기록을 버립니다. path: {}, {} -> {} bytes",
+            segment,
+            buf.limit(),
+            end);
+        channel.truncate(end);
+      }
+      return new Replay(applied, lastLsn);
+    }
+  }
+
+  private static UserRow[] decode(ByteBuffer buf, int[] offsets) {
+    UserRow[] rows = new UserRow[offsets.length];
+    IntStream.range(0, offsets.length)
+        .parallel()
+        .forEach(i -> rows[i] = UserRecordCodec.decode(buf, offsets[i]));
+    return rows;
+  }
+
+  private int writeSnapshot(FileChannel out, long lsn) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putLong(lsn).putInt(0).putInt(0);
+    int[] count = {0};
+    try {
+      memory.forEachRow(
+          row -> {
+            byte[] frame = UserRecordCodec.encode(lsn, row);
+            try {
+              if (buffer.remaining() < frame.length) {
+                flush(out, buffer);
+              }
+              if (buffer.remaining() < frame.length) {
+                write(out, ByteBuffer.wrap(frame));
+              } else {
+                buffer.put(frame);
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            count[0]++;
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    flush(out, buffer);
+
+    ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(0, count[0]);
+    out.write(header, 16);
+    return count[0];
+  }
+
+  private void snapshotQuietly() {
+    try {
+      snapshot();
+    } catch (IOException | RuntimeException e) {
+      log.error("사용자 스냅숏 저장 실패. path: {}", directory, e);
+    }
+  }
+
+  private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    write(out, buffer);
+    buffer.clear();
+  }
+
+  private static void write(FileChannel out, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+  }
+
+  private static MappedByteBuffer map(FileChannel channel) throws IOException {
+    long size = channel.size();
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalStateException("사용자 저장소 파일이 너무 큽니다. size: " + size);
+    }
+    return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+  }
+
+  private Optional<Path> latest(String suffix, ToLongFunction<Path> lsn) throws IOException {
+    return list(suffix).stream().max(Comparator.comparingLong(lsn));
+  }
+
+  private List<Path> list(String suffix) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(path -> path.getFileName().toString().endsWith(suffix))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private void deleteFiles(String suffix, Predicate<Path> condition) throws IOException {
+    for (Path path : list(suffix)) {
+      if (condition.test(path)) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  private static String snapshotName(long lsn) {
+    return String.format("%s%020d%s", SNAPSHOT_PREFIX, lsn, SNAPSHOT_SUFFIX);
+  }
+
+  private static long snapshotLsn(Path snapshot) {
+    String name = snapshot.getFileName().toString();
+    return Long.parseLong(
+        name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+  }
+
+  private record Replay(int records, long lastLsn) {}
+}
@@ -1,56 +1,190 @@
 package com.auth.jwt.user.infrastructure.persistence;
 
 import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
 import com.auth.jwt.user.domain.repository.UserRepository;
 import com.auth.jwt.user.domain.vo.UserId;
 import com.auth.jwt.user.domain.vo.Username;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 사용자를 힙에 보관하는 저장소.
+ *
+ * <p>사용자는 값 객체 래퍼 없이 문자열과 역할만 담은 {@link UserRow} 로 보관하고, 식별자 인덱스는 long 키 맵이라 조회할 때
+ * 키를 박싱하지 않는다. 조회한 {@link User} 는 행에서 다시 만든다.
+ *
+ * <p>변경은 읽어 온 버전의 행을 다음 버전의 행으로 식별자 인덱스에서 CAS 한다. 사용자명 인덱스는 식별자만 가리키고 조회는 항상
+ * 식별자 인덱스의 행으로 사용자명을 확인하므로, 사용자명이 바뀌어도 두 인덱스가 CAS 한 번으로 함께 바뀐 것처럼 보인다.
+ *
+ * <p>가입은 같은 방식으로 사용자명 인덱스에 새 식별자를 먼저 넣어 사용자명을 선점한다. 저장은 다른 식별자가 잡은 사용자명을 덮어쓰지
+ * 않으므로, 같은 사용자명의 동시 가입 중 하나만 남는다.
+ */
 @Repository
-public class InMemoryUserRepository implements UserRepository {
-  private final Map<UserId, User> userStore = new ConcurrentHashMap<>();
-  private final Map<Username, User> usernameIndex = new ConcurrentHashMap<>();
+public class InMemoryUserRepository implements UserRepository, UsernameSource {
+  private final ConcurrentLongMap<UserRow> userStore = new ConcurrentLongMap<>();
+  private final Map<String, Long> usernameIndex = new ConcurrentHashMap<>();
 
   @Override
   public User save(User user) {
-    userStore.put(user.getId(), user);
-    usernameIndex.put(user.getUsername(), user);
+    UserRow row = UserRow.from(user);
+    claimUsername(row);
+    put(row);
     return user;
   }
 
+  /** 사용자명 인덱스에 식별자를 먼저 넣어 선점한다. 행이 없으므로 조회에는 보이지 않는다. */
+  @Override
+  public boolean reserveUsername(Username username, UserId userId) {
+    return usernameIndex.putIfAbsent(username.getValue(), userId.getValue()) == null;
+  }
+
+  @Override
+  public void releaseUsername(Username username, UserId userId) {
+    long id = userId.getValue();
+    if (!userStore.containsKey(id)) {
+      usernameIndex.remove(username.getValue(), id);
+    }
+  }
+
   @Override
   public boolean existsByUsername(Username username) {
-    return usernameIndex.containsKey(username);
+    return rowByUsername(username.getValue()) != null;
   }
 
   @Override
   public boolean existsById(UserId userId) {
+    return existsById(userId.getValue().longValue());
+  }
+
+  @Override
+  public boolean existsById(long userId) {
     return userStore.containsKey(userId);
   }
 
   @Override
   public Optional<User> findById(UserId userId) {
-    return Optional.ofNullable(userStore.get(userId));
+    return findById(userId.getValue().longValue());
+  }
+
+  @Override
+  public Optional<User> findById(long userId) {
+    return Optional.ofNullable(userStore.get(userId)).map(UserRow::toUser);
   }
 
   @Override
   public Optional<User> findByUsername(Username username) {
-    return Optional.ofNullable(usernameIndex.get(username));
+    return Optional.ofNullable(rowByUsername(username.getValue())).map(UserRow::toUser);
   }
 
+  /**
+   * 읽어 온 버전 그대로일 때만 변경을 반영하고 다음 버전의 사용자를 반환한다. 그 사이 다른 변경이 있었거나 바꾸려는 사용자명을 누가
+   * 쓰고 있으면 {@link UserConcurrentModificationException}.
+   */
   @Override
   public User update(User updatedUser) {
-    deleteById(updatedUser.getId());
-    return save(updatedUser);
+    UserRow row = UserRow.nextVersionOf(updatedUser);
+    replace(row);
+    return row.toUser();
+  }
+
+  /** 행의 사용자명을 행의 식별자 앞으로 잡는다. 이미 이 식별자가 선점했으면 그대로 쓰고, 다른 사용자가 잡고 있으면 덮어쓰지 않는다. */
+  void claimUsername(UserRow row) {
+    Long owner = usernameIndex.putIfAbsent(row.username(), row.id());
+    if (owner != null && owner != row.id()) {
+      throw UserConcurrentModificationException.usernameTaken(row.username());
+    }
+  }
+
+  // 로그 복구와 스냅숏에서도 쓰므로 도메인 객체 대신 행을 받는다. 버전을 확인하지 않고 덮어쓴다.
+  void put(UserRow row) {
+    UserRow previous = userStore.put(row.id(), row);
+    if (previous != null && !previous.username().equals(row.username())) {
+      usernameIndex.remove(previous.username(), row.id());
+    }
+    usernameIndex.put(row.username(), row.id());
+  }
+
+  /**
+   * row 의 바로 앞 버전이 저장되어 있는지 확인하고 바꿀 사용자명을 예약한 뒤, 지금 저장된 행을 반환한다. 반환한 행으로
+   * {@link #commitReplace} 하거나, 반영하지 않기로 했으면 {@link #abortReplace} 로 예약을 놓아야 한다.
+   */
+  UserRow prepareReplace(UserRow row) {
+    long expectedVersion = row.version() - 1;
+    UserRow current = userStore.get(row.id());
+    if (current == null || current.version() != expectedVersion) {
+      throw versionMismatch(row.id(), expectedVersion);
+    }
+    if (!current.username().equals(row.username())) {
+      Long owner = usernameIndex.putIfAbsent(row.username(), row.id());
+      if (owner != null) {
+        throw conflictOnUsername(row, owner);
+      }
+    }
+    return current;
+  }
+
+  /**
+   * 식별자 인덱스의 행을 CAS 한 뒤 이전 사용자명을 놓는다. CAS 가 반영 시점이며, 예약만 된 사용자명은 조회에서 행의 사용자명과 맞지
+   * 않아 보이지 않는다. 그 사이 다른 변경이 있었으면 예약을 놓고 던진다.
+   */
+  void commitReplace(UserRow current, UserRow row) {
+    if (!userStore.compareAndSet(row.id(), current, row)) {
+      abortReplace(current, row);
+      throw versionMismatch(row.id(), current.version());
+    }
+    if (!current.username().equals(row.username())) {
+      usernameIndex.remove(current.username(), row.id());
+    }
+  }
+
+  void abortReplace(UserRow current, UserRow row) {
+    if (!current.username().equals(row.username())) {
+      usernameIndex.remove(row.username(), row.id());
+    }
+  }
+
+  void replace(UserRow row) {
+    commitReplace(prepareReplace(row), row);
+  }
+
+  @Override
+  public void forEachUsername(Consumer<String> action) {
+    forEachRow(row -> action.accept(row.username()));
+  }
+
+  void forEachRow(Consumer<UserRow> action) {
+    userStore.forEach(action);
+  }
+
+  int size() {
+    return userStore.size();
+  }
+
+  // 사용자명 인덱스는 식별자만 가리킨다. 행의 사용자명이 다르면 이름을 바꾸는 중이거나 바꾼 뒤 정리 전인 항목이다.
+  private UserRow rowByUsername(String username) {
+    Long id = usernameIndex.get(username);
+    if (id == null) {
+      return null;
+    }
+    UserRow row = userStore.get(id);
+    return row != null && row.username().equals(username) ? row : null;
+  }
+
+  private UserConcurrentModificationException versionMismatch(long userId, long expectedVersion) {
+    UserRow latest = userStore.get(userId);
+    return UserConcurrentModificationException.versionMismatch(
+        userId, expectedVersion, latest == null ? -1 : latest.version());
   }
 
-  private void deleteById(UserId userId) {
-    User user = userStore.remove(userId);
-    if (user != null) {
-      usernameIndex.remove(user.getUsername());
+  // 같은 사용자가 같은 이름을 예약해 둔 것은 다른 변경이 진행 중이라는 뜻이다.
+  private UserConcurrentModificationException conflictOnUsername(UserRow row, long owner) {
+    if (owner == row.id()) {
+      return versionMismatch(row.id(), row.version() - 1);
     }
+    return UserConcurrentModificationException.usernameTaken(row.username());
   }
 }
@@ -0,0 +1,353 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
+import com.auth.jwt.user.domain.repository.UserRepository;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자를 관계형 데이터베이스에 보관하는 저장소. 모든 조회는 한 번의 쿼리로 끝나고, 사용자명 조회도 {@link User} 전체를 바로 읽는다.
+ *
+ * <p>SQL 은 상수로 고정해 드라이버의 준비된 문장 캐시(H2 세션 쿼리 캐시, MySQL cachePrepStmts 등)가 항상 같은 문장을 재사용하게
+ * 한다. 연결 풀은 호출자가 넘긴 {@link DataSource} 가 담당하며, 풀을 닫는 것도 호출자다.
+ */
+@Slf4j
+public class JdbcUserRepository
+    implements UserRepository, UsernameSource, UnsavedUsernameReservation {
+  private static final String CREATE_TABLE =
+      "CREATE TABLE IF NOT EXISTS users ("
+          + "id BIGINT PRIMARY KEY, "
+          + "username VARCHAR(50) NOT NULL, "
+          + "password VARCHAR(255) NOT NULL, "
+          + "nickname VARCHAR(30) NOT NULL, "
+          + "role VARCHAR(16) NOT NULL, "
+          + "version BIGINT NOT NULL DEFAULT 0, "
+          + "CONSTRAINT uk_users_username UNIQUE (username))";
+  // SQLSTATE 클래스 23: 무결성 제약 위반
+  private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+  private static final String COLUMNS = "id, username, password, nickname, role, version";
+  private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM users WHERE id = ?";
+  private static final String SELECT_BY_USERNAME =
+      "SELECT " + COLUMNS + " FROM users WHERE username = ?";
+  private static final String EXISTS_BY_ID = "SELECT 1 FROM users WHERE id = ?";
+  private static final String EXISTS_BY_USERNAME = "SELECT 1 FROM users WHERE username = ?";
+  private static final String SELECT_USERNAMES = "SELECT username FROM users";
+  private static final String SELECT_VERSION = "SELECT version FROM users WHERE id = ?";
+  private static final String INSERT =
+      "INSERT INTO users (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String UPDATE =
+      "UPDATE users SET username = ?, password = ?, nickname = ?, role = ?, version = ? "
+          + "WHERE id = ? AND version = ?";
+
+  private final DataSource dataSource;
+  private final int batchSize;
+  // 가입 중인 사용자명과 선점한 식별자. 저장이 끝나면 유니크 제약이 대신하므로 뺀다.
+  private final Map<String, Long> reservations = new ConcurrentHashMap<>();
+
+  public JdbcUserRepository(DataSource dataSource, int batchSize) {
+    this.dataSource = dataSource;
+    this.batchSize = batchSize;
+
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(CREATE_TABLE);
+    } catch (SQLException e) {
+      throw new IllegalStateException("사용자 테이블을 만들 수 없습니다.", e);
+    }
+    log.info("JDBC 사용자 저장소 사용 - 배치 크기: {}", batchSize);
+  }
+
+  /**
+   * 사용자명이 이미 있으면 유니크 제약이 막으므로 {@link UserConcurrentModificationException}. 제약 위반은 예외 타입이 아니라
+   * SQLSTATE 로 가린다. pgjdbc 처럼 일반 {@link SQLException} 에 23505 를 담아 던지는 드라이버도 있다.
+   */
+  @Override
+  public User save(User user) {
+    UserRow row = UserRow.from(user);
+    Long owner = reservations.get(row.username());
+    if (owner != null && owner != row.id()) {
+      throw UserConcurrentModificationException.usernameTaken(row.username());
+    }
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(INSERT)) {
+      bindInsert(statement, row);
+      statement.executeUpdate();
+    } catch (SQLException e) {
+      if (isConstraintViolation(e)) {
+        throw UserConcurrentModificationException.usernameTaken(row.username());
+      }
+      throw new IllegalStateException("사용자 저장소 쿼리 실행에 실패했습니다. sql: " + INSERT, e);
+    } finally {
+      reservations.remove(row.username(), row.id());
+    }
+    return user;
+  }
+
+  /**
+   * 이 인스턴스 안의 선점 맵에 먼저 넣고 저장된 사용자명인지 확인한다. 다른 인스턴스의 가입과는 선점을 나누지 않으므로, 그 경합은 저장할
+   * 때 유니크 제약이 가려낸다.
+   */
+  @Override
+  public boolean reserveUsername(Username username, UserId userId) {
+    if (reservations.putIfAbsent(username.getValue(), userId.getValue()) != null) {
+      return false;
+    }
+    if (existsByUsername(username)) {
+      reservations.remove(username.getValue(), userId.getValue());
+      return false;
+    }
+    return true;
+  }
+
+  /** 사용자명 조회 없이 선점 맵에만 넣는다. 저장된 사용자명을 잘못 넘겼더라도 저장할 때 유니크 제약이 막는다. */
+  @Override
+  public boolean reserveUnsavedUsername(Username username, UserId userId) {
+    return reservations.putIfAbsent(username.getValue(), userId.getValue()) == null;
+  }
+
+  @Override
+  public void releaseUsername(Username username, UserId userId) {
+    reservations.remove(username.getValue(), userId.getValue());
+  }
+
+  /**
+   * 한 연결과 한 문장으로 batchSize 건씩 묶어 보내고, 전체를 하나의 트랜잭션으로 커밋한다. 사용자명이 겹치면 전체를 되돌리고 save 와
+   * 같이 {@link UserConcurrentModificationException}.
+   */
+  @Override
+  public List<User> saveAll(List<User> users) {
+    try (Connection connection = dataSource.getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+        int chunkStart = 0;
+        for (int i = 0; i < users.size(); i++) {
+          bindInsert(statement, UserRow.from(users.get(i)));
+          statement.addBatch();
+          if (i + 1 - chunkStart == batchSize || i + 1 == users.size()) {
+            executeBatch(statement, users, chunkStart);
+            chunkStart = i + 1;
+          }
+        }
+        connection.commit();
+      } catch (SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("사용자 일괄 저장에 실패했습니다. 건수: " + users.size(), e);
+    } finally {
+      users.forEach(user -> releaseUsername(user.getUsername(), user.getId()));
+    }
+    return users;
+  }
+
+  /** 읽어 온 버전을 조건으로 갱신한다. 갱신된 행이 없으면 그 사이 다른 변경이 있었던 것이다. */
+  @Override
+  public User update(User updatedUser) {
+    UserRow row = UserRow.nextVersionOf(updatedUser);
+    int updated;
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+      statement.setString(1, row.username());
+      statement.setString(2, row.password());
+      statement.setString(3, row.nickname());
+      statement.setString(4, row.role().name());
+      statement.setLong(5, row.version());
+      statement.setLong(6, row.id());
+      statement.setLong(7, updatedUser.getVersion());
+      updated = statement.executeUpdate();
+    } catch (SQLException e) {
+      if (isConstraintViolation(e)) {
+        throw UserConcurrentModificationException.usernameTaken(row.username());
+      }
+      throw new IllegalStateException("사용자 저장소 쿼리 실행에 실패했습니다. sql: " + UPDATE, e);
+    }
+
+    if (updated == 0) {
+      throw UserConcurrentModificationException.versionMismatch(
+          row.id(), updatedUser.getVersion(), currentVersion(row.id()));
+    }
+    return row.toUser();
+  }
+
+  @Override
+  public boolean existsByUsername(Username username) {
+    return execute(
+        EXISTS_BY_USERNAME,
+        statement -> {
+          statement.setString(1, username.getValue());
+          try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next();
+          }
+        });
+  }
+
+  @Override
+  public boolean existsById(UserId userId) {
+    return existsById(userId.getValue().longValue());
+  }
+
+  @Override
+  public boolean existsById(long userId) {
+    return execute(
+        EXISTS_BY_ID,
+        statement -> {
+          statement.setLong(1, userId);
+          try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next();
+          }
+        });
+  }
+
+  @Override
+  public Optional<User> findById(UserId userId) {
+    return findById(userId.getValue().longValue());
+  }
+
+  @Override
+  public Optional<User> findById(long userId) {
+    return execute(
+        SELECT_BY_ID,
+        statement -> {
+          statement.setLong(1, userId);
+          return readUser(statement);
+        });
+  }
+
+  @Override
+  public Optional<User> findByUsername(Username username) {
+    return execute(
+        SELECT_BY_USERNAME,
+        statement -> {
+          statement.setString(1, username.getValue());
+          return readUser(statement);
+        });
+  }
+
+  /** 전체를 메모리에 올리지 않도록 batchSize 단위로 나눠 읽는다. */
+  @Override
+  public void forEachUsername(Consumer<String> action) {
+    execute(
+        SELECT_USERNAMES,
+        statement -> {
+          statement.setFetchSize(batchSize);
+          try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+              action.accept(resultSet.getString(1));
+            }
+          }
+          return null;
+        });
+  }
+
+  private <T> T execute(String sql, StatementCallback<T> callback) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(sql)) {
+      return callback.doInStatement(statement);
+    } catch (SQLException e) {
+      throw new IllegalStateException("사용자 저장소 쿼리 실행에 실패했습니다. sql: " + sql, e);
+    }
+  }
+
+  private long currentVersion(long userId) {
+    return execute(
+        SELECT_VERSION,
+        statement -> {
+          statement.setLong(1, userId);
+          try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : -1;
+          }
+        });
+  }
+
+  // 배치 중 유니크 제약 위반이면 실패한 행의 사용자명으로 충돌을 던진다. 드라이버가 실패한 행에서 멈추면 갱신 수 배열은 그 앞까지다.
+  // 갱신 수를 주지 않는 예외면 어느 행인지 모르므로 묶음의 첫 행으로 응답한다.
+  private static void executeBatch(PreparedStatement statement, List<User> users, int chunkStart)
+      throws SQLException {
+    try {
+      statement.executeBatch();
+    } catch (SQLException e) {
+      if (!isConstraintViolation(e)) {
+        throw e;
+      }
+      int failed = e instanceof BatchUpdateException batch ? failedIndex(batch) : 0;
+      User user = users.get(Math.min(chunkStart + failed, users.size() - 1));
+      throw UserConcurrentModificationException.usernameTaken(user.getUsername().getValue());
+    }
+  }
+
+  private static int failedIndex(BatchUpdateException e) {
+    int[] counts = e.getUpdateCounts();
+    if (counts == null) {
+      return 0;
+    }
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] == Statement.EXECUTE_FAILED) {
+        return i;
+      }
+    }
+    return counts.length;
+  }
+
+  private static boolean isConstraintViolation(SQLException e) {
+    for (SQLException cause = e; cause != null; cause = cause.getNextException()) {
+      String state = cause.getSQLState();
+      if (cause instanceof SQLIntegrityConstraintViolationException
+          || cause.getCause() instanceof SQLIntegrityConstraintViolationException
+          || (state != null && state.startsWith(INTEGRITY_CONSTRAINT_VIOLATION))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void bindInsert(PreparedStatement statement, UserRow row) throws SQLException {
+    statement.setLong(1, row.id());
+    statement.setString(2, row.username());
+    statement.setString(3, row.password());
+    statement.setString(4, row.nickname());
+    statement.setString(5, row.role().name());
+    statement.setLong(6, row.version());
+  }
+
+  private static Optional<User> readUser(PreparedStatement statement) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      if (!resultSet.next()) {
+        return Optional.empty();
+      }
+      UserRow row =
+          new UserRow(
+              resultSet.getLong(1),
+              resultSet.getString(2),
+              resultSet.getString(3),
+              resultSet.getString(4),
+              Role.valueOf(resultSet.getString(5)),
+              resultSet.getLong(6));
+      return Optional.of(row.toUser());
+    }
+  }
+
+  @FunctionalInterface
+  private interface StatementCallback<T> {
+    T doInStatement(PreparedStatement statement) throws SQLException;
+  }
+}
@@ -0,0 +1,9 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+
+/** 저장되지 않은 사용자명임을 이미 아는 호출자가 저장소 확인 없이 선점하는 저장소. 블룸 필터가 확실히 없다고 답한 가입에 쓴다. */
+public interface UnsavedUsernameReservation {
+  boolean reserveUnsavedUsername(Username username, UserId userId);
+}
@@ -0,0 +1,111 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import com.auth.jwt.user.domain.entity.Role;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * 로그와 스냅숏이 함께 쓰는 사용자 행 프레임.
+ *
+ * <p>프레임은 [본문 길이 int][CRC32 int][lsn long][본문] 이고, 본문은 [id long][버전 long][역할 byte][사용자명][비밀번호]
+ * [닉네임] 이다. 문자열은 [길이 short][UTF-8 바이트]로 기록한다. CRC 는 lsn 과 본문을 덮으므로 중간에 잘린 프레임을 걸러낸다.
+ */
+final class UserRecordCodec {
+  static final int HEADER_SIZE = 16;
+  private static final int MAX_BODY_SIZE = 1 << 16;
+  private static final Role[] ROLES = Role.values();
+
+  private UserRecordCodec() {}
+
+  static byte[] encode(long lsn, UserRow row) {
+    byte[] username = row.username().getBytes(StandardCharsets.UTF_8);
+    byte[] password = row.password().getBytes(StandardCharsets.UTF_8);
+    byte[] nickname = row.nickname().getBytes(StandardCharsets.UTF_8);
+    int bodySize =
+        2 * Long.BYTES + 1 + 3 * Short.BYTES + username.length + password.length + nickname.length;
+
+    ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + bodySize);
+    frame.putInt(bodySize).putInt(0).putLong(lsn);
+    frame.putLong(row.id()).putLong(row.version()).put((byte) row.role().ordinal());
+    putString(frame, username);
+    putString(frame, password);
+    putString(frame, nickname);
+    frame.putInt(Integer.BYTES, crc(frame, 0, bodySize));
+    return frame.array();
+  }
+
+  /**
+   * offset 부터 limit 까지 길이가 온전한 프레임의 시작 위치를 차례로 모은다. 길이가 맞지 않는 프레임에서 멈추며, CRC 는 {@link
+   * #decode} 에서 확인한다.
+   */
+  static int[] scan(ByteBuffer buf, int offset, int limit) {
+    int[] offsets = new int[64];
+    int count = 0;
+    while (offset + HEADER_SIZE <= limit) {
+      int bodySize = buf.getInt(offset);
+      if (bodySize <= 0 || bodySize > MAX_BODY_SIZE || offset + HEADER_SIZE + bodySize > limit) {
+        break;
+      }
+      if (count == offsets.length) {
+        offsets = Arrays.copyOf(offsets, count << 1);
+      }
+      offsets[count++] = offset;
+      offset += HEADER_SIZE + bodySize;
+    }
+    return Arrays.copyOf(offsets, count);
+  }
+
+  static int frameSize(ByteBuffer buf, int offset) {
+    return HEADER_SIZE + buf.getInt(offset);
+  }
+
+  static long lsn(ByteBuffer buf, int offset) {
+    return buf.getLong(offset + Integer.BYTES * 2);
+  }
+
+  /** CRC 가 맞지 않으면 null. 절대 위치로만 읽으므로 여러 스레드가 같은 버퍼를 함께 읽어도 된다. */
+  static UserRow decode(ByteBuffer buf, int offset) {
+    int bodySize = buf.getInt(offset);
+    if (buf.getInt(offset + Integer.BYTES) != crc(buf, offset, bodySize)) {
+      return null;
+    }
+
+    int position = offset + HEADER_SIZE;
+    long id = buf.getLong(position);
+    long version = buf.getLong(position + Long.BYTES);
+    int role = buf.get(position + 2 * Long.BYTES);
+    if (role < 0 || role >= ROLES.length) {
+      return null;
+    }
+    position += 2 * Long.BYTES + 1;
+    String username = getString(buf, position);
+    position += Short.BYTES + stringSize(buf, position);
+    String password = getString(buf, position);
+    position += Short.BYTES + stringSize(buf, position);
+    String nickname = getString(buf, position);
+    return new UserRow(id, username, password, nickname, ROLES[role], version);
+  }
+
+  private static void putString(ByteBuffer frame, byte[] value) {
+    frame.putShort((short) value.length).put(value);
+  }
+
+  private static String getString(ByteBuffer buf, int position) {
+    byte[] value = new byte[stringSize(buf, position)];
+    buf.get(position + Short.BYTES, value);
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  private static int stringSize(ByteBuffer buf, int position) {
+    return Short.toUnsignedInt(buf.getShort(position));
+  }
+
+  // lsn 부터 본문 끝까지
+  private static int crc(ByteBuffer buf, int offset, int bodySize) {
+    CRC32 crc = new CRC32();
+    crc.update(buf.slice(offset + Integer.BYTES * 2, Long.BYTES + bodySize));
+    return (int) crc.getValue();
+  }
+}
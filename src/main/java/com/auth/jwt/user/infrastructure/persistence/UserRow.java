@@ -0,0 +1,45 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.vo.Nickname;
+import com.auth.jwt.user.domain.vo.Password;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+
+/**
+ * 저장소가 보관하는 사용자 한 명의 행. 값 객체(UserId, Long, Username, Password, Nickname) 없이 문자열과 역할만 담고, 조회할
+ * 때 {@link User} 로 복원한다.
+ */
+record UserRow(
+    long id, String username, String password, String nickname, Role role, long version) {
+
+  static UserRow from(User user) {
+    return from(user, user.getVersion());
+  }
+
+  /** user 를 변경한 결과로 저장할 행. 읽어 온 버전의 다음 버전을 갖는다. */
+  static UserRow nextVersionOf(User user) {
+    return from(user, user.getVersion() + 1);
+  }
+
+  private static UserRow from(User user, long version) {
+    return new UserRow(
+        user.getId().getValue(),
+        user.getUsername().getValue(),
+        user.getPassword().getValue(),
+        user.getNickname().getValue(),
+        user.getRole(),
+        version);
+  }
+
+  User toUser() {
+    return new User(
+        UserId.of(id),
+        Username.of(username),
+        Password.ofEncrypted(password),
+        Nickname.of(nickname),
+        role,
+        version);
+  }
+}
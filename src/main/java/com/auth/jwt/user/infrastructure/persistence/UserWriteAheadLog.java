@@ -0,0 +1,226 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 쓰기를 순서대로 덧붙이는 로그. 세그먼트 파일 이름은 그 세그먼트의 첫 lsn 이다.
+ *
+ * <p>그룹 커밋: 기록은 쓰기 잠금 안에서 순서대로 하고, fsync 는 잠금 밖에서 기다리는 스레드 중 하나가 대표로 한 번 수행한다. 대표가
+ * fsync 하는 동안 들어온 기록은 다음 대표의 fsync 한 번으로 함께 내려가므로, 동시 쓰기가 많을수록 기록당 fsync 횟수가 줄어든다.
+ *
+ * <p>대표의 fsync 가 실패하면 함께 기다리던 스레드도 모두 실패한다. 쓰기 오류 뒤의 fsync 는 오류를 다시 알리지 않고 성공할 수 있으므로
+ * 다시 시도하지 않는다.
+ */
+final class UserWriteAheadLog implements AutoCloseable {
+  static final String SEGMENT_PREFIX = "wal-";
+  static final String SEGMENT_SUFFIX = ".log";
+
+  private final Path directory;
+  private final SegmentOpener segmentOpener;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final ReentrantLock syncLock = new ReentrantLock();
+  private final Condition synced = syncLock.newCondition();
+
+  // writeLock 으로 보호. channel 교체는 syncLock 도 함께 잡는다. broken 은 fsync 실패 때 잠금 밖에서도 세운다.
+  private FileChannel channel;
+  private long lastLsn;
+  private volatile boolean broken;
+  private volatile long writtenLsn;
+
+  // syncLock 으로 보호
+  private long syncedLsn;
+  private boolean syncing;
+
+  UserWriteAheadLog(Path directory, long lastLsn) throws IOException {
+    this(directory, lastLsn, UserWriteAheadLog::openSegmentFile);
+  }
+
+  UserWriteAheadLog(Path directory, long lastLsn, SegmentOpener segmentOpener)
+      throws IOException {
+    this.directory = directory;
+    this.segmentOpener = segmentOpener;
+    this.lastLsn = lastLsn;
+    this.writtenLsn = lastLsn;
+    this.syncedLsn = lastLsn;
+    this.channel = openSegment(lastLsn + 1);
+  }
+
+  /**
+   * row 를 기록하고 같은 잠금 안에서 apply 로 메모리에 반영한 뒤, 기록이 디스크에 내려갈 때까지 기다린다. 잠금 안에서 반영하므로
+   * 메모리의 최종 상태와 로그 재생 결과의 순서가 같다.
+   */
+  long append(UserRow row, Consumer<UserRow> apply) {
+    return append(row, ignored -> {}, apply);
+  }
+
+  /**
+   * 기록하기 전에 같은 잠금 안에서 precondition 을 확인한다. precondition 이 던지면 아무것도 기록하지 않는다. 반영이 실패할 수
+   * 있는 조건(사용자명 예약 등)은 precondition 에서 모두 잡아 두어야 한다. 그래도 apply 가 던지면 기록한 프레임을 잘라 내, 호출자가
+   * 실패로 본 쓰기가 재시작 후 재생되지 않게 한다.
+   *
+   * <p>반영은 fsync 를 기다리기 전에 보인다. 디스크에 내려가지 않은 변경이 보이는 시간은 그룹 커밋 한 번이며, fsync 에 실패하면
+   * 로그를 막아 이후 쓰기를 받지 않고 재시작 복구에 맡긴다.
+   */
+  long append(UserRow row, Consumer<UserRow> precondition, Consumer<UserRow> apply) {
+    long lsn;
+    writeLock.lock();
+    try {
+      if (broken) {
+        throw brokenLog();
+      }
+      precondition.accept(row);
+      lsn = lastLsn + 1;
+      long start = channel.size();
+      ByteBuffer frame = ByteBuffer.wrap(UserRecordCodec.encode(lsn, row));
+      while (frame.hasRemaining()) {
+        channel.write(frame);
+      }
+      try {
+        apply.accept(row);
+      } catch (RuntimeException e) {
+        channel.truncate(start);
+        throw e;
+      }
+      lastLsn = lsn;
+      writtenLsn = lsn;
+    } catch (IOException e) {
+      // 프레임 일부만 기록되었을 수 있다. 뒤에 덧붙이면 복구가 그 지점에서 멈추므로 이후 쓰기를 막는다.
+      broken = true;
+      throw new IllegalStateException("사용자 로그를 기록할 수 없습니다. path: " + directory, e);
+    } finally {
+      writeLock.unlock();
+    }
+
+    awaitSync(lsn);
+    return lsn;
+  }
+
+  /**
+   * 현재 세그먼트를 닫고 새 세그먼트를 연다. 닫은 세그먼트의 마지막 lsn 을 반환한다. 막힌 로그는 끝에 불완전한 프레임이 남았을 수
+   * 있으므로 넘기지 않는다. 복구는 가장 최근 세그먼트의 끝만 잘라 낸다.
+   */
+  long rotate() throws IOException {
+    lockForRotation();
+    try {
+      if (broken) {
+        throw brokenLog();
+      }
+      channel.force(false);
+      channel.close();
+      syncedLsn = lastLsn;
+      synced.signalAll();
+      channel = openSegment(lastLsn + 1);
+      return lastLsn;
+    } finally {
+      syncLock.unlock();
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lockForRotation();
+    try {
+      channel.force(false);
+      channel.close();
+    } finally {
+      syncLock.unlock();
+      writeLock.unlock();
+    }
+  }
+
+  static String segmentName(long firstLsn) {
+    return String.format("%s%020d%s", SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX);
+  }
+
+  static long segmentFirstLsn(Path segment) {
+    String name = segment.getFileName().toString();
+    return Long.parseLong(
+        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  // 진행 중인 fsync 가 끝나기를 기다린 뒤 두 잠금을 모두 잡는다. 해제는 호출자가 한다.
+  private void lockForRotation() {
+    writeLock.lock();
+    syncLock.lock();
+    while (syncing) {
+      synced.awaitUninterruptibly();
+    }
+  }
+
+  private void awaitSync(long lsn) {
+    syncLock.lock();
+    try {
+      while (syncedLsn < lsn) {
+        if (broken) {
+          throw brokenLog();
+        }
+        if (syncing) {
+          synced.awaitUninterruptibly();
+          continue;
+        }
+        sync();
+      }
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  // syncLock 을 잡은 대표 스레드가 호출한다. fsync 하는 동안은 잠금을 놓아 다른 스레드가 기다릴 수 있게 한다.
+  private void sync() {
+    syncing = true;
+    FileChannel target = channel;
+    long targetLsn = writtenLsn;
+    IOException failure = null;
+
+    syncLock.unlock();
+    try {
+      target.force(false);
+    } catch (IOException e) {
+      failure = e;
+    } finally {
+      syncLock.lock();
+      syncing = false;
+      if (failure == null) {
+        syncedLsn = Math.max(syncedLsn, targetLsn);
+      } else {
+        // 메모리에는 이미 반영되었으므로 디스크와 어긋난 채 더 쓰지 않는다. 깨우기 전에 세워 기다리던 스레드도 실패하게 한다.
+        broken = true;
+      }
+      synced.signalAll();
+    }
+
+    if (failure != null) {
+      throw new IllegalStateException("사용자 로그를 디스크에 반영할 수 없습니다. path: " + directory, failure);
+    }
+  }
+
+  private IllegalStateException brokenLog() {
+    return new IllegalStateException("기록에 실패한 사용자 로그입니다. 재시작해 복구해야 합니다. path: " + directory);
+  }
+
+  private FileChannel openSegment(long firstLsn) throws IOException {
+    return segmentOpener.open(directory.resolve(segmentName(firstLsn)));
+  }
+
+  private static FileChannel openSegmentFile(Path segment) throws IOException {
+    return FileChannel.open(
+        segment,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+  }
+
+  /** 세그먼트 파일을 여는 방법. 테스트에서 fsync 실패를 흉내 낼 때 바꾼다. */
+  @FunctionalInterface
+  interface SegmentOpener {
+    FileChannel open(Path segment) throws IOException;
+  }
+}
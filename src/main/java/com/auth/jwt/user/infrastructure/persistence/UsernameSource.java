@@ -0,0 +1,8 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import java.util.function.Consumer;
+
+/** 저장된 사용자명을 모두 훑을 수 있는 저장소. 블룸 필터를 처음 채울 때 쓴다. */
+public interface UsernameSource {
+  void forEachUsername(Consumer<String> action);
+}
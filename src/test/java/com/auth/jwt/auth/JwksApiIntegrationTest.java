@@ -0,0 +1,44 @@
+package com.auth.jwt.auth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("[JwksApiIntegrationTest] JWKS API 통합 테스트")
+class JwksApiIntegrationTest {
+  private static final String JWKS_URL = "/.well-known/jwks.json";
+
+  @Autowired private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("인증 없이 JWKS 를 ETag, Cache-Control 과 함께 조회")
+  void should_ReturnJwksWithCacheHeaders_When_Requested() throws Exception {
+    mockMvc
+        .perform(get(JWKS_URL))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andExpect(header().string("Cache-Control", "max-age=600, public"))
+        .andExpect(jsonPath("$.keys").isArray());
+  }
+
+  @Test
+  @DisplayName("If-None-Match 가 ETag 와 같으면 304 응답")
+  void should_ReturnNotModified_When_EtagMatches() throws Exception {
+    String etag = mockMvc.perform(get(JWKS_URL)).andReturn().getResponse().getHeader("ETag");
+
+    mockMvc
+        .perform(get(JWKS_URL).header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+}
@@ -3,6 +3,8 @@ package com.auth.jwt.auth;
 import static org.assertj.core.api.Assertions.*;
 
 import com.auth.jwt.auth.application.exception.TokenExpiredException;
+import com.auth.jwt.auth.application.model.TokenStatus;
+import com.auth.jwt.auth.application.model.VerifiedToken;
 import com.auth.jwt.auth.infrastructure.config.JwtProperties;
 import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
 import org.junit.jupiter.api.DisplayName;
@@ -73,6 +75,54 @@ class JwtExpirationIntegrationTest {
     assertThat(isValid).isTrue();
   }
 
+  @Test
+  @DisplayName("단일 검증 - 만료된 토큰은 예외 없이 EXPIRED 상태 반환")
+  void should_ReturnExpiredStatus_When_VerifyingExpiredToken() throws InterruptedException {
+    // given
+    String accessToken = jwtTokenIssuerPort.generateAccessToken(1L, "testuser", "ROLE_USER");
+
+    Thread.sleep(1500);
+
+    // when
+    VerifiedToken verified = jwtTokenIssuerPort.verify(accessToken);
+
+    // then
+    assertThat(verified.status()).isEqualTo(TokenStatus.EXPIRED);
+    assertThat(verified.userId()).isNull();
+  }
+
+  @Test
+  @DisplayName("단일 검증 - 유효한 토큰의 클레임 반환")
+  void should_ReturnVerifiedClaims_When_TokenNotExpired() {
+    // given
+    String accessToken = jwtTokenIssuerPort.generateAccessToken(1L, "testuser", "ROLE_USER");
+
+    // when
+    VerifiedToken verified = jwtTokenIssuerPort.verify(accessToken);
+
+    // then
+    assertThat(verified.status()).isEqualTo(TokenStatus.VALID);
+    assertThat(verified.userId()).isEqualTo(1L);
+    assertThat(verified.authority()).isEqualTo("ROLE_USER");
+    assertThat(verified.username()).isEqualTo("testuser");
+    assertThat(verified.isAccessToken()).isTrue();
+    assertThat(verified.expiresAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("단일 검증 - 변조된 토큰은 INVALID 상태 반환")
+  void should_ReturnInvalidStatus_When_TokenIsTampered() {
+    // given
+    String accessToken = jwtTokenIssuerPort.generateAccessToken(1L, "testuser", "ROLE_USER");
+    String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+    // when & then
+    assertThat(jwtTokenIssuerPort.verify(tampered).status()).isEqualTo(TokenStatus.INVALID);
+    assertThat(jwtTokenIssuerPort.verify("invalid.token.format").status())
+        .isEqualTo(TokenStatus.INVALID);
+    assertThat(jwtTokenIssuerPort.verify(null).status()).isEqualTo(TokenStatus.INVALID);
+  }
+
   @Test
   @DisplayName("설정된 만료 시간 확인")
   void should_UseConfiguredExpirationTime() {
@@ -9,12 +9,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.auth.jwt.auth.application.AuthenticationService;
+import com.auth.jwt.auth.application.dto.command.CreateTokenPairCommand;
 import com.auth.jwt.auth.application.dto.command.CredentialCommand;
 import com.auth.jwt.auth.application.dto.command.SaveRefreshCommand;
 import com.auth.jwt.auth.application.dto.result.AuthenticationResult;
 import com.auth.jwt.auth.application.dto.result.CreateTokenPairResult;
 import com.auth.jwt.auth.application.exception.AuthenticationException;
 import com.auth.jwt.auth.presentation.dto.request.LoginRequest;
+import com.auth.jwt.common.exception.ExceptionDetail;
+import com.auth.jwt.common.exception.ServiceUnavailableException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,13 +49,16 @@ class LoginApiIntegrationTest {
   @MockitoBean private AuthenticationService authenticationService;
 
   private void mockSuccessfulAuthentication(String username, String password) {
-    AuthenticationResult authResult = new AuthenticationResult(1L, "ROLE_USER");
+    AuthenticationResult authResult = new AuthenticationResult(1L, username, "ROLE_USER");
     CreateTokenPairResult tokenResult =
         new CreateTokenPairResult(SAMPLE_ACCESS_TOKEN, SAMPLE_REFRESH_TOKEN);
 
     given(authenticationService.getUserByCredentialInfo(any(CredentialCommand.class)))
         .willReturn(authResult);
-    given(authenticationService.createAuthenticationToken(1L)).willReturn(tokenResult);
+    given(
+            authenticationService.createAuthenticationToken(
+                new CreateTokenPairCommand(1L, username, "ROLE_USER")))
+        .willReturn(tokenResult);
     willDoNothing().given(authenticationService).saveRefreshToken(any(SaveRefreshCommand.class));
   }
 
@@ -120,6 +126,29 @@ class LoginApiIntegrationTest {
         .andExpect(jsonPath("$.error.code").value("UNSUCCESSFUL_AUTHENTICATION"));
   }
 
+  @Test
+  @DisplayName("로그인 실패 - 비밀번호 해시 용량 초과 시 401 대신 503과 Retry-After")
+  void should_ReturnServiceUnavailable_When_PasswordHashingSaturated() throws Exception {
+    // given
+    LoginRequest request = new LoginRequest(VALID_USERNAME, VALID_PASSWORD);
+    willThrow(
+            new ServiceUnavailableException(
+                ExceptionDetail.of("PASSWORD_HASHING_BUSY", "요청이 많아 처리할 수 없습니다."), 2))
+        .given(authenticationService)
+        .getUserByCredentialInfo(any(CredentialCommand.class));
+
+    // when & then
+    mockMvc
+        .perform(
+            post(LOGIN_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "2"))
+        .andExpect(jsonPath("$.error.code").value("PASSWORD_HASHING_BUSY"));
+  }
+
   @Test
   @DisplayName("로그인 실패 - 사용자명이 null (JSON 파싱은 성공하지만 validation 실패)")
   void should_ReturnUnauthorized_When_UsernameIsNull() throws Exception {
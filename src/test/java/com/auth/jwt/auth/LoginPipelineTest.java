@@ -0,0 +1,103 @@
+package com.auth.jwt.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.auth.jwt.auth.application.AuthenticationService;
+import com.auth.jwt.auth.application.dto.command.CreateTokenPairCommand;
+import com.auth.jwt.auth.application.dto.command.CredentialCommand;
+import com.auth.jwt.auth.application.dto.result.AuthenticationResult;
+import com.auth.jwt.auth.application.dto.result.CreateTokenPairResult;
+import com.auth.jwt.auth.application.exception.AuthenticationException;
+import com.auth.jwt.auth.application.model.TokenPair;
+import com.auth.jwt.auth.application.port.DateTimePort;
+import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
+import com.auth.jwt.auth.application.port.TokenIssuerPort;
+import com.auth.jwt.auth.application.port.TokenValidationPort;
+import com.auth.jwt.user.application.UserQueryService;
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.service.PasswordEncryptionProvider;
+import com.auth.jwt.user.domain.vo.Nickname;
+import com.auth.jwt.user.domain.vo.Password;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[LoginPipelineTest] 로그인 자격 증명 확인부터 토큰 발급까지 사용자 조회 횟수 테스트")
+class LoginPipelineTest {
+  private static final String ENCRYPTED_PASSWORD = "$2a$10$encrypted-password";
+
+  private final InMemoryUserRepository repository = spy(new InMemoryUserRepository());
+  private final PasswordEncryptionProvider encryptionProvider =
+      mock(PasswordEncryptionProvider.class);
+  private final TokenIssuerPort tokenIssuerPort = mock(TokenIssuerPort.class);
+  private final AuthenticationService authenticationService =
+      new AuthenticationService(
+          new UserQueryService(repository, encryptionProvider, event -> {}),
+          mock(DateTimePort.class),
+          mock(RefreshTokenStoragePort.class),
+          tokenIssuerPort,
+          mock(TokenValidationPort.class));
+
+  @BeforeEach
+  void setUp() {
+    repository.save(
+        new User(
+            UserId.of(2L),
+            Username.of("user"),
+            Password.ofEncrypted(ENCRYPTED_PASSWORD),
+            Nickname.of("사용자"),
+            Role.USER));
+  }
+
+  @Test
+  @DisplayName("자격 증명 확인과 토큰 발급 동안 사용자를 한 번만 조회")
+  void should_FetchUserOnce_When_LoginSucceeds() {
+    // given
+    given(encryptionProvider.matches("user1234", ENCRYPTED_PASSWORD)).willReturn(true);
+    given(tokenIssuerPort.generateTokenPair(anyLong(), anyString(), anyString()))
+        .willReturn(new TokenPair("access", "refresh"));
+
+    // when
+    AuthenticationResult result =
+        authenticationService.getUserByCredentialInfo(new CredentialCommand("user", "user1234"));
+    CreateTokenPairResult tokens =
+        authenticationService.createAuthenticationToken(
+            new CreateTokenPairCommand(result.id(), result.username(), result.role()));
+
+    // then
+    assertThat(result).isEqualTo(new AuthenticationResult(2L, "user", "ROLE_USER"));
+    assertThat(tokens.accessToken()).isEqualTo("access");
+    verify(tokenIssuerPort).generateTokenPair(2L, "user", "ROLE_USER");
+    verify(repository, times(1)).findByUsername(any());
+    verify(repository, never()).findById(any(UserId.class));
+    verify(repository, never()).findById(anyLong());
+  }
+
+  @Test
+  @DisplayName("비밀번호가 틀리면 토큰 발급 전에 인증 예외")
+  void should_ThrowAuthenticationException_When_PasswordMismatch() {
+    // given
+    given(encryptionProvider.matches("wrong1234", ENCRYPTED_PASSWORD)).willReturn(false);
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                authenticationService.getUserByCredentialInfo(
+                    new CredentialCommand("user", "wrong1234")))
+        .isInstanceOf(AuthenticationException.class);
+    verify(repository, times(1)).findByUsername(any());
+  }
+}
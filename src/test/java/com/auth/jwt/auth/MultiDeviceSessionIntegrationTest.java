@@ -0,0 +1,86 @@
+package com.auth.jwt.auth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.auth.jwt.auth.presentation.dto.request.LoginRequest;
+import com.auth.jwt.auth.presentation.dto.request.TokenReissueRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+// 같은 초에 발급된 JWT 리프레시 토큰은 내용이 같으므로, 기기별로 다른 토큰이 나오는 불투명 모드로 검증한다.
+@SpringBootTest(
+    properties = {
+      "jwt.refreshTokenMode=opaque",
+      "jwt.refreshTokenStore.maxSessionsPerUser=2"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("[MultiDeviceSessionIntegrationTest] 다중 기기 세션 통합 테스트")
+class MultiDeviceSessionIntegrationTest {
+
+  private static final String LOGIN_URL = "/login";
+  private static final String REFRESH_URL = "/refresh-token";
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("다른 기기에서 로그인해도 기존 기기 세션 유지")
+  void should_KeepExistingSession_When_LoggedInOnAnotherDevice() throws Exception {
+    // given
+    JsonNode laptop = login("user", "user1234");
+    JsonNode phone = login("user", "user1234");
+
+    // when & then
+    refresh(laptop).andExpect(status().isOk());
+    refresh(phone).andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("세션 상한을 넘으면 가장 오래된 기기 세션 만료")
+  void should_ExpireOldestSession_When_SessionLimitExceeded() throws Exception {
+    // given
+    JsonNode first = login("admin", "admin123");
+    JsonNode second = login("admin", "admin123");
+    JsonNode third = login("admin", "admin123");
+
+    // when & then
+    refresh(first).andExpect(status().isUnauthorized());
+    refresh(second).andExpect(status().isOk());
+    refresh(third).andExpect(status().isOk());
+  }
+
+  private JsonNode login(String username, String password) throws Exception {
+    String response =
+        mockMvc
+            .perform(
+                post(LOGIN_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(new LoginRequest(username, password))))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return objectMapper.readTree(response);
+  }
+
+  private ResultActions refresh(JsonNode tokens) throws Exception {
+    TokenReissueRequest request =
+        new TokenReissueRequest(
+            tokens.get("accessToken").asText(), tokens.get("refreshToken").asText());
+    return mockMvc.perform(
+        post(REFRESH_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+  }
+}
@@ -0,0 +1,128 @@
+package com.auth.jwt.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
+import com.auth.jwt.auth.application.model.RefreshToken;
+import com.auth.jwt.auth.presentation.dto.request.LoginRequest;
+import com.auth.jwt.auth.presentation.dto.request.TokenReissueRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest(properties = "jwt.refreshTokenMode=opaque")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("[OpaqueRefreshTokenIntegrationTest] 불투명 리프레시 토큰 통합 테스트")
+class OpaqueRefreshTokenIntegrationTest {
+
+  private static final String LOGIN_URL = "/login";
+  private static final String REFRESH_URL = "/refresh-token";
+  private static final String OPAQUE_TOKEN_PATTERN = "^[A-Za-z0-9_-]{43}$";
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private RefreshTokenStoragePort refreshTokenStoragePort;
+
+  @Test
+  @DisplayName("로그인 → 토큰 갱신 → 재갱신 시 매번 새 불투명 리프레시 토큰 발급")
+  void should_RotateOpaqueRefreshToken_When_RefreshedRepeatedly() throws Exception {
+    // given
+    JsonNode login = login("user", "user1234");
+    String accessToken = login.get("accessToken").asText();
+    String refreshToken = login.get("refreshToken").asText();
+    assertThat(refreshToken).matches(OPAQUE_TOKEN_PATTERN);
+    assertThat(accessToken.split("\\.")).hasSize(3);
+
+    // when
+    JsonNode first = readBody(refresh(accessToken, refreshToken).andExpect(status().isOk()));
+    String firstRefreshToken = first.get("refreshToken").asText();
+    JsonNode second =
+        readBody(
+            refresh(first.get("accessToken").asText(), firstRefreshToken)
+                .andExpect(status().isOk()));
+
+    // then
+    assertThat(firstRefreshToken).matches(OPAQUE_TOKEN_PATTERN).isNotEqualTo(refreshToken);
+    assertThat(second.get("refreshToken").asText())
+        .matches(OPAQUE_TOKEN_PATTERN)
+        .isNotEqualTo(firstRefreshToken);
+  }
+
+  @Test
+  @DisplayName("갱신에 사용한 불투명 리프레시 토큰은 다시 사용할 수 없음")
+  void should_RejectOpaqueRefreshToken_When_AlreadyRotated() throws Exception {
+    // given
+    JsonNode login = login("admin", "admin123");
+    String accessToken = login.get("accessToken").asText();
+    String refreshToken = login.get("refreshToken").asText();
+    refresh(accessToken, refreshToken).andExpect(status().isOk());
+
+    // when & then
+    refresh(accessToken, refreshToken)
+        .andExpect(status().isUnauthorized())
+        .andExpect(jsonPath("$.error.code").exists());
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 불투명 리프레시 토큰으로 갱신 실패")
+  void should_FailRefresh_When_OpaqueTokenNotRegistered() throws Exception {
+    // given
+    String accessToken = login("user", "user1234").get("accessToken").asText();
+    String unknownToken = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+    // when & then
+    refresh(accessToken, unknownToken)
+        .andExpect(status().isUnauthorized())
+        .andExpect(jsonPath("$.error.code").exists());
+  }
+
+  @Test
+  @DisplayName("불투명 리프레시 토큰의 사용자가 없으면 USER_NOT_FOUND 로 갱신 실패")
+  void should_FailRefresh_When_OpaqueTokenUserNotFound() throws Exception {
+    // given
+    String accessToken = login("user", "user1234").get("accessToken").asText();
+    String orphanToken = "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB";
+    refreshTokenStoragePort.save(
+        RefreshToken.create(orphanToken, 999_999L, LocalDateTime.now().plusDays(1)));
+
+    // when & then
+    refresh(accessToken, orphanToken)
+        .andExpect(status().isUnauthorized())
+        .andExpect(jsonPath("$.error.code").value("USER_NOT_FOUND"));
+  }
+
+  private JsonNode login(String username, String password) throws Exception {
+    return readBody(
+        mockMvc
+            .perform(
+                post(LOGIN_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        objectMapper.writeValueAsString(new LoginRequest(username, password))))
+            .andExpect(status().isOk()));
+  }
+
+  private ResultActions refresh(String accessToken, String refreshToken) throws Exception {
+    return mockMvc.perform(
+        post(REFRESH_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(
+                objectMapper.writeValueAsString(
+                    new TokenReissueRequest(accessToken, refreshToken))));
+  }
+
+  private JsonNode readBody(ResultActions result) throws Exception {
+    return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+  }
+}
@@ -0,0 +1,181 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.PublicKeySet;
+import com.auth.jwt.auth.application.model.TokenStatus;
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.jwt.FastHmacTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.JwksPublicKeySetAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[AsymmetricSigningTest] 비대칭 서명(ES256, EdDSA)과 JWKS 테스트")
+class AsymmetricSigningTest {
+  private static final String LEGACY_SECRET =
+      "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+  private final Clock clock = Clock.systemUTC();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("ES256 키로 서명하고 공개키만으로 검증")
+  void should_VerifyWithPublicKey_When_SignedWithEs256() throws Exception {
+    // given
+    KeyPair keyPair = ecKeyPair();
+    JwtTokenIssuerPort issuer =
+        new JwtTokenIssuerPort(
+            properties(key("es-1", JwtProperties.KeyAlgorithm.ES256, keyPair, true)), clock);
+
+    // when
+    String token = issuer.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+
+    // then
+    assertThat(header(token)).contains("\"alg\":\"ES256\"").contains("\"kid\":\"es-1\"");
+    assertThat(issuer.verify(token).isValid()).isTrue();
+    Claims claims =
+        Jwts.parser().verifyWith(keyPair.getPublic()).build().parseSignedClaims(token).getPayload();
+    assertThat(claims.getSubject()).isEqualTo("1");
+  }
+
+  @Test
+  @DisplayName("EdDSA 키로 서명하고 검증하며, 고정 HMAC 검증기는 jjwt 로 위임")
+  void should_VerifyEdDsaToken_When_FastVerifierFallsBack() throws Exception {
+    // given
+    KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    JwtTokenIssuerPort issuer =
+        new JwtTokenIssuerPort(
+            properties(key("ed-1", JwtProperties.KeyAlgorithm.EDDSA, keyPair, true)), clock);
+    FastHmacTokenValidationAdapter fast =
+        new FastHmacTokenValidationAdapter(issuer.keyRing(), clock, issuer);
+
+    // when
+    String token = issuer.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    VerifiedToken verified = fast.verify(token);
+
+    // then
+    assertThat(header(token)).contains("\"alg\":\"EdDSA\"");
+    assertThat(verified.isValid()).isTrue();
+    assertThat(verified).isEqualTo(issuer.verify(token));
+    assertThat(fast.fallbackCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 개인키로 서명한 토큰은 유효하지 않음")
+  void should_ReturnInvalid_When_SignedWithOtherPrivateKey() throws Exception {
+    // given
+    KeyPair published = ecKeyPair();
+    KeyPair attacker = ecKeyPair();
+    JwtTokenIssuerPort verifier =
+        new JwtTokenIssuerPort(
+            properties(key("es-1", JwtProperties.KeyAlgorithm.ES256, published, true)), clock);
+    String forged =
+        Jwts.builder()
+            .header()
+            .keyId("es-1")
+            .and()
+            .subject("1")
+            .claim("type", "access")
+            .expiration(new Date(clock.millis() + 60_000))
+            .signWith(attacker.getPrivate())
+            .compact();
+
+    // when & then
+    assertThat(verifier.verify(forged).status()).isEqualTo(TokenStatus.INVALID);
+  }
+
+  @Test
+  @DisplayName("JWKS 에는 비대칭 공개키만 포함되고 ETag 는 본문에 따라 결정")
+  void should_PublishOnlyPublicKeys_When_BuildingJwks() throws Exception {
+    // given
+    KeyPair ecKeyPair = ecKeyPair();
+    KeyPair edKeyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    JwtProperties properties =
+        properties(
+            key("es-1", JwtProperties.KeyAlgorithm.ES256, ecKeyPair, true),
+            key("ed-old", JwtProperties.KeyAlgorithm.EDDSA, edKeyPair, false));
+    properties.setSecretKey(LEGACY_SECRET);
+    JwtTokenIssuerPort issuer = new JwtTokenIssuerPort(properties, clock);
+
+    // when
+    PublicKeySet first =
+        new JwksPublicKeySetAdapter(issuer, properties, objectMapper).getPublicKeySet();
+    PublicKeySet second =
+        new JwksPublicKeySetAdapter(issuer, properties, objectMapper).getPublicKeySet();
+
+    // then
+    JsonNode keys = objectMapper.readTree(first.json()).get("keys");
+    assertThat(keys).hasSize(2);
+    assertThat(keys.get(0).get("kid").asText()).isEqualTo("es-1");
+    assertThat(keys.get(0).get("kty").asText()).isEqualTo("EC");
+    assertThat(keys.get(0).has("d")).isFalse();
+    assertThat(keys.get(1).get("crv").asText()).isEqualTo("Ed25519");
+    assertThat(first.json()).doesNotContain(LEGACY_SECRET);
+
+    ECPublicKey ecPublicKey = (ECPublicKey) ecKeyPair.getPublic();
+    byte[] x = Base64.getUrlDecoder().decode(keys.get(0).get("x").asText());
+    assertThat(x).hasSize(32);
+    assertThat(new BigInteger(1, x)).isEqualTo(ecPublicKey.getW().getAffineX());
+
+    assertThat(first.etag()).startsWith("\"").endsWith("\"").isEqualTo(second.etag());
+    assertThat(first.maxAgeSeconds()).isEqualTo(properties.getJwks().getMaxAge());
+  }
+
+  @Test
+  @DisplayName("활성 키에 개인키가 없으면 시작 시 실패")
+  void should_FailFast_When_ActiveKeyHasNoPrivateKey() throws Exception {
+    JwtProperties properties =
+        properties(key("es-1", JwtProperties.KeyAlgorithm.ES256, ecKeyPair(), false));
+
+    assertThatThrownBy(() -> new JwtTokenIssuerPort(properties, clock))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static KeyPair ecKeyPair() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec("secp256r1"));
+    return generator.generateKeyPair();
+  }
+
+  private static JwtProperties.Key key(
+      String kid, JwtProperties.KeyAlgorithm algorithm, KeyPair keyPair, boolean withPrivateKey) {
+    JwtProperties.Key key = new JwtProperties.Key();
+    key.setKid(kid);
+    key.setAlgorithm(algorithm);
+    key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    if (withPrivateKey) {
+      key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+    }
+    return key;
+  }
+
+  private static JwtProperties properties(JwtProperties.Key... keys) {
+    JwtProperties properties = new JwtProperties();
+    properties.setActiveKid(keys[0].getKid());
+    properties.setAccessTokenExpiration(300_000);
+    properties.setRefreshTokenExpiration(2_592_000_000L);
+    properties.getKeys().addAll(List.of(keys));
+    return properties;
+  }
+
+  private static String header(String token) {
+    String segment = token.substring(0, token.indexOf('.'));
+    return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+  }
+}
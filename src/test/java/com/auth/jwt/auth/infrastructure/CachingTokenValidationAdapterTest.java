@@ -0,0 +1,182 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.application.port.TokenValidationPort;
+import com.auth.jwt.auth.infrastructure.jwt.CachingTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.CachingTokenValidationAdapter.CacheStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@DisplayName("[CachingTokenValidationAdapterTest] 검증 토큰 캐시 테스트")
+class CachingTokenValidationAdapterTest {
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  private final TokenValidationPort delegate = Mockito.mock(TokenValidationPort.class);
+  private final MutableClock clock = new MutableClock(NOW);
+
+  @Test
+  @DisplayName("같은 토큰 재검증 시 캐시 적중")
+  void should_HitCache_When_SameTokenVerifiedTwice() {
+    // given
+    CachingTokenValidationAdapter adapter =
+        new CachingTokenValidationAdapter(delegate, 16, 60_000, clock);
+    given(delegate.verify("token-a")).willReturn(valid("1", NOW.plusSeconds(300)));
+
+    // when
+    VerifiedToken first = adapter.verify("token-a");
+    VerifiedToken second = adapter.verify("token-a");
+
+    // then
+    assertThat(second).isSameAs(first);
+    verify(delegate, times(1)).verify("token-a");
+    CacheStats stats = adapter.stats();
+    assertThat(stats.hits()).isEqualTo(1);
+    assertThat(stats.misses()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("적중과 미스 횟수, 크기를 캐시 지표로 내보냄")
+  void should_PublishCacheMetrics_When_BoundToRegistry() {
+    // given
+    CachingTokenValidationAdapter adapter =
+        new CachingTokenValidationAdapter(delegate, 16, 60_000, clock);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    adapter.bindTo(registry);
+    given(delegate.verify("token-a")).willReturn(valid("1", NOW.plusSeconds(300)));
+
+    // when
+    adapter.verify("token-a");
+    adapter.verify("token-a");
+    adapter.verify("token-a");
+
+    // then
+    assertThat(gets(registry, "hit")).isEqualTo(2);
+    assertThat(gets(registry, "miss")).isEqualTo(1);
+    assertThat(registry.get("cache.size").tag("cache", "token-validation").gauge().value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("토큰 exp 이후에는 캐시를 사용하지 않음")
+  void should_ReverifyToken_When_TokenExpirationPassed() {
+    // given
+    CachingTokenValidationAdapter adapter =
+        new CachingTokenValidationAdapter(delegate, 16, 600_000, clock);
+    given(delegate.verify("token-a"))
+        .willReturn(valid("1", NOW.plusSeconds(5)))
+        .willReturn(VerifiedToken.expired());
+    adapter.verify("token-a");
+
+    // when
+    clock.advanceSeconds(6);
+    VerifiedToken result = adapter.verify("token-a");
+
+    // then
+    assertThat(result.isExpired()).isTrue();
+    verify(delegate, times(2)).verify("token-a");
+    assertThat(adapter.stats().size()).isZero();
+  }
+
+  @Test
+  @DisplayName("설정된 TTL 이 토큰 exp 보다 짧으면 TTL 기준으로 만료")
+  void should_ExpireByTtl_When_TtlShorterThanTokenExpiration() {
+    // given
+    CachingTokenValidationAdapter adapter =
+        new CachingTokenValidationAdapter(delegate, 16, 1_000, clock);
+    given(delegate.verify("token-a")).willReturn(valid("1", NOW.plusSeconds(300)));
+    adapter.verify("token-a");
+
+    // when
+    clock.advanceSeconds(2);
+    adapter.verify("token-a");
+
+    // then
+    verify(delegate, times(2)).verify("token-a");
+  }
+
+  @Test
+  @DisplayName("유효하지 않은 토큰은 캐시하지 않음")
+  void should_NotCache_When_TokenIsInvalid() {
+    // given
+    CachingTokenValidationAdapter adapter =
+        new CachingTokenValidationAdapter(delegate, 16, 60_000, clock);
+    given(delegate.verify("bad")).willReturn(VerifiedToken.invalid());
+
+    // when
+    adapter.verify("bad");
+    adapter.verify("bad");
+
+    // then
+    verify(delegate, times(2)).verify("bad");
+    assertThat(adapter.stats().size()).isZero();
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 기존 항목 축출")
+  void should_EvictEntry_When_CacheIsFull() {
+    // given
+    CachingTokenValidationAdapter adapter =
+        new CachingTokenValidationAdapter(delegate, 1, 60_000, clock);
+    given(delegate.verify("token-a")).willReturn(valid("1", NOW.plusSeconds(300)));
+    given(delegate.verify("token-b")).willReturn(valid("2", NOW.plusSeconds(300)));
+
+    // when
+    adapter.verify("token-a");
+    adapter.verify("token-b");
+
+    // then
+    CacheStats stats = adapter.stats();
+    assertThat(stats.size()).isEqualTo(1);
+    assertThat(stats.evictions()).isEqualTo(1);
+  }
+
+  private static double gets(SimpleMeterRegistry registry, String result) {
+    return registry
+        .get("cache.gets")
+        .tags("cache", "token-validation", "result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private VerifiedToken valid(String subject, Instant expiresAt) {
+    return VerifiedToken.valid(subject, "ROLE_USER", "user", "access", expiresAt);
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advanceSeconds(long seconds) {
+      instant = instant.plusSeconds(seconds);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
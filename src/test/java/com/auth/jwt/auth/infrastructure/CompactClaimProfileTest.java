@@ -0,0 +1,148 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.jwt.FastHmacTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[CompactClaimProfileTest] 압축 클레임 프로필 테스트")
+class CompactClaimProfileTest {
+  private static final String SECRET =
+      "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+  private final Clock clock = Clock.systemUTC();
+  private final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+  @Test
+  @DisplayName("압축 프로필 토큰은 짧은 클레임 이름과 코드로 발급되고 같은 값으로 검증")
+  void should_IssueShorterToken_When_CompactProfileEnabled() {
+    // given
+    JwtTokenIssuerPort standard = new JwtTokenIssuerPort(properties(false, true), clock);
+    JwtTokenIssuerPort compact = new JwtTokenIssuerPort(properties(true, true), clock);
+
+    // when
+    String standardToken = standard.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String compactToken = compact.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    VerifiedToken verified = compact.verify(compactToken);
+
+    // then
+    assertThat(payload(compactToken)).contains("\"r\":2").contains("\"t\":1");
+    assertThat(payload(compactToken)).doesNotContain("ROLE_ADMIN").doesNotContain("access");
+    assertThat(compactToken.length()).isLessThan(standardToken.length());
+    assertThat(verified.authority()).isEqualTo("ROLE_ADMIN");
+    assertThat(verified.username()).isEqualTo("admin");
+    assertThat(verified.isAccessToken()).isTrue();
+    assertThat(verified.expiresAt()).isEqualTo(standard.verify(standardToken).expiresAt());
+  }
+
+  @Test
+  @DisplayName("username 생략 설정이면 u 클레임 없이 발급")
+  void should_OmitUsername_When_IncludeUsernameDisabled() {
+    // given
+    JwtTokenIssuerPort compact = new JwtTokenIssuerPort(properties(true, false), clock);
+
+    // when
+    String accessToken = compact.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String refreshToken = compact.generateRefreshToken(1L, "admin");
+
+    // then
+    assertThat(payload(accessToken)).doesNotContain("\"u\"").doesNotContain("admin");
+    assertThat(compact.verify(accessToken).username()).isNull();
+    assertThat(compact.verify(accessToken).userId()).isEqualTo(1L);
+    assertThat(compact.verify(refreshToken).isRefreshToken()).isTrue();
+  }
+
+  @Test
+  @DisplayName("프로필 설정과 관계없이 두 형식의 토큰을 모두 검증")
+  void should_VerifyBothProfiles_When_ProfileSwitched() {
+    // given
+    JwtTokenIssuerPort standard = new JwtTokenIssuerPort(properties(false, true), clock);
+    JwtTokenIssuerPort compact = new JwtTokenIssuerPort(properties(true, true), clock);
+    String standardToken = standard.generateAccessToken(2L, "user", "ROLE_USER");
+    String compactToken = compact.generateAccessToken(2L, "user", "ROLE_USER");
+
+    // when & then
+    assertThat(standard.verify(compactToken)).isEqualTo(compact.verify(compactToken));
+    assertThat(compact.verify(standardToken)).isEqualTo(standard.verify(standardToken));
+    assertThat(standard.verify(compactToken)).isEqualTo(standard.verify(standardToken));
+  }
+
+  @Test
+  @DisplayName("고정 HMAC 검증기는 압축 프로필 토큰을 jjwt 와 같은 결과로 검증")
+  void should_MatchJjwtResult_When_FastVerifierReadsCompactTokens() {
+    // given
+    JwtTokenIssuerPort jjwt = new JwtTokenIssuerPort(properties(true, true), clock);
+    FastHmacTokenValidationAdapter fast =
+        new FastHmacTokenValidationAdapter(jjwt.keyRing(), clock, jjwt);
+    long exp = clock.millis() / 1000 + 60;
+
+    Map<String, String> tokens = new LinkedHashMap<>();
+    tokens.put("access", jjwt.generateAccessToken(1L, "admin", "ROLE_ADMIN"));
+    tokens.put("refresh", jjwt.generateRefreshToken(1L, "admin"));
+    tokens.put("pair", jjwt.generateTokenPair(2L, "user", "ROLE_USER").accessToken());
+    tokens.put("custom role", jjwt.generateAccessToken(3L, "manager", "ROLE_MANAGER"));
+    tokens.put("unknown role code", sign("{\"sub\":\"1\",\"r\":9,\"t\":1,\"exp\":" + exp + "}"));
+    tokens.put("unknown type code", sign("{\"sub\":\"1\",\"r\":1,\"t\":7,\"exp\":" + exp + "}"));
+    tokens.put("string type", sign("{\"sub\":\"1\",\"t\":\"1\",\"exp\":" + exp + "}"));
+    tokens.put("large role", sign("{\"sub\":\"1\",\"r\":12345678901,\"t\":1,\"exp\":" + exp + "}"));
+    tokens.put(
+        "mixed profile",
+        sign("{\"sub\":\"1\",\"auth\":\"ROLE_USER\",\"r\":2,\"t\":1,\"exp\":" + exp + "}"));
+    tokens.put("duplicate type", sign("{\"sub\":\"1\",\"t\":1,\"t\":2,\"exp\":" + exp + "}"));
+
+    // when & then
+    tokens.forEach(
+        (name, token) -> assertThat(fast.verify(token)).as(name).isEqualTo(jjwt.verify(token)));
+    assertThat(fast.verify(tokens.get("access")).authority()).isEqualTo("ROLE_ADMIN");
+    assertThat(fast.verify(tokens.get("custom role")).authority()).isEqualTo("ROLE_MANAGER");
+  }
+
+  private String sign(String payloadJson) {
+    try {
+      String signingInput = encode("{\"alg\":\"HS384\"}") + "." + encode(payloadJson);
+      Mac mac = Mac.getInstance(key.getAlgorithm());
+      mac.init(key);
+      byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+      return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String encode(String json) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String payload(String token) {
+    String segment = token.split("\\.")[1];
+    return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+  }
+
+  private static JwtProperties properties(boolean compact, boolean includeUsername) {
+    JwtProperties properties = new JwtProperties();
+    properties.setSecretKey(SECRET);
+    properties.setAccessTokenExpiration(300_000);
+    properties.setRefreshTokenExpiration(2_592_000_000L);
+    properties
+        .getClaims()
+        .setProfile(
+            compact ? JwtProperties.Claims.Profile.COMPACT : JwtProperties.Claims.Profile.STANDARD);
+    properties.getClaims().setIncludeUsername(includeUsername);
+    return properties;
+  }
+}
@@ -0,0 +1,161 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.TokenStatus;
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.jwt.FastHmacTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[FastHmacTokenValidationAdapterTest] 고정 클레임 HMAC 검증기 차등 테스트")
+class FastHmacTokenValidationAdapterTest {
+  private static final String SECRET =
+      "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+  private static final String OTHER_SECRET =
+      "5A7134743777217A25432A462D4A614E645267556B58703273357638792F423F";
+
+  private final Clock clock = Clock.systemUTC();
+  private final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+  private final JwtTokenIssuerPort jjwt = new JwtTokenIssuerPort(properties(SECRET), clock);
+  private final FastHmacTokenValidationAdapter fast =
+      new FastHmacTokenValidationAdapter(jjwt.keyRing(), clock, jjwt);
+
+  @Test
+  @DisplayName("발급된 토큰은 jjwt 위임 없이 동일한 결과로 검증")
+  void should_VerifyWithoutFallback_When_TokenIssuedByService() {
+    // given
+    String accessToken = jjwt.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String refreshToken = jjwt.generateRefreshToken(2L, "user");
+
+    // when
+    VerifiedToken access = fast.verify(accessToken);
+    VerifiedToken refresh = fast.verify(refreshToken);
+
+    // then
+    assertThat(access).isEqualTo(jjwt.verify(accessToken));
+    assertThat(refresh).isEqualTo(jjwt.verify(refreshToken));
+    assertThat(access.isAccessToken()).isTrue();
+    assertThat(refresh.isRefreshToken()).isTrue();
+    assertThat(fast.fallbackCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("jjwt 검증기와 같은 토큰을 수락하고 거부")
+  void should_MatchJjwtResult_When_VerifyingVariousTokens() {
+    // given
+    Map<String, String> tokens = new LinkedHashMap<>();
+    long now = clock.millis() / 1000;
+    String valid = jjwt.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String[] parts = valid.split("\\.");
+
+    tokens.put("access", valid);
+    tokens.put("refresh", jjwt.generateRefreshToken(1L, "admin"));
+    tokens.put("non-ascii username", jjwt.generateAccessToken(3L, "사용자", "ROLE_USER"));
+    tokens.put(
+        "expired",
+        new JwtTokenIssuerPort(properties(SECRET), Clock.offset(clock, Duration.ofHours(-1)))
+            .generateAccessToken(1L, "admin", "ROLE_ADMIN"));
+    tokens.put(
+        "wrong key",
+        new JwtTokenIssuerPort(properties(OTHER_SECRET), clock)
+            .generateAccessToken(1L, "admin", "ROLE_ADMIN"));
+    tokens.put("tampered signature", parts[0] + "." + parts[1] + "." + flipFirst(parts[2]));
+    String tamperedPayload = encode(decode(parts[1]).replace("\"sub\":\"1\"", "\"sub\":\"2\""));
+    tokens.put("tampered payload", parts[0] + "." + tamperedPayload + "." + parts[2]);
+    tokens.put("padded signature", valid + "==");
+    tokens.put("alg none", encode("{\"alg\":\"none\"}") + "." + parts[1] + ".");
+    tokens.put("missing signature", parts[0] + "." + parts[1]);
+    tokens.put("extra segment", valid + ".abc");
+    tokens.put("whitespace", " " + valid);
+    tokens.put("garbage", "invalid.token.format");
+    tokens.put("empty", "");
+    tokens.put(
+        "typ header",
+        Jwts.builder()
+            .header()
+            .add("typ", "JWT")
+            .and()
+            .subject("1")
+            .claim("type", "access")
+            .expiration(new Date((now + 60) * 1000))
+            .signWith(key)
+            .compact());
+    tokens.put(
+        "extra claim",
+        Jwts.builder()
+            .subject("1")
+            .claim("scope", "read")
+            .expiration(new Date((now + 60) * 1000))
+            .signWith(key)
+            .compact());
+    tokens.put(
+        "no exp", Jwts.builder().subject("1").claim("type", "access").signWith(key).compact());
+    tokens.put(
+        "escaped string",
+        sign("{\"sub\":\"1\",\"username\":\"a\\\"b\",\"exp\":" + (now + 60) + "}"));
+    tokens.put("duplicate claim", sign("{\"sub\":\"1\",\"sub\":\"2\",\"exp\":" + (now + 60) + "}"));
+    tokens.put("string exp", sign("{\"sub\":\"1\",\"exp\":\"" + (now + 60) + "\"}"));
+    tokens.put("fraction exp", sign("{\"sub\":\"1\",\"exp\":" + (now + 60) + ".5}"));
+    tokens.put("numeric sub", sign("{\"sub\":1,\"exp\":" + (now + 60) + "}"));
+    tokens.put(
+        "nested claim", sign("{\"sub\":\"1\",\"auth\":{\"a\":1},\"exp\":" + (now + 60) + "}"));
+    tokens.put("whitespace json", sign("{ \"sub\" : \"1\" , \"exp\" : " + (now + 60) + " }"));
+    tokens.put("not json", sign("hello"));
+    tokens.put("json array", sign("[1,2]"));
+
+    // when & then
+    tokens.forEach(
+        (name, token) -> assertThat(fast.verify(token)).as(name).isEqualTo(jjwt.verify(token)));
+    assertThat(fast.verify(null).status()).isEqualTo(TokenStatus.INVALID);
+  }
+
+  private String sign(String payloadJson) {
+    try {
+      String signingInput = encode("{\"alg\":\"HS384\"}") + "." + encode(payloadJson);
+      Mac mac = Mac.getInstance(key.getAlgorithm());
+      mac.init(key);
+      byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+      return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String encode(String json) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decode(String segment) {
+    return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+  }
+
+  private static String flipFirst(String segment) {
+    char first = segment.charAt(0);
+    return (first == 'A' ? 'B' : 'A') + segment.substring(1);
+  }
+
+  private static JwtProperties properties(String secret) {
+    JwtProperties properties = new JwtProperties();
+    properties.setSecretKey(secret);
+    properties.setAccessTokenExpiration(300_000);
+    properties.setRefreshTokenExpiration(2_592_000_000L);
+    return properties;
+  }
+}
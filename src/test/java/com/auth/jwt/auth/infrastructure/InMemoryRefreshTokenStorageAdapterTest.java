@@ -0,0 +1,182 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.RefreshToken;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.persistence.InMemoryRefreshTokenStorageAdapter;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[InMemoryRefreshTokenStorageAdapterTest] 리프레시 토큰 저장소 만료 정리 테스트")
+class InMemoryRefreshTokenStorageAdapterTest {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 0, 0, 0);
+
+  private final AtomicReference<LocalDateTime> now = new AtomicReference<>(NOW);
+  private final InMemoryRefreshTokenStorageAdapter storage =
+      new InMemoryRefreshTokenStorageAdapter(now::get, new JwtProperties());
+
+  @Test
+  @DisplayName("다이제스트로 저장한 토큰을 원문으로 조회")
+  void should_FindToken_When_LookedUpByTokenValue() {
+    // given
+    LocalDateTime expiry = NOW.plusDays(30);
+    storage.save(RefreshToken.create("token-1", 1L, expiry));
+
+    // when
+    RefreshToken found = storage.findByTokenValue("token-1").orElseThrow();
+
+    // then
+    assertThat(found).isEqualTo(new RefreshToken("token-1", 1L, expiry));
+    assertThat(storage.findByTokenValue("token-2")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("사용자별 세션 상한을 넘으면 가장 오래된 세션부터 제거")
+  void should_EvictOldestSession_When_SessionLimitExceeded() {
+    // given
+    for (int device = 1; device <= 5; device++) {
+      storage.save(RefreshToken.create("device-" + device, 1L, NOW.plusDays(30)));
+    }
+
+    // when
+    storage.save(RefreshToken.create("device-6", 1L, NOW.plusDays(30)));
+
+    // then
+    assertThat(storage.countByUserId(1L)).isEqualTo(5);
+    assertThat(storage.findByTokenValue("device-1")).isEmpty();
+    assertThat(storage.findByTokenValue("device-2")).isPresent();
+    assertThat(storage.findByTokenValue("device-6")).isPresent();
+  }
+
+  @Test
+  @DisplayName("사용자의 모든 세션을 한 번에 제거하고 다른 사용자 세션은 유지")
+  void should_RemoveAllSessionsOfUser_When_DeletedByUserId() {
+    // given
+    storage.save(RefreshToken.create("laptop", 1L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("phone", 1L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("other", 2L, NOW.plusDays(30)));
+
+    // when
+    storage.deleteByUserId(1L);
+
+    // then
+    assertThat(storage.countByUserId(1L)).isZero();
+    assertThat(storage.findByTokenValue("laptop")).isEmpty();
+    assertThat(storage.findByTokenValue("phone")).isEmpty();
+    assertThat(storage.findByTokenValue("other")).isPresent();
+    assertThat(storage.countActiveSessions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("사용한 토큰을 새 토큰으로 교체하고 같은 토큰으로 다시 교체하면 실패")
+  void should_ReplaceOnce_When_SameTokenReplacedTwice() {
+    // given
+    storage.save(RefreshToken.create("laptop", 1L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("phone", 1L, NOW.plusDays(30)));
+
+    // when
+    boolean first =
+        storage.replaceForUser(1L, "laptop", RefreshToken.create("laptop-2", 1L, NOW.plusDays(30)));
+    boolean second =
+        storage.replaceForUser(1L, "laptop", RefreshToken.create("laptop-3", 1L, NOW.plusDays(30)));
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(storage.findByTokenValue("laptop")).isEmpty();
+    assertThat(storage.findByTokenValue("laptop-2")).isPresent();
+    assertThat(storage.findByTokenValue("laptop-3")).isEmpty();
+    assertThat(storage.countByUserId(1L)).isEqualTo(2);
+    assertThat(storage.countActiveSessions()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("다른 사용자의 토큰은 교체하지 않음")
+  void should_NotReplace_When_TokenBelongsToAnotherUser() {
+    // given
+    storage.save(RefreshToken.create("other", 2L, NOW.plusDays(30)));
+
+    // when
+    boolean replaced =
+        storage.replaceForUser(1L, "other", RefreshToken.create("stolen", 1L, NOW.plusDays(30)));
+
+    // then
+    assertThat(replaced).isFalse();
+    assertThat(storage.findByTokenValue("other")).isPresent();
+    assertThat(storage.countByUserId(1L)).isZero();
+  }
+
+  @Test
+  @DisplayName("만료 시각이 지난 토큰만 정리하고 활성 세션 수에 반영")
+  void should_EvictOnlyExpiredTokens_When_Swept() {
+    // given
+    storage.save(RefreshToken.create("token-1", 1L, NOW.plusMinutes(5)));
+    storage.save(RefreshToken.create("token-2", 2L, NOW.plusMinutes(10)));
+    storage.save(RefreshToken.create("token-3", 3L, NOW.plusDays(30)));
+
+    // when
+    now.set(NOW.plusMinutes(7));
+    int evicted = storage.evictExpired();
+
+    // then
+    assertThat(evicted).isEqualTo(1);
+    assertThat(storage.countActiveSessions()).isEqualTo(2);
+    assertThat(storage.findByTokenValue("token-1")).isEmpty();
+    assertThat(storage.findByTokenValue("token-2")).isPresent();
+    assertThat(storage.findByTokenValue("token-3")).isPresent();
+  }
+
+  @Test
+  @DisplayName("같은 틱 안에서 아직 만료되지 않은 토큰은 남김")
+  void should_KeepToken_When_ExpiryNotReachedWithinTick() {
+    // given
+    storage.save(RefreshToken.create("token-1", 1L, NOW.plusSeconds(30)));
+
+    // when
+    now.set(NOW.plusSeconds(20));
+    int evicted = storage.evictExpired();
+
+    // then
+    assertThat(evicted).isZero();
+    assertThat(storage.findByTokenValue("token-1")).isPresent();
+  }
+
+  @Test
+  @DisplayName("삭제되거나 교체된 토큰은 정리 대상에서 제외")
+  void should_SkipDeletedTokens_When_Swept() {
+    // given
+    storage.save(RefreshToken.create("token-1", 1L, NOW.plusMinutes(5)));
+    storage.save(RefreshToken.create("token-2", 2L, NOW.plusMinutes(5)));
+    storage.deleteByTokenValue("token-1");
+    storage.deleteByUserId(2L);
+    storage.save(RefreshToken.create("token-3", 2L, NOW.plusMinutes(60)));
+
+    // when
+    now.set(NOW.plusMinutes(10));
+    int evicted = storage.evictExpired();
+
+    // then
+    assertThat(evicted).isZero();
+    assertThat(storage.countActiveSessions()).isEqualTo(1);
+    assertThat(storage.findByTokenValue("token-3")).isPresent();
+  }
+
+  @Test
+  @DisplayName("이미 만료된 시각으로 저장한 토큰도 다음 정리에서 제거")
+  void should_EvictToken_When_SavedAlreadyExpired() {
+    // given
+    now.set(NOW.plusHours(1));
+    storage.evictExpired();
+    storage.save(RefreshToken.create("token-1", 1L, NOW));
+
+    // when
+    int evicted = storage.evictExpired();
+
+    // then
+    assertThat(evicted).isEqualTo(1);
+    assertThat(storage.countActiveSessions()).isZero();
+  }
+}
@@ -0,0 +1,133 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.TokenStatus;
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.jwt.FastHmacTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import com.auth.jwt.auth.infrastructure.jwt.TemplateTokenIssuerAdapter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[JwtKeyRotationTest] 키 링 기반 서명 키 교체 테스트")
+class JwtKeyRotationTest {
+  private static final String LEGACY_SECRET =
+      "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+  private static final String SECRET_1 =
+      "5A7134743777217A25432A462D4A614E645267556B58703273357638792F423F";
+  private static final String SECRET_2 =
+      "6B5970337336763979244226452948404D635166546A576E5A72347537782141";
+
+  private final Clock clock = Clock.systemUTC();
+
+  @Test
+  @DisplayName("활성 키의 kid 를 헤더에 기록")
+  void should_WriteActiveKid_When_KeyRingConfigured() {
+    // given
+    JwtTokenIssuerPort issuer = new JwtTokenIssuerPort(ring(null, "k2", "k1", "k2"), clock);
+
+    // when
+    String token = issuer.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+
+    // then
+    assertThat(header(token)).contains("\"kid\":\"k2\"");
+    assertThat(issuer.verify(token).isValid()).isTrue();
+  }
+
+  @Test
+  @DisplayName("교체 전 키로 발급한 토큰은 교체 후에도 kid 로 검증")
+  void should_VerifyPreviousTokens_When_ActiveKeyRotated() {
+    // given
+    JwtTokenIssuerPort before = new JwtTokenIssuerPort(ring(LEGACY_SECRET, "k1", "k1"), clock);
+    JwtTokenIssuerPort after = new JwtTokenIssuerPort(ring(LEGACY_SECRET, "k2", "k1", "k2"), clock);
+    FastHmacTokenValidationAdapter fast =
+        new FastHmacTokenValidationAdapter(after.keyRing(), clock, after);
+
+    String legacyToken =
+        new JwtTokenIssuerPort(ring(LEGACY_SECRET, null), clock)
+            .generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String previousToken = before.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String currentToken = after.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+
+    // when & then
+    for (String token : List.of(legacyToken, previousToken, currentToken)) {
+      VerifiedToken verified = after.verify(token);
+      assertThat(verified.isValid()).isTrue();
+      assertThat(fast.verify(token)).isEqualTo(verified);
+    }
+    assertThat(fast.fallbackCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("키 링에서 제거된 kid 나 알 수 없는 kid 는 유효하지 않음")
+  void should_ReturnInvalid_When_KidNotInKeyRing() {
+    // given
+    String removedKidToken =
+        new JwtTokenIssuerPort(ring(null, "k1", "k1"), clock)
+            .generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String legacyToken =
+        new JwtTokenIssuerPort(ring(LEGACY_SECRET, null), clock)
+            .generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    JwtTokenIssuerPort current = new JwtTokenIssuerPort(ring(null, "k2", "k2"), clock);
+    FastHmacTokenValidationAdapter fast =
+        new FastHmacTokenValidationAdapter(current.keyRing(), clock, current);
+
+    // when & then
+    assertThat(current.verify(removedKidToken).status()).isEqualTo(TokenStatus.INVALID);
+    assertThat(current.verify(legacyToken).status()).isEqualTo(TokenStatus.INVALID);
+    assertThat(fast.verify(removedKidToken).status()).isEqualTo(TokenStatus.INVALID);
+    assertThat(fast.verify(legacyToken).status()).isEqualTo(TokenStatus.INVALID);
+  }
+
+  @Test
+  @DisplayName("템플릿 발급기는 kid 헤더를 포함해 jjwt 와 같은 토큰을 발급")
+  void should_IssueIdenticalToken_When_TemplateUsesKeyRing() {
+    // given
+    Clock fixed = Clock.fixed(clock.instant(), clock.getZone());
+    JwtProperties properties = ring(LEGACY_SECRET, "k2", "k1", "k2");
+    JwtTokenIssuerPort jjwt = new JwtTokenIssuerPort(properties, fixed);
+    TemplateTokenIssuerAdapter template =
+        new TemplateTokenIssuerAdapter(jjwt.keyRing(), properties, fixed, jjwt);
+
+    // when & then
+    assertThat(template.generateTokenPair(1L, "admin", "ROLE_ADMIN"))
+        .isEqualTo(jjwt.generateTokenPair(1L, "admin", "ROLE_ADMIN"));
+  }
+
+  @Test
+  @DisplayName("활성 kid 가 없거나 kid 가 중복되면 시작 시 실패")
+  void should_FailFast_When_KeyRingMisconfigured() {
+    assertThatThrownBy(() -> new JwtTokenIssuerPort(ring(null, "k3", "k1", "k2"), clock))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new JwtTokenIssuerPort(ring(null, "k1", "k1", "k1"), clock))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new JwtTokenIssuerPort(ring(null, null), clock))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static JwtProperties ring(String legacySecret, String activeKid, String... kids) {
+    JwtProperties properties = new JwtProperties();
+    properties.setSecretKey(legacySecret);
+    properties.setActiveKid(activeKid);
+    properties.setAccessTokenExpiration(300_000);
+    properties.setRefreshTokenExpiration(2_592_000_000L);
+    for (String kid : kids) {
+      JwtProperties.Key key = new JwtProperties.Key();
+      key.setKid(kid);
+      key.setSecretKey(kid.equals("k1") ? SECRET_1 : SECRET_2);
+      properties.getKeys().add(key);
+    }
+    return properties;
+  }
+
+  private static String header(String token) {
+    String segment = token.substring(0, token.indexOf('.'));
+    return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,241 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.RefreshToken;
+import com.auth.jwt.auth.infrastructure.persistence.MappedRefreshTokenStorageAdapter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("[MappedRefreshTokenStorageAdapterTest] 메모리 맵 리프레시 토큰 저장소 테스트")
+class MappedRefreshTokenStorageAdapterTest {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 0, 0, 0);
+  // 저장소 파일 형식: 헤더 64바이트 뒤 토큰 슬롯(상태, 다이제스트, userId, 만료 시각) 64바이트
+  private static final int CAPACITY_OFFSET = 8;
+  private static final int HEADER_SIZE = 64;
+  private static final int TOKEN_SLOT_SIZE = 64;
+  private static final int TOKEN_DIGEST = 8;
+  private static final int TOKEN_USER_ID = 40;
+  private static final int TOKEN_EXPIRY = 48;
+
+  @TempDir Path directory;
+
+  private final AtomicReference<LocalDateTime> now = new AtomicReference<>(NOW);
+
+  @Test
+  @DisplayName("저장한 토큰을 조회하고 토큰 값 또는 사용자 ID로 삭제")
+  void should_FindAndDeleteTokens_When_Stored() {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+    storage.save(RefreshToken.create("token-1", 1L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("token-2", 2L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("token-3", 3L, NOW.plusDays(30)));
+
+    // when
+    storage.deleteByTokenValue("token-1");
+    storage.deleteByUserId(2L);
+
+    // then
+    assertThat(storage.findByTokenValue("token-1")).isEmpty();
+    assertThat(storage.findByTokenValue("token-2")).isEmpty();
+    assertThat(storage.findByTokenValue("token-3"))
+        .contains(new RefreshToken("token-3", 3L, NOW.plusDays(30)));
+    assertThat(storage.countActiveSessions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("정상 종료 후 다시 열어도 세션 유지")
+  void should_KeepSessions_When_Reopened() {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+    storage.save(RefreshToken.create("token-1", 1L, NOW.plusDays(30)));
+    storage.close();
+
+    // when
+    MappedRefreshTokenStorageAdapter reopened = open();
+
+    // then
+    assertThat(reopened.findByTokenValue("token-1")).isPresent();
+    assertThat(reopened.countActiveSessions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("정상 종료되지 않았으면 복구 후 세션 유지")
+  void should_RecoverSessions_When_NotClosed() {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+    storage.save(RefreshToken.create("token-1", 1L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("token-2", 2L, NOW.plusDays(30)));
+    storage.deleteByUserId(2L);
+
+    // when
+    MappedRefreshTokenStorageAdapter recovered = open();
+
+    // then
+    assertThat(recovered.findByTokenValue("token-1")).isPresent();
+    assertThat(recovered.findByTokenValue("token-2")).isEmpty();
+    assertThat(recovered.countActiveSessions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("초기 용량을 넘으면 테이블을 확장")
+  void should_GrowTable_When_CapacityExceeded() {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+
+    // when
+    for (long userId = 0; userId < 5_000; userId++) {
+      storage.save(RefreshToken.create("token-" + userId, userId, NOW.plusDays(30)));
+    }
+
+    // then
+    assertThat(storage.countActiveSessions()).isEqualTo(5_000);
+    for (long userId = 0; userId < 5_000; userId++) {
+      assertThat(storage.findByTokenValue("token-" + userId))
+          .get()
+          .extracting(RefreshToken::userId)
+          .isEqualTo(userId);
+    }
+  }
+
+  @Test
+  @DisplayName("만료된 세션만 정리")
+  void should_EvictOnlyExpiredSessions_When_Swept() {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+    for (long userId = 0; userId < 100; userId++) {
+      LocalDateTime expiry = userId % 2 == 0 ? NOW.plusMinutes(5) : NOW.plusDays(30);
+      storage.save(RefreshToken.create("token-" + userId, userId, expiry));
+    }
+
+    // when
+    now.set(NOW.plusMinutes(10));
+    int evicted = storage.evictExpired();
+
+    // then
+    assertThat(evicted).isEqualTo(50);
+    assertThat(storage.countActiveSessions()).isEqualTo(50);
+    assertThat(storage.findByTokenValue("token-0")).isEmpty();
+    assertThat(storage.findByTokenValue("token-1")).isPresent();
+  }
+
+  @Test
+  @DisplayName("사용자별 세션 상한을 넘으면 가장 먼저 발급된 세션부터 제거")
+  void should_EvictOldestSession_When_SessionLimitExceeded() {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+    for (int device = 1; device <= 5; device++) {
+      LocalDateTime expiry = NOW.plusDays(30).plusSeconds(device);
+      storage.save(RefreshToken.create("device-" + device, 1L, expiry));
+    }
+
+    // when
+    storage.save(RefreshToken.create("device-6", 1L, NOW.plusDays(30).plusSeconds(6)));
+
+    // then
+    assertThat(storage.countByUserId(1L)).isEqualTo(5);
+    assertThat(storage.findByTokenValue("device-1")).isEmpty();
+    assertThat(storage.findByTokenValue("device-6")).isPresent();
+  }
+
+  @Test
+  @DisplayName("사용한 토큰을 새 토큰으로 교체하고 같은 토큰으로 다시 교체하면 실패")
+  void should_ReplaceOnce_When_SameTokenReplacedTwice() {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+    storage.save(RefreshToken.create("laptop", 1L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("other", 2L, NOW.plusDays(30)));
+
+    // when
+    boolean first =
+        storage.replaceForUser(1L, "laptop", RefreshToken.create("laptop-2", 1L, NOW.plusDays(30)));
+    boolean second =
+        storage.replaceForUser(1L, "laptop", RefreshToken.create("laptop-3", 1L, NOW.plusDays(30)));
+    boolean foreign =
+        storage.replaceForUser(1L, "other", RefreshToken.create("stolen", 1L, NOW.plusDays(30)));
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(foreign).isFalse();
+    assertThat(storage.findByTokenValue("laptop")).isEmpty();
+    assertThat(storage.findByTokenValue("laptop-2")).isPresent();
+    assertThat(storage.findByTokenValue("other")).isPresent();
+    assertThat(storage.countByUserId(1L)).isEqualTo(1);
+    assertThat(storage.countActiveSessions()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("당겨 채우다 멈춘 슬롯은 복구 때 버려 다른 사용자의 세션으로 살아나지 않음")
+  void should_DiscardTornSlot_When_RecoveringAfterCrashDuringCopy() throws IOException {
+    // given
+    MappedRefreshTokenStorageAdapter storage = open();
+    storage.save(RefreshToken.create("token-a", 1L, NOW.plusDays(30)));
+    storage.save(RefreshToken.create("token-b", 2L, NOW.plusDays(30)));
+    tearCopy(directory.resolve("refresh-tokens.db"), 1L, 2L);
+
+    // when
+    MappedRefreshTokenStorageAdapter recovered = open();
+
+    // then
+    assertThat(recovered.findByTokenValue("token-b"))
+        .get()
+        .extracting(RefreshToken::userId)
+        .isEqualTo(2L);
+    assertThat(recovered.findByTokenValue("token-a"))
+        .get()
+        .extracting(RefreshToken::userId)
+        .isEqualTo(1L);
+    assertThat(recovered.countActiveSessions()).isEqualTo(2);
+  }
+
+  /**
+   * 삭제 후 당겨 채우기가 다이제스트만 옮기고 멈춘 상태를 만든다. toUserId 세션의 다이제스트에 fromUserId 세션의 userId 와 만료
+   * 시각을 붙인 BUSY 슬롯을, 복구 스캔에서 먼저 만나도록 원래 슬롯보다 앞에 둔다.
+   */
+  private static void tearCopy(Path file, long fromUserId, long toUserId) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer buf =
+          channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size())
+              .order(ByteOrder.LITTLE_ENDIAN);
+      int capacity = buf.getInt(CAPACITY_OFFSET);
+      int from = -1;
+      int to = -1;
+      int hole = -1;
+      for (int slot = 0; slot < capacity; slot++) {
+        int offset = HEADER_SIZE + slot * TOKEN_SLOT_SIZE;
+        long state = buf.getLong(offset);
+        if (state == 0 && hole < 0) {
+          hole = offset;
+        } else if (state == 1 && buf.getLong(offset + TOKEN_USER_ID) == fromUserId) {
+          from = offset;
+        } else if (state == 1 && buf.getLong(offset + TOKEN_USER_ID) == toUserId) {
+          to = offset;
+        }
+      }
+      assertThat(hole).isLessThan(to);
+
+      buf.putLong(hole, 2);
+      for (int i = TOKEN_DIGEST; i < TOKEN_USER_ID; i += 8) {
+        buf.putLong(hole + i, buf.getLong(to + i));
+      }
+      buf.putLong(hole + TOKEN_USER_ID, buf.getLong(from + TOKEN_USER_ID));
+      buf.putLong(hole + TOKEN_EXPIRY, buf.getLong(from + TOKEN_EXPIRY));
+    }
+  }
+
+  private MappedRefreshTokenStorageAdapter open() {
+    return new MappedRefreshTokenStorageAdapter(
+        directory.resolve("refresh-tokens.db"), 1024, 5, now::get);
+  }
+}
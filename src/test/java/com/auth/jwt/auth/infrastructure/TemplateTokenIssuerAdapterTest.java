@@ -0,0 +1,134 @@
+package com.auth.jwt.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.TokenPair;
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import com.auth.jwt.auth.infrastructure.jwt.TemplateTokenIssuerAdapter;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[TemplateTokenIssuerAdapterTest] 템플릿 기반 토큰 발급기 테스트")
+class TemplateTokenIssuerAdapterTest {
+  private static final String SECRET =
+      "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+  private final Clock clock =
+      Clock.fixed(Instant.parse("2025-03-01T00:00:00.123Z"), ZoneOffset.UTC);
+  private final JwtProperties properties = properties();
+  private final JwtTokenIssuerPort jjwt = new JwtTokenIssuerPort(properties, clock);
+  private final TemplateTokenIssuerAdapter template =
+      new TemplateTokenIssuerAdapter(jjwt.keyRing(), properties, clock, jjwt);
+
+  @Test
+  @DisplayName("jjwt 발급기와 바이트 단위로 같은 액세스 토큰 발급")
+  void should_IssueIdenticalAccessToken_When_ComparedWithJjwt() {
+    assertThat(template.generateAccessToken(1L, "admin", "ROLE_ADMIN"))
+        .isEqualTo(jjwt.generateAccessToken(1L, "admin", "ROLE_ADMIN"));
+    assertThat(template.generateAccessToken(12345L, "ab", "ROLE_USER"))
+        .isEqualTo(jjwt.generateAccessToken(12345L, "ab", "ROLE_USER"));
+    assertThat(template.generateAccessToken(3L, "사용자", "ROLE_USER"))
+        .isEqualTo(jjwt.generateAccessToken(3L, "사용자", "ROLE_USER"));
+  }
+
+  @Test
+  @DisplayName("jjwt 발급기와 바이트 단위로 같은 리프레시 토큰 발급")
+  void should_IssueIdenticalRefreshToken_When_ComparedWithJjwt() {
+    assertThat(template.generateRefreshToken(2L, "user"))
+        .isEqualTo(jjwt.generateRefreshToken(2L, "user"));
+    assertThat(template.generateRefreshToken(3L, "사용자"))
+        .isEqualTo(jjwt.generateRefreshToken(3L, "사용자"));
+  }
+
+  @Test
+  @DisplayName("토큰 쌍은 같은 발급 시각으로 jjwt 발급기와 같은 결과를 발급")
+  void should_IssueIdenticalTokenPair_When_ComparedWithJjwt() {
+    // when
+    TokenPair pair = template.generateTokenPair(3L, "사용자", "ROLE_USER");
+
+    // then
+    assertThat(pair).isEqualTo(jjwt.generateTokenPair(3L, "사용자", "ROLE_USER"));
+    assertThat(pair.accessToken()).isEqualTo(jjwt.generateAccessToken(3L, "사용자", "ROLE_USER"));
+    assertThat(pair.refreshToken()).isEqualTo(jjwt.generateRefreshToken(3L, "사용자"));
+
+    VerifiedToken access = jjwt.verify(pair.accessToken());
+    VerifiedToken refresh = jjwt.verify(pair.refreshToken());
+    assertThat(Duration.between(access.expiresAt(), refresh.expiresAt()))
+        .isEqualTo(
+            Duration.ofMillis(
+                properties.getRefreshTokenExpiration() - properties.getAccessTokenExpiration()));
+  }
+
+  @Test
+  @DisplayName("이스케이프가 필요한 값은 jjwt 발급기로 위임")
+  void should_FallbackToJjwt_When_ValueNeedsEscaping() {
+    // given
+    String username = "a\"b\\c";
+
+    // when
+    String accessToken = template.generateAccessToken(1L, username, "ROLE_USER");
+    String refreshToken = template.generateRefreshToken(1L, username);
+
+    // then
+    assertThat(accessToken).isEqualTo(jjwt.generateAccessToken(1L, username, "ROLE_USER"));
+    assertThat(refreshToken).isEqualTo(jjwt.generateRefreshToken(1L, username));
+    assertThat(jjwt.verify(accessToken).username()).isEqualTo(username);
+    assertThat(template.generateTokenPair(1L, username, "ROLE_USER"))
+        .isEqualTo(jjwt.generateTokenPair(1L, username, "ROLE_USER"));
+  }
+
+  @Test
+  @DisplayName("kid 가 길어도 버퍼를 넘지 않고 jjwt 발급기와 같은 토큰 발급")
+  void should_IssueIdenticalToken_When_KidIsLong() {
+    // given
+    JwtProperties longKid = properties();
+    JwtProperties.Key key = new JwtProperties.Key();
+    key.setKid("k".repeat(1_000));
+    key.setSecretKey(SECRET);
+    longKid.getKeys().add(key);
+    longKid.setActiveKid(key.getKid());
+    JwtTokenIssuerPort jjwtWithKid = new JwtTokenIssuerPort(longKid, clock);
+    TemplateTokenIssuerAdapter templateWithKid =
+        new TemplateTokenIssuerAdapter(jjwtWithKid.keyRing(), longKid, clock, jjwtWithKid);
+    // 클레임 버퍼를 거의 채워 긴 헤더와 합친 토큰이 가장 길어지게 한다.
+    String username = "u".repeat(3_900);
+
+    // when
+    TokenPair pair = templateWithKid.generateTokenPair(1L, username, "ROLE_USER");
+
+    // then
+    assertThat(pair).isEqualTo(jjwtWithKid.generateTokenPair(1L, username, "ROLE_USER"));
+    assertThat(jjwtWithKid.verify(pair.accessToken()).isValid()).isTrue();
+  }
+
+  @Test
+  @DisplayName("클레임이 버퍼를 넘으면 jjwt 발급기로 위임")
+  void should_FallbackToJjwt_When_ClaimsExceedBuffer() {
+    // given
+    String username = "u".repeat(10_000);
+
+    // when
+    String accessToken = template.generateAccessToken(1L, username, "ROLE_USER");
+    String refreshToken = template.generateRefreshToken(1L, username);
+
+    // then
+    assertThat(accessToken).isEqualTo(jjwt.generateAccessToken(1L, username, "ROLE_USER"));
+    assertThat(refreshToken).isEqualTo(jjwt.generateRefreshToken(1L, username));
+    assertThat(template.generateTokenPair(1L, username, "ROLE_USER"))
+        .isEqualTo(jjwt.generateTokenPair(1L, username, "ROLE_USER"));
+  }
+
+  private static JwtProperties properties() {
+    JwtProperties properties = new JwtProperties();
+    properties.setSecretKey(SECRET);
+    properties.setAccessTokenExpiration(300_000);
+    properties.setRefreshTokenExpiration(2_592_000_000L);
+    return properties;
+  }
+}
@@ -0,0 +1,102 @@
+package com.auth.jwt.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.AuthorizationService;
+import com.auth.jwt.auth.application.exception.TokenExpiredException;
+import com.auth.jwt.auth.application.model.VerifiedToken;
+import com.auth.jwt.auth.application.port.TokenValidationPort;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import com.auth.jwt.auth.presentation.filter.AuthorizationFilter;
+import com.auth.jwt.auth.presentation.utils.AuthResponseSender;
+import com.auth.jwt.common.percade.UserQueryFacade;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("[AuthorizationFilterBenchmark] 인가 필터 처리량 측정")
+class AuthorizationFilterBenchmark {
+
+  @Autowired private JwtTokenIssuerPort jwtTokenIssuerPort;
+  @Autowired private UserQueryFacade userQueryFacade;
+  @Autowired private AuthResponseSender authResponseSender;
+
+  private final FilterChain noopChain = (request, response) -> {};
+
+  @Test
+  @DisplayName("이중 검증(기존) 대비 단일 검증 필터 처리량")
+  void compareSinglePassWithDoubleVerification() {
+    String token = jwtTokenIssuerPort.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+
+    AuthorizationFilter before =
+        new AuthorizationFilter(
+            new AuthorizationService(userQueryFacade, new DoubleVerification(jwtTokenIssuerPort)),
+            authResponseSender);
+    AuthorizationFilter after =
+        new AuthorizationFilter(
+            new AuthorizationService(userQueryFacade, jwtTokenIssuerPort), authResponseSender);
+
+    double beforeOps =
+        BenchmarkRunner.measure("AuthorizationFilter (double verify)", run(before, token));
+    double afterOps =
+        BenchmarkRunner.measure("AuthorizationFilter (single verify)", run(after, token));
+
+    System.out.printf("[benchmark] speedup: %.2fx%n", afterOps / beforeOps);
+    assertThat(afterOps).isPositive();
+  }
+
+  private Runnable run(AuthorizationFilter filter, String token) {
+    return () -> {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+      request.addHeader("Authorization", "Bearer " + token);
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      try {
+        filter.doFilter(request, response, noopChain);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+      if (response.getStatus() != 200) {
+        throw new IllegalStateException("인가 실패: " + response.getStatus());
+      }
+    };
+  }
+
+  // 기존 흐름(validateToken 후 getUserIdFromToken)처럼 토큰을 두 번 검증한다.
+  private record DoubleVerification(JwtTokenIssuerPort delegate) implements TokenValidationPort {
+    @Override
+    public VerifiedToken verify(String token) {
+      try {
+        if (!delegate.validateToken(token)) {
+          return VerifiedToken.invalid();
+        }
+      } catch (TokenExpiredException e) {
+        return VerifiedToken.expired();
+      }
+      return delegate.verify(token);
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+      return delegate.validateToken(token);
+    }
+
+    @Override
+    public String getUserIdFromToken(String token) {
+      return delegate.getUserIdFromToken(token);
+    }
+
+    @Override
+    public boolean validateRefreshToken(String refreshToken) {
+      return delegate.validateRefreshToken(refreshToken);
+    }
+  }
+}
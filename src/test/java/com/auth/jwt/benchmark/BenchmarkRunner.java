@@ -0,0 +1,32 @@
+package com.auth.jwt.benchmark;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkRunner {
+  private static final int DEFAULT_WARMUP = 20_000;
+  private static final int DEFAULT_ITERATIONS = 100_000;
+
+  public static double measure(String name, Runnable operation) {
+    return measure(name, DEFAULT_WARMUP, DEFAULT_ITERATIONS, operation);
+  }
+
+  public static double measure(String name, int warmup, int iterations, Runnable operation) {
+    for (int i = 0; i < warmup; i++) {
+      operation.run();
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      operation.run();
+    }
+    long elapsed = System.nanoTime() - start;
+
+    double opsPerSecond = iterations / (elapsed / 1_000_000_000.0);
+    System.out.printf(
+        "[benchmark] %-45s %,12.0f ops/s  (%,.1f ns/op)%n",
+        name, opsPerSecond, (double) elapsed / iterations);
+    return opsPerSecond;
+  }
+}
@@ -0,0 +1,68 @@
+package com.auth.jwt.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.jwt.FastHmacTokenValidationAdapter;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import java.time.Clock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+@DisplayName("[ClaimProfileBenchmark] 클레임 프로필별 토큰 크기와 검증 시간 측정")
+class ClaimProfileBenchmark {
+  private static final String SECRET =
+      "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final Clock clock = Clock.systemUTC();
+
+  @Test
+  @DisplayName("표준 프로필 대비 압축 프로필의 요청당 헤더 바이트와 검증 처리량")
+  void compareCompactWithStandard() {
+    JwtTokenIssuerPort standard = issuer(JwtProperties.Claims.Profile.STANDARD, true);
+    JwtTokenIssuerPort compact = issuer(JwtProperties.Claims.Profile.COMPACT, true);
+    JwtTokenIssuerPort compactWithoutUsername = issuer(JwtProperties.Claims.Profile.COMPACT, false);
+
+    String standardToken = standard.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String compactToken = compact.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+    String minimalToken = compactWithoutUsername.generateAccessToken(1L, "admin", "ROLE_ADMIN");
+
+    int standardBytes = headerBytes(standardToken);
+    System.out.printf("[benchmark] Authorization header (standard) %4d bytes%n", standardBytes);
+    printSaved("compact", standardBytes, headerBytes(compactToken));
+    printSaved("compact, no username", standardBytes, headerBytes(minimalToken));
+
+    FastHmacTokenValidationAdapter fast =
+        new FastHmacTokenValidationAdapter(standard.keyRing(), clock, standard);
+    BenchmarkRunner.measure("verify jjwt (standard)", () -> standard.verify(standardToken));
+    BenchmarkRunner.measure("verify jjwt (compact)", () -> standard.verify(compactToken));
+    BenchmarkRunner.measure("verify fast (standard)", () -> fast.verify(standardToken));
+    BenchmarkRunner.measure("verify fast (compact)", () -> fast.verify(compactToken));
+
+    assertThat(headerBytes(compactToken)).isLessThan(standardBytes);
+    assertThat(fast.fallbackCount()).isZero();
+  }
+
+  private static void printSaved(String name, int standardBytes, int bytes) {
+    System.out.printf(
+        "[benchmark] Authorization header (%s) %4d bytes, saved %d bytes/request (%.1f%%)%n",
+        name, bytes, standardBytes - bytes, 100.0 * (standardBytes - bytes) / standardBytes);
+  }
+
+  private static int headerBytes(String token) {
+    return BEARER_PREFIX.length() + token.length();
+  }
+
+  private JwtTokenIssuerPort issuer(JwtProperties.Claims.Profile profile, boolean includeUsername) {
+    JwtProperties properties = new JwtProperties();
+    properties.setSecretKey(SECRET);
+    properties.setAccessTokenExpiration(300_000);
+    properties.setRefreshTokenExpiration(2_592_000_000L);
+    properties.getClaims().setProfile(profile);
+    properties.getClaims().setIncludeUsername(includeUsername);
+    return new JwtTokenIssuerPort(properties, clock);
+  }
+}
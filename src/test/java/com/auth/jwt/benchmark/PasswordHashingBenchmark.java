@@ -0,0 +1,85 @@
+package com.auth.jwt.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.infrastructure.config.PasswordEncoderConfig;
+import com.auth.jwt.user.infrastructure.config.UserProperties;
+import com.auth.jwt.user.infrastructure.config.UserProperties.PasswordHashing.Algorithm;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Tag("benchmark")
+@DisplayName("[PasswordHashingBenchmark] 비밀번호 해시 알고리즘별 로그인 처리량 측정")
+class PasswordHashingBenchmark {
+  private static final String RAW_PASSWORD = "password123";
+  // 인스턴스 하나가 감당해야 하는 초당 로그인 수
+  private static final double TARGET_LOGINS_PER_SECOND = 100;
+  private static final int THREADS = Runtime.getRuntime().availableProcessors();
+  private static final long DURATION_MILLIS = 3_000;
+
+  @Test
+  @DisplayName("기본 파라미터의 BCrypt, Argon2id, PBKDF2 로그인(matches) 처리량")
+  void compareAlgorithms() throws Exception {
+    for (Algorithm algorithm : Algorithm.values()) {
+      UserProperties properties = new UserProperties();
+      properties.getPasswordHashing().setAlgorithm(algorithm);
+      PasswordEncoder encoder = new PasswordEncoderConfig().passwordEncoder(properties);
+      String hash = encoder.encode(RAW_PASSWORD);
+
+      BenchmarkRunner.measure(
+          String.format("matches (%s, 1 thread)", algorithm),
+          3,
+          20,
+          () -> encoder.matches(RAW_PASSWORD, hash));
+      double loginsPerSecond = measureConcurrent(encoder, hash);
+      System.out.printf(
+          "[benchmark] %-45s %,12.0f logins/s  (목표 %,.0f, %s)%n",
+          String.format("matches (%s, %d threads)", algorithm, THREADS),
+          loginsPerSecond,
+          TARGET_LOGINS_PER_SECOND,
+          loginsPerSecond >= TARGET_LOGINS_PER_SECOND ? "충족" : "미달");
+      assertThat(loginsPerSecond).isPositive();
+    }
+  }
+
+  // 해시 스레드 풀과 같은 수의 스레드가 정해진 시간 동안 검증만 반복한다.
+  private double measureConcurrent(PasswordEncoder encoder, String hash) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+                int logins = 0;
+                while (System.nanoTime() < deadline) {
+                  if (encoder.matches(RAW_PASSWORD, hash)) {
+                    logins++;
+                  }
+                }
+                return logins;
+              }));
+    }
+
+    long started = System.nanoTime();
+    start.countDown();
+    long logins = 0;
+    for (Future<Integer> result : results) {
+      logins += result.get();
+    }
+    double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+    executor.shutdown();
+    return logins / elapsedSeconds;
+  }
+}
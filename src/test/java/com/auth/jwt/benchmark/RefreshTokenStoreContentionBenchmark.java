@@ -0,0 +1,113 @@
+package com.auth.jwt.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.application.model.RefreshToken;
+import com.auth.jwt.auth.application.port.RefreshTokenStoragePort;
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.persistence.InMemoryRefreshTokenStorageAdapter;
+import com.auth.jwt.auth.infrastructure.persistence.MappedRefreshTokenStorageAdapter;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("benchmark")
+@DisplayName("[RefreshTokenStoreContentionBenchmark] 리프레시 토큰 저장소 경합 측정")
+class RefreshTokenStoreContentionBenchmark {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 0, 0, 0);
+  private static final int THREADS = 8;
+  private static final int USERS = 32;
+  private static final int OPERATIONS_PER_THREAD = 50_000;
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("여러 스레드가 겹치는 사용자의 토큰을 재발급해도 두 인덱스가 일치")
+  void measureConcurrentReissue() throws Exception {
+    JwtProperties properties = new JwtProperties();
+    properties.getRefreshTokenStore().setMaxSessionsPerUser(THREADS);
+
+    run("replaceForUser (memory)", new InMemoryRefreshTokenStorageAdapter(() -> NOW, properties));
+    try (MappedRefreshTokenStorageAdapter mapped =
+        new MappedRefreshTokenStorageAdapter(
+            directory.resolve("refresh-tokens.db"), 1024, THREADS, () -> NOW)) {
+      run("replaceForUser (mapped)", mapped);
+    }
+  }
+
+  // 스레드마다 모든 사용자에게 기기 세션 하나씩을 두고, 무작위 사용자의 자기 세션을 계속 교체한다.
+  private void run(String name, RefreshTokenStoragePort storage) throws Exception {
+    String[][] current = new String[THREADS][USERS];
+    for (int thread = 0; thread < THREADS; thread++) {
+      for (int user = 0; user < USERS; user++) {
+        current[thread][user] = token(thread, user, 0);
+        storage.save(RefreshToken.create(current[thread][user], (long) user, NOW.plusDays(30)));
+      }
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      String[] tokens = current[thread];
+      int owner = thread;
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                int failures = 0;
+                for (int i = 1; i <= OPERATIONS_PER_THREAD; i++) {
+                  int user = ThreadLocalRandom.current().nextInt(USERS);
+                  String next = token(owner, user, i);
+                  RefreshToken newToken = RefreshToken.create(next, (long) user, NOW.plusDays(30));
+                  if (storage.replaceForUser((long) user, tokens[user], newToken)) {
+                    tokens[user] = next;
+                  } else {
+                    failures++;
+                  }
+                }
+                return failures;
+              }));
+    }
+
+    long begin = System.nanoTime();
+    start.countDown();
+    int failures = 0;
+    for (Future<Integer> result : results) {
+      failures += result.get();
+    }
+    long elapsed = System.nanoTime() - begin;
+    executor.shutdown();
+
+    long operations = (long) THREADS * OPERATIONS_PER_THREAD;
+    System.out.printf(
+        "[benchmark] %-45s %,12.0f ops/s  (%d threads, %d users)%n",
+        name, operations / (elapsed / 1_000_000_000.0), THREADS, USERS);
+
+    assertThat(failures).isZero();
+    assertThat(storage.countActiveSessions()).isEqualTo((long) THREADS * USERS);
+    for (int user = 0; user < USERS; user++) {
+      assertThat(storage.countByUserId((long) user)).isEqualTo(THREADS);
+      for (int thread = 0; thread < THREADS; thread++) {
+        assertThat(storage.findByTokenValue(current[thread][user]))
+            .get()
+            .extracting(RefreshToken::userId)
+            .isEqualTo((long) user);
+      }
+    }
+  }
+
+  private static String token(int thread, int user, int sequence) {
+    return "t" + thread + "-u" + user + "-" + sequence;
+  }
+}
@@ -0,0 +1,44 @@
+package com.auth.jwt.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.auth.infrastructure.config.JwtProperties;
+import com.auth.jwt.auth.infrastructure.jwt.JwtTokenIssuerPort;
+import com.auth.jwt.auth.infrastructure.jwt.TemplateTokenIssuerAdapter;
+import java.time.Clock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+@DisplayName("[TokenIssuanceBenchmark] 토큰 발급 처리량 측정")
+class TokenIssuanceBenchmark {
+  private static final String SECRET =
+      "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+  @Test
+  @DisplayName("jjwt 발급기 대비 템플릿 발급기 처리량")
+  void compareTemplateWithJjwt() {
+    JwtProperties properties = new JwtProperties();
+    properties.setSecretKey(SECRET);
+    properties.setAccessTokenExpiration(300_000);
+    properties.setRefreshTokenExpiration(2_592_000_000L);
+
+    Clock clock = Clock.systemUTC();
+    JwtTokenIssuerPort jjwt = new JwtTokenIssuerPort(properties, clock);
+    TemplateTokenIssuerAdapter template =
+        new TemplateTokenIssuerAdapter(jjwt.keyRing(), properties, clock, jjwt);
+
+    double jjwtOps =
+        BenchmarkRunner.measure(
+            "generateAccessToken (jjwt)",
+            () -> jjwt.generateAccessToken(1L, "admin", "ROLE_ADMIN"));
+    double templateOps =
+        BenchmarkRunner.measure(
+            "generateAccessToken (template)",
+            () -> template.generateAccessToken(1L, "admin", "ROLE_ADMIN"));
+
+    System.out.printf("[benchmark] speedup: %.2fx%n", templateOps / jjwtOps);
+    assertThat(templateOps).isPositive();
+  }
+}
@@ -0,0 +1,113 @@
+package com.auth.jwt.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.vo.Nickname;
+import com.auth.jwt.user.domain.vo.Password;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+@DisplayName("[UserStoreBenchmark] 사용자 저장소 메모리와 조회 처리량 측정")
+class UserStoreBenchmark {
+  private static final int[] USER_COUNTS = {1_000_000, 10_000_000};
+  // 두 구조를 차례로 올리므로 가장 큰 쪽 기준으로 넉넉히 잡은 사용자당 힙 요구량
+  private static final long REQUIRED_BYTES_PER_USER = 600;
+  private static final int LOOKUPS = 2_000_000;
+
+  @Test
+  @DisplayName("ConcurrentHashMap<UserId, User>(기존) 대비 long 키 저장소")
+  void compareWithBoxedKeyStore() {
+    for (int count : USER_COUNTS) {
+      if (Runtime.getRuntime().maxMemory() < count * REQUIRED_BYTES_PER_USER) {
+        System.out.printf("[benchmark] %,d users: 힙이 부족해 건너뜀 (-Xmx 를 늘려 실행)%n", count);
+        continue;
+      }
+      compare(count);
+    }
+  }
+
+  private void compare(int count) {
+    long before = usedMemory();
+    Map<UserId, User> boxedStore = new ConcurrentHashMap<>();
+    Map<Username, User> boxedIndex = new ConcurrentHashMap<>();
+    for (long id = 1; id <= count; id++) {
+      User user = user(id);
+      boxedStore.put(user.getId(), user);
+      boxedIndex.put(user.getUsername(), user);
+    }
+    long boxedBytes = usedMemory() - before;
+
+    double boxedOps =
+        BenchmarkRunner.measure(
+            String.format("existsById (boxed, %,d users)", count),
+            LOOKUPS / 10,
+            LOOKUPS,
+            lookup(count, id -> boxedStore.containsKey(UserId.of(id))));
+    boxedStore.clear();
+    boxedIndex.clear();
+
+    before = usedMemory();
+    InMemoryUserRepository repository = new InMemoryUserRepository();
+    for (long id = 1; id <= count; id++) {
+      repository.save(user(id));
+    }
+    long primitiveBytes = usedMemory() - before;
+
+    double primitiveOps =
+        BenchmarkRunner.measure(
+            String.format("existsById (long key, %,d users)", count),
+            LOOKUPS / 10,
+            LOOKUPS,
+            lookup(count, id -> repository.existsById(UserId.requireValid(id))));
+    BenchmarkRunner.measure(
+        String.format("findById (long key, %,d users)", count),
+        LOOKUPS / 10,
+        LOOKUPS,
+        lookup(count, id -> repository.findById(id).isPresent()));
+
+    System.out.printf(
+        "[benchmark] %,d users: %,d -> %,d bytes/user, lookup speedup %.2fx%n",
+        count, boxedBytes / count, primitiveBytes / count, primitiveOps / boxedOps);
+    assertThat(repository.existsById(count)).isTrue();
+  }
+
+  // 저장된 범위 안에서 식별자를 고르게 흩어 가며 조회하고, 없는 사용자가 나오면 실패한다.
+  private Runnable lookup(int count, LongPredicate exists) {
+    long[] sequence = {0};
+    return () -> {
+      long id = (sequence[0]++ * 7_919L) % count + 1;
+      if (!exists.test(id)) {
+        throw new IllegalStateException("사용자를 찾지 못했습니다: " + id);
+      }
+    };
+  }
+
+  // 실제 저장소와 같은 크기가 되도록 사용자마다 다른 60자 BCrypt 해시 길이의 문자열을 쓴다.
+  private static User user(long id) {
+    String hash = String.format("$2a$10$%053d", id);
+    return new User(
+        UserId.of(id),
+        Username.of("user" + id),
+        Password.ofEncrypted(hash),
+        Nickname.of("nick" + id),
+        Role.USER);
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
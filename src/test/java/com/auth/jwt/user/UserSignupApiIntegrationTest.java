@@ -7,6 +7,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.auth.jwt.common.exception.ExceptionDetail;
+import com.auth.jwt.common.exception.ServiceUnavailableException;
 import com.auth.jwt.user.application.UserCommandService;
 import com.auth.jwt.user.application.dto.command.SignupCommand;
 import com.auth.jwt.user.application.exception.UserAlreadyExistsException;
@@ -86,6 +88,29 @@ class UserSignupApiIntegrationTest {
         .andExpect(jsonPath("$.error.message").value("이미 가입된 사용자입니다."));
   }
 
+  @Test
+  @DisplayName("회원가입 실패 - 비밀번호 해시 용량 초과 시 503과 Retry-After")
+  void should_ReturnServiceUnavailable_When_PasswordHashingSaturated() throws Exception {
+    // given
+    SignupRequest request = new SignupRequest("testuser", "password123", "TestNick");
+    willThrow(
+            new ServiceUnavailableException(
+                ExceptionDetail.of("PASSWORD_HASHING_BUSY", "요청이 많아 처리할 수 없습니다."), 3))
+        .given(userCommandService)
+        .signup(any());
+
+    // when & then
+    mockMvc
+        .perform(
+            post("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "3"))
+        .andExpect(jsonPath("$.error.code").value("PASSWORD_HASHING_BUSY"));
+  }
+
   @Test
   @DisplayName("회원가입 실패 - 사용자명이 null")
   void should_RejectSignup_When_UsernameIsNull() throws Exception {
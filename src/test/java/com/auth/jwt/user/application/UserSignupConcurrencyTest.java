@@ -0,0 +1,143 @@
+package com.auth.jwt.user.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.application.dto.command.SignupCommand;
+import com.auth.jwt.user.application.exception.UserAlreadyExistsException;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.service.PasswordEncryptionProvider;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[UserSignupConcurrencyTest] 사용자명 선점 기반 동시 회원가입 테스트")
+class UserSignupConcurrencyTest {
+  private static final int THREADS = 32;
+  private static final int ROUNDS = 20;
+
+  private final InMemoryUserRepository repository = new InMemoryUserRepository();
+  private final AtomicLong ids = new AtomicLong();
+  private final CountingEncryptionProvider encryptionProvider = new CountingEncryptionProvider();
+  private final UserCommandService userCommandService =
+      new UserCommandService(repository, ids::incrementAndGet, encryptionProvider, event -> {});
+
+  @Test
+  @DisplayName("같은 사용자명으로 동시에 가입하면 하나만 저장되고 나머지는 해시 없이 거절")
+  void should_SaveOnlyOne_When_SameUsernameSignedUpConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      for (int round = 0; round < ROUNDS; round++) {
+        // given
+        String username = "racer" + round;
+        int hashesBefore = encryptionProvider.hashes.get();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<User>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+          SignupCommand command = new SignupCommand(username, "password123", "nick" + i);
+          results.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    return userCommandService.signup(command);
+                  }));
+        }
+        start.countDown();
+
+        List<User> saved = new ArrayList<>();
+        int rejected = 0;
+        for (Future<User> result : results) {
+          try {
+            saved.add(result.get(1, TimeUnit.MINUTES));
+          } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(UserAlreadyExistsException.class);
+            rejected++;
+          }
+        }
+
+        // then
+        assertThat(saved).hasSize(1);
+        assertThat(rejected).isEqualTo(THREADS - 1);
+        assertThat(encryptionProvider.hashes.get() - hashesBefore).isEqualTo(1);
+        assertThat(repository.findByUsername(Username.of(username))).contains(saved.get(0));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("해시에 실패하면 선점한 사용자명을 놓아 다시 가입할 수 있음")
+  void should_ReleaseUsername_When_HashingFails() {
+    // given
+    SignupCommand command = new SignupCommand("member", "password123", "nick");
+    encryptionProvider.failing.set(true);
+
+    // when
+    assertThatThrownBy(() -> userCommandService.signup(command))
+        .isInstanceOf(IllegalStateException.class);
+    encryptionProvider.failing.set(false);
+    User user = userCommandService.signup(command);
+
+    // then
+    assertThat(repository.findByUsername(Username.of("member"))).contains(user);
+  }
+
+  @Test
+  @DisplayName("일괄 가입에 이미 있는 사용자명이 있으면 해시하지 않고 먼저 선점한 사용자명도 놓음")
+  void should_ReleaseAllWithoutHashing_When_BatchContainsExistingUsername() {
+    // given
+    userCommandService.signup(new SignupCommand("existing", "password123", "nick"));
+    int hashesBefore = encryptionProvider.hashes.get();
+    List<SignupCommand> commands =
+        List.of(
+            new SignupCommand("first", "password123", "first"),
+            new SignupCommand("existing", "password123", "second"));
+
+    // when & then
+    assertThatThrownBy(() -> userCommandService.signupAll(commands))
+        .isInstanceOf(UserAlreadyExistsException.class);
+    assertThat(encryptionProvider.hashes.get()).isEqualTo(hashesBefore);
+    assertThat(repository.existsByUsername(Username.of("first"))).isFalse();
+    assertThat(userCommandService.signup(new SignupCommand("first", "password123", "first")))
+        .isNotNull();
+  }
+
+  // 해시 비용 대신 잠깐 멈춰 경합 구간을 넓힌다.
+  private static class CountingEncryptionProvider implements PasswordEncryptionProvider {
+    private final AtomicInteger hashes = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    @Override
+    public String encode(String plainPassword) {
+      hashes.incrementAndGet();
+      if (failing.get()) {
+        throw new IllegalStateException("해시 실패");
+      }
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "encoded-" + plainPassword;
+    }
+
+    @Override
+    public boolean matches(String plainPassword, String value) {
+      return value.equals("encoded-" + plainPassword);
+    }
+  }
+}
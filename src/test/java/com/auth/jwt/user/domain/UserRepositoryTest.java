@@ -4,10 +4,13 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
+import com.auth.jwt.user.domain.entity.Role;
 import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
 import com.auth.jwt.user.domain.repository.UserRepository;
 import com.auth.jwt.user.domain.service.IdGenerator;
 import com.auth.jwt.user.domain.service.PasswordEncryptionProvider;
+import com.auth.jwt.user.domain.vo.UserId;
 import com.auth.jwt.user.domain.vo.Username;
 import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,4 +55,129 @@ class UserRepositoryTest {
     // then
     assertThat(exists).isFalse();
   }
+
+  @Test
+  @DisplayName("역할 변경 후 식별자와 사용자명으로 변경된 사용자 조회")
+  void should_FindUpdatedUser_When_RoleGranted() {
+    // given
+    User user = User.create(idGenerator, "testuser", "password123", encryptionProvider, "TestNick");
+    userRepository.save(user);
+
+    // when
+    userRepository.update(user.grantAdminRole());
+
+    // then
+    User foundById = userRepository.findById(1L).orElseThrow();
+    User foundByUsername = userRepository.findByUsername(Username.of("testuser")).orElseThrow();
+    assertThat(foundById.getRole()).isEqualTo(Role.ADMIN);
+    assertThat(foundById.getNickname().getValue()).isEqualTo("TestNick");
+    assertThat(foundById.getPassword()).isEqualTo(user.getPassword());
+    assertThat(foundByUsername.getRole()).isEqualTo(Role.ADMIN);
+    assertThat(userRepository.existsById(UserId.of(1L))).isTrue();
+    assertThat(userRepository.existsById(2L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("변경할 때마다 버전이 오르고 이전 버전으로 한 변경은 충돌")
+  void should_RejectStaleUpdate_When_VersionChanged() {
+    // given
+    User user = User.create(idGenerator, "testuser", "password123", encryptionProvider, "TestNick");
+    userRepository.save(user);
+    User updated = userRepository.update(user.grantAdminRole());
+
+    // when & then
+    assertThat(updated.getVersion()).isEqualTo(1);
+    assertThatThrownBy(() -> userRepository.update(user.changeUsername("stale")))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .extracting("code")
+        .isEqualTo("USER_VERSION_CONFLICT");
+    assertThat(userRepository.existsByUsername(Username.of("stale"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("사용자명 변경 후 새 사용자명으로만 조회")
+  void should_FindByNewUsernameOnly_When_UsernameChanged() {
+    // given
+    User user = User.create(idGenerator, "testuser", "password123", encryptionProvider, "TestNick");
+    userRepository.save(user);
+
+    // when
+    userRepository.update(user.changeUsername("renamed"));
+
+    // then
+    assertThat(userRepository.findByUsername(Username.of("renamed")))
+        .get()
+        .extracting(User::getVersion)
+        .isEqualTo(1L);
+    assertThat(userRepository.existsByUsername(Username.of("testuser"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("다른 사용자가 쓰는 사용자명으로는 변경할 수 없음")
+  void should_RejectUsernameChange_When_UsernameTaken() {
+    // given
+    User first = User.create(1L, "first", "password123", encryptionProvider, "First", Role.USER);
+    User second = User.create(2L, "second", "password123", encryptionProvider, "Second", Role.USER);
+    userRepository.save(first);
+    userRepository.save(second);
+
+    // when & then
+    assertThatThrownBy(() -> userRepository.update(second.changeUsername("first")))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .extracting("code")
+        .isEqualTo("USERNAME_ALREADY_TAKEN");
+    assertThat(userRepository.findByUsername(Username.of("first")).orElseThrow().getId())
+        .isEqualTo(first.getId());
+  }
+
+  @Test
+  @DisplayName("선점한 사용자명은 조회에 보이지 않고 다른 사용자가 선점하거나 저장할 수 없음")
+  void should_RejectOthers_When_UsernameReserved() {
+    // given
+    Username username = Username.of("reserved");
+    User other = User.create(2L, "reserved", "password123", encryptionProvider, "Other", Role.USER);
+
+    // when
+    boolean reserved = userRepository.reserveUsername(username, UserId.of(1L));
+
+    // then
+    assertThat(reserved).isTrue();
+    assertThat(userRepository.existsByUsername(username)).isFalse();
+    assertThat(userRepository.reserveUsername(username, UserId.of(2L))).isFalse();
+    assertThatThrownBy(() -> userRepository.save(other))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .extracting("code")
+        .isEqualTo("USERNAME_ALREADY_TAKEN");
+  }
+
+  @Test
+  @DisplayName("선점한 식별자로 저장하면 조회되고, 놓아도 저장된 사용자명은 유지")
+  void should_KeepUsername_When_ReservedUserSaved() {
+    // given
+    Username username = Username.of("reserved");
+    User user = User.create(1L, "reserved", "password123", encryptionProvider, "Nick", Role.USER);
+    userRepository.reserveUsername(username, UserId.of(1L));
+
+    // when
+    userRepository.save(user);
+    userRepository.releaseUsername(username, UserId.of(1L));
+
+    // then
+    assertThat(userRepository.findByUsername(username)).contains(user);
+    assertThat(userRepository.reserveUsername(username, UserId.of(2L))).isFalse();
+  }
+
+  @Test
+  @DisplayName("저장하지 않고 놓은 사용자명은 다시 선점할 수 있음")
+  void should_AllowReservation_When_UsernameReleased() {
+    // given
+    Username username = Username.of("reserved");
+    userRepository.reserveUsername(username, UserId.of(1L));
+
+    // when
+    userRepository.releaseUsername(username, UserId.of(1L));
+
+    // then
+    assertThat(userRepository.reserveUsername(username, UserId.of(2L))).isTrue();
+  }
 }
@@ -0,0 +1,215 @@
+package com.auth.jwt.user.infrastructure;
+
+import static com.auth.jwt.user.infrastructure.UserFixtures.user;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.persistence.BloomFilteredUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.BloomFilteredUserRepository.FilterStats;
+import com.auth.jwt.user.infrastructure.persistence.DurableUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.JdbcUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[BloomFilteredUserRepositoryTest] 사용자명 블룸 필터 저장소 테스트")
+class BloomFilteredUserRepositoryTest {
+  private static final int EXISTING_USERS = 1_000;
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private final InMemoryUserRepository delegate = spy(new InMemoryUserRepository());
+
+  @Test
+  @DisplayName("필터에 없는 사용자명은 저장소를 조회하지 않고 없다고 응답")
+  void should_AnswerWithoutDelegate_When_UsernameDefinitelyAbsent() {
+    // given
+    BloomFilteredUserRepository repository = open();
+
+    // when
+    boolean exists = repository.existsByUsername(Username.of("ghost"));
+
+    // then
+    assertThat(exists).isFalse();
+    assertThat(repository.findByUsername(Username.of("ghost"))).isEmpty();
+    assertThat(repository.stats().negatives()).isEqualTo(2);
+    verify(delegate, never()).existsByUsername(any());
+    verify(delegate, never()).findByUsername(any());
+  }
+
+  @Test
+  @DisplayName("적재된 사용자와 새로 저장한 사용자는 항상 찾음")
+  void should_FindUsers_When_LoadedOrSaved() {
+    // given
+    BloomFilteredUserRepository repository = open();
+
+    // when
+    repository.save(user(EXISTING_USERS + 1, "newcomer"));
+
+    // then
+    for (long id = 1; id <= EXISTING_USERS; id++) {
+      assertThat(repository.existsByUsername(Username.of("user" + id))).isTrue();
+    }
+    assertThat(repository.findByUsername(Username.of("newcomer"))).isPresent();
+  }
+
+  @Test
+  @DisplayName("사용자명 변경 후 새 사용자명은 찾고 이전 사용자명은 없음")
+  void should_FollowRename_When_UsernameChanged() {
+    // given
+    BloomFilteredUserRepository repository = open();
+    User user = repository.findById(1L).orElseThrow();
+
+    // when
+    repository.update(user.changeUsername("renamed"));
+
+    // then
+    assertThat(repository.existsByUsername(Username.of("renamed"))).isTrue();
+    assertThat(repository.existsByUsername(Username.of("user1"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("없는 사용자명 조회의 false positive 비율이 목표 근처로 측정됨")
+  void should_ReportFalsePositiveRate_When_AbsentUsernamesQueried() {
+    // given
+    BloomFilteredUserRepository repository = open();
+
+    // when
+    for (int i = 0; i < 100_000; i++) {
+      repository.existsByUsername(Username.of("ghost" + i));
+    }
+
+    // then
+    FilterStats stats = repository.stats();
+    assertThat(stats.negatives() + stats.falsePositives()).isEqualTo(100_000);
+    assertThat(stats.falsePositiveRate()).isLessThan(FALSE_POSITIVE_RATE * 3);
+    assertThat(stats.expectedFalsePositiveRate()).isCloseTo(FALSE_POSITIVE_RATE, within(0.002));
+    assertThat(stats.entries()).isEqualTo(EXISTING_USERS);
+  }
+
+  @Test
+  @DisplayName("쓰기가 예외로 끝났어도 저장소에 반영되었으면 필터에 사용자명을 남김")
+  void should_KeepUsername_When_FailedSaveWasApplied() {
+    // given
+    DurableUserRepository durable = mock(DurableUserRepository.class);
+    BloomFilteredUserRepository repository =
+        new BloomFilteredUserRepository(durable, durable, EXISTING_USERS, FALSE_POSITIVE_RATE);
+    User user = user(1L, "member");
+    given(durable.save(user)).willThrow(new IllegalStateException("fsync 실패"));
+    given(durable.findById(user.getId())).willReturn(Optional.of(user));
+    given(durable.existsByUsername(Username.of("member"))).willReturn(true);
+
+    // when
+    assertThatThrownBy(() -> repository.save(user)).isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(repository.existsByUsername(Username.of("member"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("반영되지 않은 것을 확인한 실패한 쓰기는 필터에서 사용자명을 뺌")
+  void should_RemoveUsername_When_FailedSaveWasNotApplied() {
+    // given
+    DurableUserRepository durable = mock(DurableUserRepository.class);
+    BloomFilteredUserRepository repository =
+        new BloomFilteredUserRepository(durable, durable, EXISTING_USERS, FALSE_POSITIVE_RATE);
+    User user = user(1L, "member");
+    given(durable.save(user)).willThrow(new IllegalStateException("저장 실패"));
+    given(durable.findById(user.getId())).willReturn(Optional.empty());
+
+    // when
+    assertThatThrownBy(() -> repository.save(user)).isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(repository.existsByUsername(Username.of("member"))).isFalse();
+    verify(durable, never()).existsByUsername(any());
+  }
+
+  @Test
+  @DisplayName("필터에 없는 사용자명의 가입 선점은 저장소 사용자명 조회 없이 끝남")
+  void should_ReserveWithoutQuery_When_UsernameDefinitelyAbsent() {
+    // given
+    JdbcUserRepository jdbc = mock(JdbcUserRepository.class);
+    BloomFilteredUserRepository repository =
+        new BloomFilteredUserRepository(jdbc, jdbc, EXISTING_USERS, FALSE_POSITIVE_RATE);
+    repository.save(user(1L, "member"));
+    given(jdbc.reserveUnsavedUsername(Username.of("ghost"), UserId.of(2L))).willReturn(true);
+    given(jdbc.reserveUsername(Username.of("member"), UserId.of(3L))).willReturn(false);
+
+    // when
+    boolean ghost = repository.reserveUsername(Username.of("ghost"), UserId.of(2L));
+    boolean member = repository.reserveUsername(Username.of("member"), UserId.of(3L));
+
+    // then
+    assertThat(ghost).isTrue();
+    assertThat(member).isFalse();
+    assertThat(repository.stats().negatives()).isEqualTo(1);
+    verify(jdbc, never()).reserveUsername(Username.of("ghost"), UserId.of(2L));
+    verify(jdbc, never()).reserveUnsavedUsername(Username.of("member"), UserId.of(3L));
+    verify(jdbc, never()).existsByUsername(any());
+  }
+
+  @Test
+  @DisplayName("필터 판정 횟수와 false positive 비율을 지표로 내보냄")
+  void should_PublishFilterMetrics_When_BoundToRegistry() {
+    // given
+    BloomFilteredUserRepository repository = open();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    repository.bindTo(registry);
+
+    // when
+    repository.existsByUsername(Username.of("user1"));
+    for (int i = 0; i < 10_000; i++) {
+      repository.existsByUsername(Username.of("ghost" + i));
+    }
+
+    // then
+    FilterStats stats = repository.stats();
+    assertThat(lookups(registry, "positive")).isEqualTo(1);
+    assertThat(lookups(registry, "negative")).isEqualTo(stats.negatives());
+    assertThat(lookups(registry, "false_positive")).isEqualTo(stats.falsePositives());
+    assertThat(registry.get("user.bloom.filter.false.positive.rate").gauge().value())
+        .isEqualTo(stats.falsePositiveRate());
+    assertThat(registry.get("user.bloom.filter.entries").gauge().value())
+        .isEqualTo(EXISTING_USERS);
+  }
+
+  @Test
+  @DisplayName("닫으면 감싼 저장소도 닫음")
+  void should_CloseDelegate_When_Closed() throws Exception {
+    // given
+    DurableUserRepository durable = mock(DurableUserRepository.class);
+    BloomFilteredUserRepository repository =
+        new BloomFilteredUserRepository(durable, durable, EXISTING_USERS, FALSE_POSITIVE_RATE);
+
+    // when
+    repository.close();
+
+    // then
+    verify(durable).close();
+  }
+
+  private static double lookups(SimpleMeterRegistry registry, String result) {
+    return registry
+        .get("user.bloom.filter.lookups")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private BloomFilteredUserRepository open() {
+    for (long id = 1; id <= EXISTING_USERS; id++) {
+      delegate.save(user(id, "user" + id));
+    }
+    return new BloomFilteredUserRepository(delegate, delegate, EXISTING_USERS, FALSE_POSITIVE_RATE);
+  }
+}
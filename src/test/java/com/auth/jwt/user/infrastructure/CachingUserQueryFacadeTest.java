@@ -0,0 +1,223 @@
+package com.auth.jwt.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.auth.jwt.common.percade.UserQueryFacade;
+import com.auth.jwt.user.application.event.UserChangedEvent;
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.vo.Nickname;
+import com.auth.jwt.user.domain.vo.Password;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.cache.CachingUserQueryFacade;
+import com.auth.jwt.user.infrastructure.cache.CachingUserQueryFacade.CacheStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@DisplayName("[CachingUserQueryFacadeTest] 사용자 조회 캐시 테스트")
+class CachingUserQueryFacadeTest {
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  private final UserQueryFacade delegate = Mockito.mock(UserQueryFacade.class);
+  private final MutableClock clock = new MutableClock(NOW);
+
+  @Test
+  @DisplayName("인가 경로의 존재 확인과 조회가 한 번의 위임 조회 이후 캐시 적중")
+  void should_HitCache_When_SameUserRequestedAgain() {
+    // given
+    CachingUserQueryFacade facade = new CachingUserQueryFacade(delegate, 16, 60_000, clock);
+    User user = user(1L, Role.USER);
+    given(delegate.getById(1L)).willReturn(user);
+    facade.getById(1L);
+
+    // when
+    boolean exists = facade.existsById(1L);
+    User cached = facade.getById(1L);
+
+    // then
+    assertThat(exists).isTrue();
+    assertThat(cached).isSameAs(user);
+    verify(delegate, times(1)).getById(1L);
+    verify(delegate, times(0)).existsById(1L);
+    CacheStats stats = facade.stats();
+    assertThat(stats.hits()).isEqualTo(2);
+    assertThat(stats.misses()).isEqualTo(1);
+    assertThat(stats.hitRate()).isEqualTo(2.0 / 3);
+  }
+
+  @Test
+  @DisplayName("사용자 변경 이벤트를 받으면 항목을 무효화하고 다시 조회")
+  void should_ReloadUser_When_UserChanged() {
+    // given
+    CachingUserQueryFacade facade = new CachingUserQueryFacade(delegate, 16, 60_000, clock);
+    given(delegate.getById(1L))
+        .willReturn(user(1L, Role.USER))
+        .willReturn(user(1L, Role.ADMIN));
+    facade.getById(1L);
+
+    // when
+    facade.onUserChanged(new UserChangedEvent(1L));
+    User reloaded = facade.getById(1L);
+
+    // then
+    assertThat(reloaded.getRole()).isEqualTo(Role.ADMIN);
+    verify(delegate, times(2)).getById(1L);
+    assertThat(facade.stats().invalidations()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("TTL 이 지나면 다시 조회")
+  void should_ReloadUser_When_TtlPassed() {
+    // given
+    CachingUserQueryFacade facade = new CachingUserQueryFacade(delegate, 16, 1_000, clock);
+    given(delegate.getById(1L)).willReturn(user(1L, Role.USER));
+    facade.getById(1L);
+
+    // when
+    clock.advanceSeconds(2);
+    facade.getById(1L);
+
+    // then
+    verify(delegate, times(2)).getById(1L);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+  void should_NotCache_When_UserDoesNotExist() {
+    // given
+    CachingUserQueryFacade facade = new CachingUserQueryFacade(delegate, 16, 60_000, clock);
+    given(delegate.existsById(1L)).willReturn(false).willReturn(true);
+
+    // when
+    boolean before = facade.existsById(1L);
+    int sizeAfterAbsent = facade.stats().size();
+    boolean after = facade.existsById(1L);
+
+    // then
+    assertThat(before).isFalse();
+    assertThat(sizeAfterAbsent).isZero();
+    assertThat(after).isTrue();
+    verify(delegate, times(2)).existsById(1L);
+  }
+
+  @Test
+  @DisplayName("존재 확인이 미스에서 있다고 답하면 캐시해 다음 존재 확인은 적중")
+  void should_CacheExistence_When_ExistsByIdMissFindsUser() {
+    // given
+    CachingUserQueryFacade facade = new CachingUserQueryFacade(delegate, 16, 60_000, clock);
+    User user = user(1L, Role.USER);
+    given(delegate.existsById(1L)).willReturn(true);
+    given(delegate.getById(1L)).willReturn(user);
+    facade.existsById(1L);
+
+    // when
+    boolean exists = facade.existsById(1L);
+    User loaded = facade.getById(1L);
+    User cached = facade.getById(1L);
+
+    // then
+    assertThat(exists).isTrue();
+    assertThat(loaded).isSameAs(user);
+    assertThat(cached).isSameAs(user);
+    verify(delegate, times(1)).existsById(1L);
+    verify(delegate, times(1)).getById(1L);
+    CacheStats stats = facade.stats();
+    assertThat(stats.hits()).isEqualTo(2);
+    assertThat(stats.misses()).isEqualTo(2);
+    assertThat(stats.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("적중, 미스, 무효화 횟수와 크기를 캐시 지표로 내보냄")
+  void should_PublishCacheMetrics_When_BoundToRegistry() {
+    // given
+    CachingUserQueryFacade facade = new CachingUserQueryFacade(delegate, 16, 60_000, clock);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    facade.bindTo(registry);
+    given(delegate.getById(1L)).willReturn(user(1L, Role.USER));
+
+    // when
+    facade.getById(1L);
+    facade.existsById(1L);
+    facade.onUserChanged(new UserChangedEvent(1L));
+
+    // then
+    assertThat(gets(registry, "hit")).isEqualTo(1);
+    assertThat(gets(registry, "miss")).isEqualTo(1);
+    assertThat(registry.get("cache.removals").tag("cache", "user-query").functionCounter().count())
+        .isEqualTo(1);
+    assertThat(registry.get("cache.size").tag("cache", "user-query").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 기존 항목 축출")
+  void should_EvictEntry_When_CacheIsFull() {
+    // given
+    CachingUserQueryFacade facade = new CachingUserQueryFacade(delegate, 1, 60_000, clock);
+    given(delegate.getById(1L)).willReturn(user(1L, Role.USER));
+    given(delegate.getById(2L)).willReturn(user(2L, Role.USER));
+
+    // when
+    facade.getById(1L);
+    facade.getById(2L);
+
+    // then
+    CacheStats stats = facade.stats();
+    assertThat(stats.size()).isEqualTo(1);
+    assertThat(stats.evictions()).isEqualTo(1);
+  }
+
+  private static double gets(SimpleMeterRegistry registry, String result) {
+    return registry
+        .get("cache.gets")
+        .tags("cache", "user-query", "result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private static User user(long id, Role role) {
+    return new User(
+        UserId.of(id),
+        Username.of("user" + id),
+        Password.ofEncrypted("$2a$10$encrypted-password-" + id),
+        Nickname.of("nick" + id),
+        role);
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advanceSeconds(long seconds) {
+      instant = instant.plusSeconds(seconds);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.auth.jwt.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.infrastructure.encryption.CalibratedBCryptPasswordEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("[CalibratedBCryptPasswordEncoderTest] BCrypt 비용 보정 인코더 테스트")
+class CalibratedBCryptPasswordEncoderTest {
+
+  @Test
+  @DisplayName("저장된 해시의 비용이 지금 비용보다 낮거나 높으면 다시 해시 대상")
+  void should_RequireRehash_When_StoredStrengthDiffers() {
+    // given
+    CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+    String weaker = new BCryptPasswordEncoder(4).encode("password123");
+    String stronger = new BCryptPasswordEncoder(6).encode("password123");
+    String same = encoder.encode("password123");
+
+    // when & then
+    assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+    assertThat(encoder.upgradeEncoding(stronger)).isTrue();
+    assertThat(encoder.upgradeEncoding(same)).isFalse();
+    assertThat(encoder.matches("password123", weaker)).isTrue();
+  }
+
+  @Test
+  @DisplayName("BCrypt 해시가 아니면 다시 해시 대상이 아님")
+  void should_NotRequireRehash_When_NotBCryptHash() {
+    // given
+    CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+    // when & then
+    assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+    assertThat(encoder.upgradeEncoding(null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("목표 지연이 아주 짧아도 보정한 비용은 기본값 아래로 내려가지 않음")
+  void should_KeepMinimumStrength_When_TargetLatencyTiny() {
+    // when
+    CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.calibrate(1);
+
+    // then
+    assertThat(encoder.getStrength()).isEqualTo(10);
+    assertThat(encoder.encode("password123")).startsWith("$2a$10$");
+  }
+}
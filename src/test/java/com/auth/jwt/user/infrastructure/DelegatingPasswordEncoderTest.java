@@ -0,0 +1,73 @@
+package com.auth.jwt.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.infrastructure.config.PasswordEncoderConfig;
+import com.auth.jwt.user.infrastructure.config.UserProperties;
+import com.auth.jwt.user.infrastructure.config.UserProperties.PasswordHashing.Algorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("[DelegatingPasswordEncoderTest] 알고리즘 접두사 위임 인코더 테스트")
+class DelegatingPasswordEncoderTest {
+  private static final String RAW_PASSWORD = "password123";
+
+  @Test
+  @DisplayName("설정한 알고리즘의 접두사를 붙여 해시하고 검증")
+  void should_PrefixAlgorithmId_When_Encoding() {
+    for (Algorithm algorithm : Algorithm.values()) {
+      // given
+      PasswordEncoder encoder = encoder(algorithm);
+
+      // when
+      String hash = encoder.encode(RAW_PASSWORD);
+
+      // then
+      assertThat(hash).startsWith("{" + algorithm.name().toLowerCase() + "}");
+      assertThat(encoder.matches(RAW_PASSWORD, hash)).isTrue();
+      assertThat(encoder.matches("wrong123", hash)).isFalse();
+      assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("알고리즘을 바꿔도 이전 알고리즘의 해시를 검증하고 다시 해시 대상으로 알림")
+  void should_MatchAndRequireRehash_When_AlgorithmChanged() {
+    // given
+    String bcryptHash = encoder(Algorithm.BCRYPT).encode(RAW_PASSWORD);
+    String pbkdf2Hash = encoder(Algorithm.PBKDF2).encode(RAW_PASSWORD);
+    PasswordEncoder argon2 = encoder(Algorithm.ARGON2ID);
+
+    // when & then
+    assertThat(argon2.matches(RAW_PASSWORD, bcryptHash)).isTrue();
+    assertThat(argon2.matches(RAW_PASSWORD, pbkdf2Hash)).isTrue();
+    assertThat(argon2.upgradeEncoding(bcryptHash)).isTrue();
+    assertThat(argon2.upgradeEncoding(pbkdf2Hash)).isTrue();
+  }
+
+  @Test
+  @DisplayName("접두사 없는 기존 BCrypt 해시는 검증하고 접두사를 붙이도록 다시 해시 대상으로 알림")
+  void should_MatchLegacyHash_When_PrefixMissing() {
+    // given
+    String legacyHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+    PasswordEncoder encoder = encoder(Algorithm.BCRYPT);
+
+    // when & then
+    assertThat(encoder.matches(RAW_PASSWORD, legacyHash)).isTrue();
+    assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+  }
+
+  // 테스트가 빨리 끝나도록 파라미터를 낮춘다.
+  private static PasswordEncoder encoder(Algorithm algorithm) {
+    UserProperties properties = new UserProperties();
+    UserProperties.PasswordHashing hashing = properties.getPasswordHashing();
+    hashing.setAlgorithm(algorithm);
+    hashing.setStrength(4);
+    hashing.getArgon2().setMemory(1_024);
+    hashing.getArgon2().setIterations(1);
+    hashing.getPbkdf2().setIterations(1_000);
+    return new PasswordEncoderConfig().passwordEncoder(properties);
+  }
+}
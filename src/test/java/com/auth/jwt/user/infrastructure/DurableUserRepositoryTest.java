@@ -0,0 +1,219 @@
+package com.auth.jwt.user.infrastructure;
+
+import static com.auth.jwt.user.infrastructure.UserFixtures.user;
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.persistence.DurableUserRepository;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("[DurableUserRepositoryTest] 로그와 스냅숏 기반 사용자 저장소 테스트")
+class DurableUserRepositoryTest {
+  private static final long SNAPSHOT_INTERVAL = 3_600_000;
+  private static final int RACE_ROUNDS = 500;
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("재시작 후 로그를 재생해 저장과 역할 변경을 복구")
+  void should_RecoverUsers_When_Reopened() throws IOException {
+    // given
+    DurableUserRepository repository = open();
+    repository.save(user(1L, "admin"));
+    repository.save(user(2L, "member"));
+    repository.update(user(2L, "member").grantAdminRole());
+    repository.close();
+
+    // when
+    DurableUserRepository reopened = open();
+
+    // then
+    assertThat(reopened.findById(1L)).isPresent();
+    assertThat(reopened.findByUsername(Username.of("member")))
+        .get()
+        .extracting(User::getRole)
+        .isEqualTo(Role.ADMIN);
+    reopened.close();
+  }
+
+  @Test
+  @DisplayName("스냅숏 이후 쓰기까지 복구하고 스냅숏에 포함된 로그 세그먼트는 삭제")
+  void should_RecoverFromSnapshotAndLogTail_When_SnapshotTaken() throws IOException {
+    // given
+    DurableUserRepository repository = open();
+    for (long id = 1; id <= 100; id++) {
+      repository.save(user(id, "user" + id));
+    }
+    repository.snapshot();
+    repository.save(user(101L, "user101"));
+    repository.close();
+
+    // when
+    DurableUserRepository reopened = open();
+
+    // then
+    assertThat(files(".bin")).hasSize(1);
+    assertThat(files(".log")).hasSize(2);
+    for (long id = 1; id <= 101; id++) {
+      assertThat(reopened.existsById(id)).isTrue();
+    }
+    reopened.close();
+  }
+
+  @Test
+  @DisplayName("로그 끝에 불완전한 기록이 있으면 버리고 이후 쓰기는 정상 기록")
+  void should_DiscardTornTail_When_LogEndsWithPartialRecord() throws IOException {
+    // given
+    DurableUserRepository repository = open();
+    repository.save(user(1L, "admin"));
+    repository.close();
+    Path segment = files(".log").get(0);
+    Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    // when
+    DurableUserRepository recovered = open();
+    recovered.save(user(2L, "member"));
+    recovered.close();
+    DurableUserRepository reopened = open();
+
+    // then
+    assertThat(reopened.existsById(1L)).isTrue();
+    assertThat(reopened.existsById(2L)).isTrue();
+    reopened.close();
+  }
+
+  @Test
+  @DisplayName("가장 최근이 아닌 세그먼트가 손상되었으면 자르지 않고 시작을 막음")
+  void should_FailStartup_When_EarlierSegmentCorrupted() throws IOException {
+    // given
+    DurableUserRepository repository = open();
+    repository.save(user(1L, "admin"));
+    repository.close();
+    DurableUserRepository reopened = open();
+    reopened.save(user(2L, "member"));
+    reopened.close();
+    Path segment = files(".log").get(0);
+    Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+    long size = Files.size(segment);
+
+    // when & then
+    assertThatThrownBy(this::open).isInstanceOf(IllegalStateException.class);
+    assertThat(Files.size(segment)).isEqualTo(size);
+  }
+
+  @Test
+  @DisplayName("세그먼트 사이에 빠진 lsn 이 있으면 뒤 세그먼트를 재생하지 않고 시작을 막음")
+  void should_FailStartup_When_SegmentMissing() throws IOException {
+    // given
+    for (long id = 1; id <= 3; id++) {
+      DurableUserRepository repository = open();
+      repository.save(user(id, "user" + id));
+      repository.close();
+    }
+    Files.delete(files(".log").get(1));
+
+    // when & then
+    assertThatThrownBy(this::open).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("충돌한 변경은 로그에 남지 않고 재시작 후에도 버전을 유지")
+  void should_KeepVersionAndSkipLogging_When_UpdateConflicts() throws IOException {
+    // given
+    DurableUserRepository repository = open();
+    User user = repository.save(user(1L, "member"));
+    repository.update(user.grantAdminRole());
+    assertThatThrownBy(() -> repository.update(user.changeUsername("stale")))
+        .isInstanceOf(UserConcurrentModificationException.class);
+    repository.close();
+
+    // when
+    DurableUserRepository reopened = open();
+
+    // then
+    assertThat(reopened.findById(1L)).get().extracting(User::getVersion).isEqualTo(1L);
+    assertThat(reopened.existsByUsername(Username.of("stale"))).isFalse();
+    reopened.close();
+  }
+
+  @Test
+  @DisplayName("사용자명 변경과 같은 사용자명 선점이 경합하면 한쪽만 성공하고, 실패한 변경은 재시작 후에도 재생되지 않음")
+  void should_NotReplayFailedRename_When_ReservationRacesRename() throws Exception {
+    // given
+    DurableUserRepository repository = open();
+    User current = repository.save(user(1L, "member"));
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      for (int round = 0; round < RACE_ROUNDS; round++) {
+        // when
+        DurableUserRepository racing = repository;
+        Username target = Username.of("renamed" + round);
+        User renamed = current.changeUsername(target.getValue());
+        CountDownLatch start = new CountDownLatch(1);
+        Future<User> rename =
+            executor.submit(
+                () -> {
+                  start.await();
+                  return racing.update(renamed);
+                });
+        Future<Boolean> reservation =
+            executor.submit(
+                () -> {
+                  start.await();
+                  return racing.reserveUsername(target, UserId.of(999L));
+                });
+        start.countDown();
+
+        // then
+        boolean reserved = reservation.get(1, TimeUnit.MINUTES);
+        try {
+          current = rename.get(1, TimeUnit.MINUTES);
+          assertThat(reserved).isFalse();
+        } catch (ExecutionException e) {
+          assertThat(e.getCause()).isInstanceOf(UserConcurrentModificationException.class);
+          assertThat(reserved).isTrue();
+
+          // 실패한 변경이 로그에 남았다면 재시작 후 재생된다.
+          repository.close();
+          repository = open();
+          User recovered = repository.findById(1L).orElseThrow();
+          assertThat(recovered.getUsername()).isEqualTo(current.getUsername());
+          assertThat(recovered.getVersion()).isEqualTo(current.getVersion());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+      repository.close();
+    }
+  }
+
+  private DurableUserRepository open() {
+    return new DurableUserRepository(directory, SNAPSHOT_INTERVAL, new InMemoryUserRepository());
+  }
+
+  private List<Path> files(String suffix) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> path.toString().endsWith(suffix)).sorted().toList();
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.auth.jwt.user.infrastructure;
+
+import static com.auth.jwt.user.infrastructure.UserFixtures.user;
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[InMemoryUserRepositoryConcurrencyTest] 사용자 저장소 동시 변경 테스트")
+class InMemoryUserRepositoryConcurrencyTest {
+  private static final int USERS = 256;
+  private static final int READERS = 6;
+  private static final int WRITERS = 4;
+  private static final int UPDATES_PER_WRITER = 20_000;
+
+  private final InMemoryUserRepository repository = new InMemoryUserRepository();
+
+  @Test
+  @DisplayName("역할 부여와 사용자명 변경 중에도 조회가 사용자를 놓치지 않고, 성공한 변경 수만큼 버전이 오름")
+  void should_NeverMissUser_When_ReadsRaceWithUpdates() throws Exception {
+    // given
+    for (long id = 1; id <= USERS; id++) {
+      repository.save(user(id, "user" + id));
+    }
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicLong misses = new AtomicLong();
+    AtomicLong succeeded = new AtomicLong();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(READERS + WRITERS);
+
+    // when
+    List<Future<?>> readers = new ArrayList<>();
+    for (int i = 0; i < READERS; i++) {
+      readers.add(executor.submit(() -> read(start, running, misses)));
+    }
+    List<Future<?>> writers = new ArrayList<>();
+    for (int i = 0; i < WRITERS; i++) {
+      writers.add(executor.submit(() -> write(start, succeeded)));
+    }
+    start.countDown();
+    for (Future<?> writer : writers) {
+      writer.get(1, TimeUnit.MINUTES);
+    }
+    running.set(false);
+    for (Future<?> reader : readers) {
+      reader.get(1, TimeUnit.MINUTES);
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(misses.get()).isZero();
+    long versions = 0;
+    for (long id = 1; id <= USERS; id++) {
+      User user = repository.findById(id).orElseThrow();
+      versions += user.getVersion();
+      assertThat(repository.findByUsername(user.getUsername())).get().isEqualTo(user);
+      assertThat(repository.existsByUsername(Username.of(otherName(user)))).isFalse();
+    }
+    assertThat(versions).isEqualTo(succeeded.get());
+  }
+
+  @Test
+  @DisplayName("같은 버전을 읽은 동시 변경 중 하나만 성공")
+  void should_AcceptOnlyOneUpdate_When_SameVersionUpdatedConcurrently() throws Exception {
+    // given
+    User user = repository.save(user(1L, "user1"));
+    int contenders = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(contenders);
+
+    // when
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < contenders; i++) {
+      String username = "winner" + i;
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                try {
+                  repository.update(user.changeUsername(username));
+                  return true;
+                } catch (UserConcurrentModificationException e) {
+                  return false;
+                }
+              }));
+    }
+    start.countDown();
+    int winners = 0;
+    for (Future<Boolean> result : results) {
+      winners += result.get(1, TimeUnit.MINUTES) ? 1 : 0;
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(winners).isEqualTo(1);
+    User stored = repository.findById(1L).orElseThrow();
+    assertThat(stored.getVersion()).isEqualTo(1);
+    for (int i = 0; i < contenders; i++) {
+      boolean isWinner = stored.getUsername().getValue().equals("winner" + i);
+      assertThat(repository.existsByUsername(Username.of("winner" + i))).isEqualTo(isWinner);
+    }
+  }
+
+  private void read(CountDownLatch start, AtomicBoolean running, AtomicLong misses) {
+    await(start);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (running.get()) {
+      long id = random.nextLong(USERS) + 1;
+      if (!repository.existsById(id)) {
+        misses.incrementAndGet();
+        continue;
+      }
+      User user = repository.findById(id).orElse(null);
+      if (user == null) {
+        misses.incrementAndGet();
+        continue;
+      }
+      // 사용자명을 바꾸는 중이면 읽은 뒤 바뀌었을 수 있으므로, 그 사이 버전이 그대로일 때만 놓친 것으로 센다.
+      if (repository.findByUsername(user.getUsername()).isEmpty()
+          && repository.findById(id).orElseThrow().getVersion() == user.getVersion()) {
+        misses.incrementAndGet();
+      }
+    }
+  }
+
+  private void write(CountDownLatch start, AtomicLong succeeded) {
+    await(start);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+      User user = repository.findById(random.nextLong(USERS) + 1).orElseThrow();
+      User changed = i % 3 == 0 ? user.changeUsername(otherName(user)) : user.grantAdminRole();
+      try {
+        repository.update(changed);
+        succeeded.incrementAndGet();
+      } catch (UserConcurrentModificationException e) {
+        // 다른 작성자가 먼저 바꿨다. 다음 사용자로 넘어간다.
+      }
+    }
+  }
+
+  private static String otherName(User user) {
+    String username = user.getUsername().getValue();
+    long id = user.getId().getValue();
+    return username.startsWith("user") ? "renamed" + id : "user" + id;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
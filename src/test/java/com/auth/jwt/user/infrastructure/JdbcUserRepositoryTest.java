@@ -0,0 +1,184 @@
+package com.auth.jwt.user.infrastructure;
+
+import static com.auth.jwt.user.infrastructure.UserFixtures.user;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.exception.UserConcurrentModificationException;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.persistence.JdbcUserRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[JdbcUserRepositoryTest] JDBC 사용자 저장소 테스트")
+class JdbcUserRepositoryTest {
+  private static final int BATCH_SIZE = 50;
+
+  private HikariDataSource dataSource;
+  private JdbcUserRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    HikariConfig config = new HikariConfig();
+    config.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    config.setUsername("sa");
+    config.setMaximumPoolSize(4);
+    dataSource = new HikariDataSource(config);
+    repository = new JdbcUserRepository(dataSource, BATCH_SIZE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.close();
+  }
+
+  @Test
+  @DisplayName("저장한 사용자를 식별자와 사용자명으로 전체 필드까지 조회")
+  void should_FindFullUser_When_Saved() {
+    // given
+    User user = user(1L, "member");
+    repository.save(user);
+
+    // when & then
+    assertThat(repository.findByUsername(Username.of("member")))
+        .get()
+        .usingRecursiveComparison()
+        .isEqualTo(user);
+    assertThat(repository.findById(UserId.of(1L))).get().usingRecursiveComparison().isEqualTo(user);
+    assertThat(repository.existsByUsername(Username.of("member"))).isTrue();
+    assertThat(repository.existsById(2L)).isFalse();
+    assertThat(repository.findByUsername(Username.of("unknown"))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("역할 변경을 반영")
+  void should_UpdateRole_When_Updated() {
+    // given
+    User user = repository.save(user(1L, "member"));
+
+    // when
+    repository.update(user.grantAdminRole());
+
+    // then
+    assertThat(repository.findById(1L)).get().extracting(User::getRole).isEqualTo(Role.ADMIN);
+  }
+
+  @Test
+  @DisplayName("이전 버전으로 한 변경은 충돌로 거부")
+  void should_RejectStaleUpdate_When_VersionChanged() {
+    // given
+    User user = repository.save(user(1L, "member"));
+    repository.update(user.grantAdminRole());
+
+    // when & then
+    assertThatThrownBy(() -> repository.update(user.changeUsername("stale")))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .extracting("code")
+        .isEqualTo("USER_VERSION_CONFLICT");
+    assertThat(repository.findById(1L)).get().extracting(User::getVersion).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("배치 크기를 넘는 일괄 저장도 모두 저장")
+  void should_SaveAllUsers_When_SavedInBatches() {
+    // given
+    List<User> users =
+        LongStream.rangeClosed(1, BATCH_SIZE * 3 + 7)
+            .mapToObj(id -> user(id, "user" + id))
+            .toList();
+
+    // when
+    repository.saveAll(users);
+
+    // then
+    users.forEach(user -> assertThat(repository.existsById(user.getId())).isTrue());
+  }
+
+  @Test
+  @DisplayName("일괄 저장 중 사용자명이 중복되면 전체를 되돌림")
+  void should_RollbackAll_When_BatchContainsDuplicate() {
+    // given
+    List<User> users = List.of(user(1L, "member"), user(2L, "admin"), user(3L, "member"));
+
+    // when & then
+    assertThatThrownBy(() -> repository.saveAll(users))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .extracting("code")
+        .isEqualTo("USERNAME_ALREADY_TAKEN");
+    assertThat(repository.existsById(1L)).isFalse();
+    assertThat(repository.existsByUsername(Username.of("admin"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("SQLSTATE 23 을 일반 SQLException 으로 알리는 드라이버도 저장, 변경, 일괄 저장 모두 사용자명 충돌로 응답")
+  void should_ReportUsernameTaken_When_DriverSignalsViolationBySqlState() throws SQLException {
+    // given
+    SQLException duplicate = new SQLException("duplicate key value", "23505");
+    PreparedStatement statement = mock(PreparedStatement.class);
+    given(statement.executeUpdate()).willThrow(duplicate);
+    given(statement.executeBatch())
+        .willThrow(
+            new BatchUpdateException(
+                "batch", "23505", 0, new int[] {1, Statement.EXECUTE_FAILED}, duplicate));
+    Connection connection = mock(Connection.class);
+    given(connection.createStatement()).willReturn(mock(Statement.class));
+    given(connection.prepareStatement(anyString())).willReturn(statement);
+    DataSource driver = mock(DataSource.class);
+    given(driver.getConnection()).willReturn(connection);
+    JdbcUserRepository sqlStateOnly = new JdbcUserRepository(driver, BATCH_SIZE);
+
+    // when & then
+    assertThatThrownBy(() -> sqlStateOnly.save(user(1L, "member")))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .extracting("code")
+        .isEqualTo("USERNAME_ALREADY_TAKEN");
+    assertThatThrownBy(() -> sqlStateOnly.update(user(1L, "member")))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .extracting("code")
+        .isEqualTo("USERNAME_ALREADY_TAKEN");
+    assertThatThrownBy(() -> sqlStateOnly.saveAll(List.of(user(1L, "first"), user(2L, "second"))))
+        .isInstanceOf(UserConcurrentModificationException.class)
+        .hasMessageContaining("second");
+  }
+
+  @Test
+  @DisplayName("선점한 사용자명과 저장된 사용자명은 다른 식별자로 선점하거나 저장할 수 없음")
+  void should_RejectOthers_When_UsernameReservedOrSaved() {
+    // given
+    repository.save(user(1L, "member"));
+    Username reserved = Username.of("reserved");
+
+    // when & then
+    assertThat(repository.reserveUsername(Username.of("member"), UserId.of(2L))).isFalse();
+    assertThat(repository.reserveUsername(reserved, UserId.of(2L))).isTrue();
+    assertThat(repository.reserveUsername(reserved, UserId.of(3L))).isFalse();
+    assertThatThrownBy(() -> repository.save(user(3L, "reserved")))
+        .isInstanceOf(UserConcurrentModificationException.class);
+    assertThatThrownBy(() -> repository.save(user(4L, "member")))
+        .isInstanceOf(UserConcurrentModificationException.class);
+
+    repository.save(user(2L, "reserved"));
+    assertThat(repository.findByUsername(reserved))
+        .get()
+        .extracting(User::getId)
+        .isEqualTo(UserId.of(2L));
+  }
+}
@@ -0,0 +1,197 @@
+package com.auth.jwt.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.common.exception.ServiceUnavailableException;
+import com.auth.jwt.user.infrastructure.encryption.PasswordHashingExecutor;
+import com.auth.jwt.user.infrastructure.encryption.PasswordHashingExecutor.HashingStats;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[PasswordHashingExecutorTest] 비밀번호 해시 스레드 풀 테스트")
+class PasswordHashingExecutorTest {
+  private static final long RETRY_AFTER_SECONDS = 3;
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final ExecutorService callers = Executors.newFixedThreadPool(2);
+  private PasswordHashingExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    callers.shutdownNow();
+    executor.close();
+  }
+
+  @Test
+  @DisplayName("해시 스레드에서 실행한 결과를 돌려주고 대기 시간을 기록")
+  void should_ReturnResult_When_CapacityAvailable() {
+    // given
+    executor = new PasswordHashingExecutor(2, 4, 5_000, RETRY_AFTER_SECONDS);
+
+    // when
+    String thread = executor.execute(() -> Thread.currentThread().getName());
+
+    // then
+    assertThat(thread).startsWith("password-hashing-");
+    HashingStats stats = executor.stats();
+    assertThat(stats.started()).isEqualTo(1);
+    assertThat(stats.rejected()).isZero();
+    assertThat(stats.averageWaitMillis()).isGreaterThanOrEqualTo(0.0);
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 기다리지 않고 Retry-After 와 함께 거절")
+  void should_RejectImmediately_When_QueueFull() throws Exception {
+    // given
+    executor = new PasswordHashingExecutor(1, 1, 5_000, RETRY_AFTER_SECONDS);
+    CountDownLatch running = new CountDownLatch(1);
+    CompletableFuture<Boolean> blocker =
+        CompletableFuture.supplyAsync(() -> block(running), callers);
+    running.await(5, TimeUnit.SECONDS);
+    CompletableFuture<Boolean> queued =
+        CompletableFuture.supplyAsync(() -> block(null), callers);
+    awaitQueueDepth(1);
+
+    // when
+    long started = System.nanoTime();
+    Throwable thrown = catchThrowable(() -> executor.execute(() -> true));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+    // then
+    assertThat(thrown)
+        .isInstanceOf(ServiceUnavailableException.class)
+        .extracting("retryAfterSeconds")
+        .isEqualTo(RETRY_AFTER_SECONDS);
+    assertThat(elapsedMillis).isLessThan(1_000);
+    HashingStats stats = executor.stats();
+    assertThat(stats.rejected()).isEqualTo(1);
+    assertThat(stats.queueDepth()).isEqualTo(1);
+    assertThat(stats.active()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(blocker.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("대기열 길이, 거절 횟수, 대기 시간을 지표로 내보냄")
+  void should_PublishMetrics_When_BoundToRegistry() throws Exception {
+    // given
+    executor = new PasswordHashingExecutor(1, 1, 5_000, RETRY_AFTER_SECONDS);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    executor.bindTo(registry);
+    CountDownLatch running = new CountDownLatch(1);
+    CompletableFuture<Boolean> blocker =
+        CompletableFuture.supplyAsync(() -> block(running), callers);
+    running.await(5, TimeUnit.SECONDS);
+    CompletableFuture<Boolean> queued =
+        CompletableFuture.supplyAsync(() -> block(null), callers);
+    awaitQueueDepth(1);
+
+    // when
+    catchThrowable(() -> executor.execute(() -> true));
+
+    // then
+    assertThat(registry.get("password.hashing.queue.depth").gauge().value()).isEqualTo(1);
+    assertThat(registry.get("password.hashing.active").gauge().value()).isEqualTo(1);
+    assertThat(registry.get("password.hashing.rejected").functionCounter().count()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(blocker.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    FunctionTimer wait = registry.get("password.hashing.wait").functionTimer();
+    assertThat(wait.count()).isEqualTo(2);
+    assertThat(wait.totalTime(TimeUnit.NANOSECONDS))
+        .isEqualTo((double) executor.stats().totalWaitNanos());
+  }
+
+  @Test
+  @DisplayName("최대 대기 시간 안에 끝나지 않으면 거절하고 시간 초과로 기록")
+  void should_Reject_When_MaxWaitExceeded() throws Exception {
+    // given
+    executor = new PasswordHashingExecutor(1, 4, 100, RETRY_AFTER_SECONDS);
+    CountDownLatch running = new CountDownLatch(1);
+    CompletableFuture<Boolean> blocker =
+        CompletableFuture.supplyAsync(() -> block(running), callers);
+    running.await(5, TimeUnit.SECONDS);
+
+    // when & then
+    assertThatThrownBy(() -> executor.execute(() -> true))
+        .isInstanceOf(ServiceUnavailableException.class);
+    // 붙잡고 있던 작업도 100ms 를 넘겼으므로 같은 이유로 거절된다.
+    assertThatThrownBy(() -> blocker.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(ServiceUnavailableException.class);
+    assertThat(executor.stats().timedOut()).isEqualTo(2);
+
+    // 시간 초과된 작업은 대기열에서 빠져 실행되지 않는다.
+    release.countDown();
+    assertThat(executor.execute(() -> true)).isTrue();
+    assertThat(executor.stats().started()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("대기열에서 시간 초과된 작업은 대기열 자리를 바로 돌려줌")
+  void should_FreeQueueSlot_When_QueuedTaskTimesOut() throws Exception {
+    // given
+    executor = new PasswordHashingExecutor(1, 1, 100, RETRY_AFTER_SECONDS);
+    CountDownLatch running = new CountDownLatch(1);
+    CompletableFuture.runAsync(() -> catchThrowable(() -> block(running)), callers);
+    running.await(5, TimeUnit.SECONDS);
+
+    // when
+    Throwable thrown = catchThrowable(() -> executor.execute(() -> true));
+
+    // then
+    assertThat(thrown).isInstanceOf(ServiceUnavailableException.class);
+    assertThat(executor.stats().queueDepth()).isZero();
+    assertThat(executor.trySubmit(() -> {})).isTrue();
+  }
+
+  @Test
+  @DisplayName("작업이 던진 런타임 예외는 호출한 스레드에서 그대로 던짐")
+  void should_RethrowTaskException_When_TaskFails() {
+    // given
+    executor = new PasswordHashingExecutor(1, 1, 5_000, RETRY_AFTER_SECONDS);
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                executor.execute(
+                    () -> {
+                      throw new IllegalArgumentException("잘못된 해시");
+                    }))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("잘못된 해시");
+  }
+
+  private boolean block(CountDownLatch running) {
+    return executor.execute(
+        () -> {
+          if (running != null) {
+            running.countDown();
+          }
+          try {
+            return release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+          }
+        });
+  }
+
+  private void awaitQueueDepth(int depth) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (executor.stats().queueDepth() < depth && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+  }
+}
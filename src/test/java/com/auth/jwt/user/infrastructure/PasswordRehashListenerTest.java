@@ -0,0 +1,133 @@
+package com.auth.jwt.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.auth.jwt.user.application.UserCommandService;
+import com.auth.jwt.user.application.UserQueryService;
+import com.auth.jwt.user.application.event.PasswordRehashRequestedEvent;
+import com.auth.jwt.user.application.event.UserChangedEvent;
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.service.IdGenerator;
+import com.auth.jwt.user.domain.vo.Nickname;
+import com.auth.jwt.user.domain.vo.Password;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+import com.auth.jwt.user.infrastructure.encryption.DelegatingPasswordEncryptionAdapter;
+import com.auth.jwt.user.infrastructure.encryption.CalibratedBCryptPasswordEncoder;
+import com.auth.jwt.user.infrastructure.encryption.PasswordHashingExecutor;
+import com.auth.jwt.user.infrastructure.encryption.PasswordRehashListener;
+import com.auth.jwt.user.infrastructure.persistence.InMemoryUserRepository;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("[PasswordRehashListenerTest] 로그인 시 비밀번호 다시 해시하기 테스트")
+class PasswordRehashListenerTest {
+  private static final String RAW_PASSWORD = "password123";
+  private static final int CURRENT_STRENGTH = 5;
+
+  private final InMemoryUserRepository repository = new InMemoryUserRepository();
+  private final CalibratedBCryptPasswordEncoder encoder =
+      new CalibratedBCryptPasswordEncoder(CURRENT_STRENGTH);
+  private final PasswordHashingExecutor hashingExecutor =
+      new PasswordHashingExecutor(2, 16, 5_000, 1);
+  private final DelegatingPasswordEncryptionAdapter encryptionProvider =
+      new DelegatingPasswordEncryptionAdapter(encoder, hashingExecutor);
+  private final List<Object> events = new CopyOnWriteArrayList<>();
+
+  private final UserCommandService userCommandService =
+      new UserCommandService(
+          repository, mock(IdGenerator.class), encryptionProvider, this::publish);
+  private final UserQueryService userQueryService =
+      new UserQueryService(repository, encryptionProvider, this::publish);
+  private final PasswordRehashListener listener =
+      new PasswordRehashListener(encoder, hashingExecutor, userCommandService);
+
+  @AfterEach
+  void tearDown() {
+    hashingExecutor.close();
+  }
+
+  @Test
+  @DisplayName("다른 비용의 해시로 로그인하면 백그라운드에서 지금 비용으로 다시 해시")
+  void should_RehashInBackground_When_StoredStrengthDiffers() throws Exception {
+    // given
+    String oldHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+    repository.save(user(1L, oldHash));
+
+    // when
+    userQueryService.validateCredentials("user1", RAW_PASSWORD);
+
+    // then
+    awaitEvent(new UserChangedEvent(1L));
+    User rehashed = repository.findById(1L).orElseThrow();
+    assertThat(rehashed.getPassword().getValue()).startsWith("$2a$05$");
+    assertThat(rehashed.getVersion()).isEqualTo(1);
+    assertThat(encoder.matches(RAW_PASSWORD, rehashed.getPassword().getValue())).isTrue();
+    assertThat(events.get(0).toString()).doesNotContain(RAW_PASSWORD);
+
+    // 다시 로그인해도 더 해시하지 않는다.
+    userQueryService.validateCredentials("user1", RAW_PASSWORD);
+    assertThat(events).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("지금 비용의 해시면 다시 해시하지 않음")
+  void should_NotRehash_When_StoredStrengthMatches() {
+    // given
+    repository.save(user(1L, encoder.encode(RAW_PASSWORD)));
+
+    // when
+    userQueryService.validateCredentials("user1", RAW_PASSWORD);
+
+    // then
+    assertThat(events).isEmpty();
+    assertThat(repository.findById(1L).orElseThrow().getVersion()).isZero();
+  }
+
+  @Test
+  @DisplayName("그 사이 해시가 바뀌었으면 덮어쓰지 않음")
+  void should_SkipRehash_When_HashChangedMeanwhile() {
+    // given
+    String oldHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+    repository.save(user(1L, encoder.encode("changed123")));
+
+    // when
+    boolean rehashed = userCommandService.rehashPassword(1L, oldHash, encoder.encode(RAW_PASSWORD));
+
+    // then
+    assertThat(rehashed).isFalse();
+    assertThat(repository.findById(1L).orElseThrow().getVersion()).isZero();
+    assertThat(events).isEmpty();
+  }
+
+  private void publish(Object event) {
+    events.add(event);
+    if (event instanceof PasswordRehashRequestedEvent rehashRequested) {
+      listener.onPasswordRehashRequested(rehashRequested);
+    }
+  }
+
+  private void awaitEvent(Object event) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!events.contains(event) && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(events).contains(event);
+  }
+
+  private static User user(long id, String hash) {
+    return new User(
+        UserId.of(id),
+        Username.of("user" + id),
+        Password.ofEncrypted(hash),
+        Nickname.of("nick" + id),
+        Role.USER);
+  }
+}
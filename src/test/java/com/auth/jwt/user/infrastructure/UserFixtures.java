@@ -0,0 +1,23 @@
+package com.auth.jwt.user.infrastructure;
+
+import com.auth.jwt.user.domain.entity.Role;
+import com.auth.jwt.user.domain.entity.User;
+import com.auth.jwt.user.domain.vo.Nickname;
+import com.auth.jwt.user.domain.vo.Password;
+import com.auth.jwt.user.domain.vo.UserId;
+import com.auth.jwt.user.domain.vo.Username;
+
+/** 사용자 저장소 테스트가 함께 쓰는 사용자 픽스처. */
+final class UserFixtures {
+
+  private UserFixtures() {}
+
+  static User user(long id, String username) {
+    return new User(
+        UserId.of(id),
+        Username.of(username),
+        Password.ofEncrypted("$2a$10$encrypted-password-" + id),
+        Nickname.of("nick" + id),
+        Role.USER);
+  }
+}
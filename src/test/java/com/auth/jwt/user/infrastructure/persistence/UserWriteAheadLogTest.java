@@ -0,0 +1,201 @@
+package com.auth.jwt.user.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.auth.jwt.user.domain.entity.Role;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("[UserWriteAheadLogTest] 사용자 로그 그룹 커밋 테스트")
+class UserWriteAheadLogTest {
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("대표의 fsync 가 실패하면 같은 그룹 커밋을 기다리던 쓰기도 fsync 를 다시 하지 않고 실패")
+  void should_FailWaitingWriters_When_LeaderSyncFails() throws Exception {
+    // given
+    AtomicReference<FailingSyncChannel> channel = new AtomicReference<>();
+    UserWriteAheadLog log =
+        new UserWriteAheadLog(
+            directory,
+            0,
+            segment -> {
+              channel.set(new FailingSyncChannel(open(segment)));
+              return channel.get();
+            });
+    ExecutorService writers = Executors.newFixedThreadPool(2);
+    try {
+      Future<Long> leader = writers.submit(() -> log.append(row(1), ignored -> {}));
+      assertThat(channel.get().forcing.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<Long> follower = writers.submit(() -> log.append(row(2), ignored -> {}));
+      awaitWrites(channel.get(), 2);
+
+      // when
+      channel.get().release.countDown();
+
+      // then
+      assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(IllegalStateException.class);
+      assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(IllegalStateException.class);
+      assertThat(channel.get().forces.get()).isEqualTo(1);
+      assertThatThrownBy(() -> log.append(row(3), ignored -> {}))
+          .isInstanceOf(IllegalStateException.class);
+    } finally {
+      channel.get().release.countDown();
+      writers.shutdownNow();
+      log.close();
+    }
+  }
+
+  private static UserRow row(long id) {
+    return new UserRow(id, "user" + id, "encoded-password", "nick" + id, Role.USER, 0);
+  }
+
+  private static FileChannel open(Path segment) throws IOException {
+    return FileChannel.open(
+        segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  private static void awaitWrites(FailingSyncChannel channel, int writes)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (channel.writes.get() < writes && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+  }
+
+  // 첫 fsync 는 release 까지 붙잡았다가 실패하고, 그 뒤 fsync 는 쓰기 오류를 다시 알리지 않는 커널처럼 성공한다.
+  private static class FailingSyncChannel extends FileChannel {
+    private final FileChannel delegate;
+    private final CountDownLatch forcing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final AtomicInteger writes = new AtomicInteger();
+    private final AtomicInteger forces = new AtomicInteger();
+
+    FailingSyncChannel(FileChannel delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+      forces.incrementAndGet();
+      if (failed.compareAndSet(false, true)) {
+        forcing.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        throw new IOException("fsync 실패");
+      }
+      delegate.force(metaData);
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      int written = delegate.write(src);
+      writes.incrementAndGet();
+      return written;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return delegate.read(dst);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      return delegate.read(dsts, offset, length);
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+      return delegate.write(srcs, offset, length);
+    }
+
+    @Override
+    public long position() throws IOException {
+      return delegate.position();
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+      delegate.position(newPosition);
+      return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+      return delegate.size();
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+      delegate.truncate(size);
+      return this;
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target)
+        throws IOException {
+      return delegate.transferTo(position, count, target);
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count)
+        throws IOException {
+      return delegate.transferFrom(src, position, count);
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+      return delegate.read(dst, position);
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+      return delegate.write(src, position);
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+      return delegate.map(mode, position, size);
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+      return delegate.lock(position, size, shared);
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+      return delegate.tryLock(position, size, shared);
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+      delegate.close();
+    }
+  }
+}